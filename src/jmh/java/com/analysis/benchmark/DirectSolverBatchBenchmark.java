@@ -0,0 +1,70 @@
+package com.analysis.benchmark;
+
+import com.analysis.solver.TridiagonalFactorization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Plusieurs seconds membres pour une même matrice: boucle de résolutions
+// individuelles contre résolution groupée (séquentielle et parallèle)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DirectSolverBatchBenchmark {
+
+    @Param({"1000", "100000"})
+    int n;
+
+    @Param({"8", "64"})
+    int rightHandSides;
+
+    private TridiagonalFactorization factorization;
+    private double[][] rhs;
+    private double[][] solutions;
+
+    @Setup
+    public void setUp() {
+        factorization = TridiagonalFactorization.of(n);
+        rhs = new double[rightHandSides][n];
+        solutions = new double[rightHandSides][n];
+        for (int k = 0; k < rightHandSides; k++) {
+            for (int i = 0; i < n; i++) {
+                rhs[k][i] = Math.sin((k + 1) * (i + 1.0) / n);
+            }
+        }
+    }
+
+    @Benchmark
+    public double[][] individual() {
+        for (int k = 0; k < rightHandSides; k++) {
+            factorization.solve(rhs[k], solutions[k]);
+        }
+        return solutions;
+    }
+
+    @Benchmark
+    public double[][] batch() {
+        factorization.solveBatch(rhs, solutions);
+        return solutions;
+    }
+
+    @Benchmark
+    public double[][] batchParallel() {
+        factorization.solveBatch(rhs, solutions, ForkJoinPool.commonPool());
+        return solutions;
+    }
+}
@@ -0,0 +1,60 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.SolverWorkspace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DirectSolverBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    int n;
+
+    @Param({"THOMAS", "PARTITIONED"})
+    DirectSolver.Method method;
+
+    private DirectSolver solver;
+    private SolverWorkspace workspace;
+    private double[] output;
+
+    @Setup
+    public void setUp() {
+        // -u'' = 4π²sin(2πx), u(0) = u(1) = 0 (même problème que Main)
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        solver = new DirectSolver(n, f, new BoundaryConditions(0.0, 0.0), method);
+        workspace = new SolverWorkspace();
+        output = new double[n + 2];
+    }
+
+    @Benchmark
+    public Solution solve() {
+        return solver.solve();
+    }
+
+    // Chemin sans allocation: gc.alloc.rate.norm doit rester à ~0 B/op
+    @Benchmark
+    public double[] solveWithWorkspace() {
+        solver.solve(workspace, output);
+        return output;
+    }
+}
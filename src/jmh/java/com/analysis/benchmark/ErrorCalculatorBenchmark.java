@@ -0,0 +1,52 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.DirectSolver;
+import com.analysis.utils.ErrorCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorCalculatorBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    int n;
+
+    private Solution solution;
+    private MathFunction exactSolution;
+
+    @Setup
+    public void setUp() {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        exactSolution = x -> Math.sin(2 * Math.PI * x);
+        solution = new DirectSolver(n, f, new BoundaryConditions(0.0, 0.0)).solve();
+    }
+
+    @Benchmark
+    public double l2Error() {
+        return ErrorCalculator.calculateL2Error(solution, exactSolution);
+    }
+
+    @Benchmark
+    public double maxError() {
+        return ErrorCalculator.calculateMaxError(solution, exactSolution);
+    }
+}
@@ -0,0 +1,56 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction2D;
+import com.analysis.model.BoundaryConditions2D;
+import com.analysis.model.Solution2D;
+import com.analysis.solver.ConvergenceCriterion;
+import com.analysis.solver.GaussSeidelSolver2D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// 10 balayages SOR 2D (tolérance nulle): coût d'un balayage jusqu'à une grille 4096 x 4096.
+// Le résidu n'est contrôlé qu'au dernier balayage (intervalle de contrôle = 10).
+// La source est échantillonnée une fois par solveur, hors mesure.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class GaussSeidelSolver2DBenchmark {
+
+    @Param({"255", "1023", "4094"})
+    int n;
+
+    @Param({"POINT_RED_BLACK", "LINE_ZEBRA"})
+    GaussSeidelSolver2D.Relaxation relaxation;
+
+    private GaussSeidelSolver2D solver;
+
+    @Setup
+    public void setUp() {
+        MathFunction2D f = (x, y) -> 2 * Math.PI * Math.PI * Math.sin(Math.PI * x) * Math.sin(Math.PI * y);
+        double omega = 2 / (1 + Math.sin(Math.PI / (n + 1)));
+        solver = new GaussSeidelSolver2D(n, f, BoundaryConditions2D.constant(0.0),
+                                         ConvergenceCriterion.absolute(0.0, 10).withCheckInterval(10), omega,
+                                         relaxation, ForkJoinPool.commonPool());
+        solver.solve();
+    }
+
+    @Benchmark
+    public Solution2D tenSweeps() {
+        return solver.solve();
+    }
+}
@@ -0,0 +1,53 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.GaussSeidelSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Chaque solve() fait jusqu'à 10000 balayages: au-delà de n = 10^5 une seule
+// opération dure plusieurs minutes, d'où une plage de n plus courte qu'ailleurs
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GaussSeidelSolverBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    int n;
+
+    // 1.0 = Gauss-Seidel classique, sinon variante withSOR
+    @Param({"1.0", "1.5", "1.9"})
+    double omega;
+
+    private GaussSeidelSolver solver;
+
+    @Setup
+    public void setUp() {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        BoundaryConditions bc = new BoundaryConditions(0.0, 0.0);
+        solver = omega == 1.0
+                ? new GaussSeidelSolver(n, f, bc)
+                : GaussSeidelSolver.withSOR(n, f, bc, omega);
+    }
+
+    @Benchmark
+    public Solution solve() {
+        return solver.solve();
+    }
+}
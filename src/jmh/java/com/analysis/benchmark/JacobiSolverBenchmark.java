@@ -0,0 +1,86 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.ConvergenceCriterion;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.solver.IterativeSolver;
+import com.analysis.solver.JacobiSolver;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Temps de résolution (résidu divisé par 10^5) de SOR optimal, séquentiel par nature, face
+// à Jacobi-Tchebychev dont chaque balayage est réparti sur un pool de "threads" workers.
+// Jacobi ne découpe un balayage qu'au-delà de 2^14 points par bloc: le parallélisme ne
+// joue qu'à partir de n = 100000. Le compteur "sweeps" donne les balayages par résolution.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacobiSolverBenchmark {
+    private static final int MAX_SWEEPS = 1_000_000;
+
+    @Param({"1000", "10000", "100000"})
+    int n;
+
+    @Param({"SOR_OPTIMAL", "JACOBI_CHEBYSHEV"})
+    String solverType;
+
+    @Param({"1", "4"})
+    int threads;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Sweeps {
+        public long sweeps;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            sweeps = 0;
+        }
+    }
+
+    private ForkJoinPool pool;
+    private IterativeSolver solver;
+
+    @Setup
+    public void setUp() {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        BoundaryConditions bc = new BoundaryConditions(0.0, 1.0);
+        pool = new ForkJoinPool(threads);
+        solver = "SOR_OPTIMAL".equals(solverType)
+                ? GaussSeidelSolver.withOptimalSOR(n, f, bc)
+                : new JacobiSolver(n, f, bc, 0.0, MAX_SWEEPS, JacobiSolver.Acceleration.CHEBYSHEV, pool);
+        solver.setConvergenceCriterion(ConvergenceCriterion.relative(1e-5, MAX_SWEEPS));
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Solution solve(Sweeps counter) {
+        Solution solution = solver.solve();
+        counter.sweeps = solution.getIterations();
+        return solution;
+    }
+}
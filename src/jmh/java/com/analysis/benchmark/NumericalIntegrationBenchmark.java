@@ -0,0 +1,52 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction;
+import com.analysis.utils.NumericalIntegration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumericalIntegrationBenchmark {
+
+    // Nombre de sous-intervalles (pair pour Simpson)
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    int n;
+
+    private MathFunction f;
+
+    @Setup
+    public void setUp() {
+        f = x -> Math.sin(2 * Math.PI * x);
+    }
+
+    @Benchmark
+    public double trapezoidal() {
+        return NumericalIntegration.trapezoidalRule(f, 0.0, 1.0, n);
+    }
+
+    @Benchmark
+    public double simpson() {
+        return NumericalIntegration.simpsonRule(f, 0.0, 1.0, n);
+    }
+
+    @Benchmark
+    public double l2Norm() {
+        return NumericalIntegration.l2Norm(f, 0.0, 1.0, n);
+    }
+}
@@ -0,0 +1,75 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.ConvergenceCriterion;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.solver.GaussSeidelSolver.RelaxationStrategy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Nombre de balayages pour réduire le résidu d'un facteur 10^6 selon le choix de omega:
+// Gauss-Seidel (FIXED, omega = 1), omega fixe 1.9 (FIXED_1_9), optimum analytique et
+// estimation adaptative. Le compteur "sweeps" donne les balayages de la dernière résolution
+// (déterministe); Gauss-Seidel atteint le plafond MAX_SWEEPS dès n = 1000.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RelaxationFactorBenchmark {
+    private static final int MAX_SWEEPS = 100_000;
+
+    @Param({"100", "1000", "10000"})
+    int n;
+
+    @Param({"FIXED", "FIXED_1_9", "OPTIMAL", "ADAPTIVE"})
+    String strategy;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Sweeps {
+        public long sweeps;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            sweeps = 0;
+        }
+    }
+
+    private GaussSeidelSolver solver;
+
+    @Setup
+    public void setUp() {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        BoundaryConditions bc = new BoundaryConditions(0.0, 1.0);
+        solver = "FIXED_1_9".equals(strategy)
+                ? GaussSeidelSolver.withSOR(n, f, bc, 1.9)
+                : new GaussSeidelSolver(n, f, bc, 0.0, MAX_SWEEPS, RelaxationStrategy.valueOf(strategy),
+                                        GaussSeidelSolver.Ordering.LEXICOGRAPHIC, ForkJoinPool.commonPool());
+        solver.setConvergenceCriterion(ConvergenceCriterion.relative(1e-6, MAX_SWEEPS));
+    }
+
+    @Benchmark
+    public Solution solve(Sweeps counter) {
+        Solution solution = solver.solve();
+        counter.sweeps = solution.getIterations();
+        return solution;
+    }
+}
@@ -0,0 +1,95 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.solver.SampledSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Gauss-Seidel à nombre de balayages fixé (tolérance nulle): évaluation de f à chaque
+// balayage (ancien comportement, reproduit ici), échantillonnage unique par solveur,
+// et source partagée entre solveurs. Le compteur "evaluations" totalise les appels
+// à f sur l'itération de mesure (à rapporter au nombre d'opérations).
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SampledSourceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int n;
+
+    @Param({"1000"})
+    int sweeps;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Evaluations {
+        public long evaluations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            evaluations = 0;
+        }
+    }
+
+    private final BoundaryConditions bc = new BoundaryConditions(0.0, 0.0);
+    private Evaluations counter;
+    private MathFunction f;
+    private SampledSource shared;
+
+    @Setup
+    public void setUp() {
+        f = x -> {
+            if (counter != null) {
+                counter.evaluations++;
+            }
+            return 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        };
+        shared = SampledSource.of(n, f);
+    }
+
+    @Benchmark
+    public double[] resampledEachSweep(Evaluations evaluations) {
+        counter = evaluations;
+        double h = 1.0 / (n + 1);
+        double[] u = new double[n + 2];
+        for (int k = 0; k < sweeps; k++) {
+            for (int i = 1; i <= n; i++) {
+                u[i] = 0.5 * (u[i - 1] + u[i + 1] + h * h * f.apply(i * h));
+            }
+        }
+        return u;
+    }
+
+    @Benchmark
+    public Solution sampledOnce(Evaluations evaluations) {
+        counter = evaluations;
+        return new GaussSeidelSolver(n, f, bc, 0.0, sweeps, 1.0).solve();
+    }
+
+    @Benchmark
+    public Solution sharedSource(Evaluations evaluations) {
+        counter = evaluations;
+        GaussSeidelSolver solver = new GaussSeidelSolver(n, f, bc, 0.0, sweeps, 1.0);
+        solver.setSampledSource(shared);
+        return solver.solve();
+    }
+}
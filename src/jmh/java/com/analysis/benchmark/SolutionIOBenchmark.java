@@ -0,0 +1,104 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction;
+import com.analysis.io.SolutionReader;
+import com.analysis.io.SolutionWriter;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.DirectSolver;
+import com.analysis.utils.ErrorCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Export / import d'une solution: format binaire (canal NIO en écriture, projection
+// en lecture suivie d'un calcul d'erreur qui parcourt toutes les valeurs) contre un
+// CSV "x,u" écrit et relu ligne à ligne
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolutionIOBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int n;
+
+    private Solution solution;
+    private MathFunction exactSolution;
+    private Path directory;
+    private Path binaryFile;
+    private Path csvFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        exactSolution = x -> Math.sin(2 * Math.PI * x);
+        solution = new DirectSolver(n, f, new BoundaryConditions(0.0, 0.0)).solve();
+        directory = Files.createTempDirectory("solution-io");
+        binaryFile = directory.resolve("solution.fds");
+        csvFile = directory.resolve("solution.csv");
+        writeBinary();
+        writeCsv();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(binaryFile);
+        Files.deleteIfExists(csvFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Path writeBinary() throws IOException {
+        SolutionWriter.write(binaryFile, solution, "direct");
+        return binaryFile;
+    }
+
+    @Benchmark
+    public double readBinary() throws IOException {
+        return ErrorCalculator.calculateMaxError(SolutionReader.read(binaryFile), exactSolution);
+    }
+
+    @Benchmark
+    public Path writeCsv() throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile)) {
+            writer.write("x,u\n");
+            for (int i = 0; i < solution.size(); i++) {
+                writer.write(solution.getX(i) + "," + solution.getValue(i) + "\n");
+            }
+        }
+        return csvFile;
+    }
+
+    @Benchmark
+    public double readCsv() throws IOException {
+        double[] values = new double[n + 2];
+        try (BufferedReader reader = Files.newBufferedReader(csvFile)) {
+            reader.readLine();
+            String line;
+            for (int i = 0; (line = reader.readLine()) != null; i++) {
+                values[i] = Double.parseDouble(line.substring(line.indexOf(',') + 1));
+            }
+        }
+        return ErrorCalculator.calculateMaxError(Solution.ofUniformGrid(values, 1.0 / (n + 1), 1, 0.0),
+                                                 exactSolution);
+    }
+}
@@ -0,0 +1,46 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.SpectralPoissonSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpectralPoissonSolverBenchmark {
+
+    // 2^k - 1: FFT radix-2 directe, sinon Bluestein
+    @Param({"1023", "1000", "1048575", "1000000"})
+    int n;
+
+    private SpectralPoissonSolver solver;
+
+    @Setup
+    public void setUp() {
+        // -u'' = 4π²sin(2πx), u(0) = u(1) = 0 (même problème que Main)
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        solver = new SpectralPoissonSolver(n, f, new BoundaryConditions(0.0, 0.0));
+    }
+
+    @Benchmark
+    public Solution solve() {
+        return solver.solve();
+    }
+}
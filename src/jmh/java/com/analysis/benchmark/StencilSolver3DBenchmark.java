@@ -0,0 +1,55 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction3D;
+import com.analysis.model.Solution3D;
+import com.analysis.solver.ConvergenceCriterion;
+import com.analysis.solver.StencilSolver3D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// 4 itérations du lisseur 3D à 7 points (tolérance nulle); n = 510 donne une grille 512³
+// (trois tableaux de 1 Go pour Jacobi). Le débit mémoire par balayage est dans
+// Solution3D.getSweepStatistics(). Le résidu n'est contrôlé qu'à la dernière itération.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StencilSolver3DBenchmark {
+
+    @Param({"62", "126", "254", "510"})
+    int n;
+
+    @Param({"RED_BLACK", "JACOBI"})
+    StencilSolver3D.Smoother smoother;
+
+    private StencilSolver3D solver;
+
+    @Setup
+    public void setUp() {
+        MathFunction3D f = (x, y, z) ->
+                3 * Math.PI * Math.PI * Math.sin(Math.PI * x) * Math.sin(Math.PI * y) * Math.sin(Math.PI * z);
+        solver = new StencilSolver3D(n, f, MathFunction3D.constant(0.0),
+                                     ConvergenceCriterion.absolute(0.0, 4).withCheckInterval(4), 1.0, smoother,
+                                     ForkJoinPool.commonPool());
+        solver.solve();
+    }
+
+    @Benchmark
+    public Solution3D fourSweeps() {
+        return solver.solve();
+    }
+}
@@ -0,0 +1,92 @@
+package com.analysis.benchmark;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.ConvergenceCriterion;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.solver.IterativeSolver;
+import com.analysis.solver.NestedIterationSolver;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Balayage de paramètre: chaque appel résout -u'' = (1 + a) 4π² sin(2πx) avec a qui
+// alterne entre deux valeurs proches, par SOR au facteur optimal. COLD part de
+// l'interpolation linéaire des bords, WARM de la solution de l'appel précédent, NESTED
+// résout de la grille la plus grossière à la grille fine. Le compteur "sweeps" donne les
+// balayages de la grille fine lors du dernier appel.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WarmStartBenchmark {
+    private static final BoundaryConditions BC = new BoundaryConditions(0.0, 1.0);
+
+    @Param({"511", "2047"})
+    int n;
+
+    @Param({"COLD", "WARM", "NESTED"})
+    String start;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Sweeps {
+        public long sweeps;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            sweeps = 0;
+        }
+    }
+
+    private Solution previous;
+    private int call;
+
+    private static IterativeSolver createSolver(int n, MathFunction f, BoundaryConditions bc) {
+        GaussSeidelSolver solver = GaussSeidelSolver.withOptimalSOR(n, f, bc);
+        solver.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-6, 1_000_000));
+        return solver;
+    }
+
+    @Setup
+    public void setUp() {
+        previous = createSolver(n, source(0.0), BC).solve();
+    }
+
+    private static MathFunction source(double a) {
+        return x -> (1 + a) * 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+    }
+
+    @Benchmark
+    public Solution solve(Sweeps counter) {
+        MathFunction f = source((call++ & 1) == 0 ? 0.01 : 0.0);
+        Solution solution;
+        if ("NESTED".equals(start)) {
+            solution = new NestedIterationSolver(n, f, BC, WarmStartBenchmark::createSolver).solve();
+        } else {
+            IterativeSolver solver = createSolver(n, f, BC);
+            if ("WARM".equals(start)) {
+                solver.setInitialGuess(previous);
+            }
+            solution = solver.solve();
+        }
+        previous = solution;
+        counter.sweeps = solution.getIterations();
+        return solution;
+    }
+}
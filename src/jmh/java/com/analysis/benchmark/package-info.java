@@ -0,0 +1,4 @@
+/**
+ * Benchmarks JMH des solveurs et utilitaires (profil Maven {@code benchmark}).
+ */
+package com.analysis.benchmark;
@@ -5,7 +5,10 @@ import com.analysis.function.MathFunction;
 import com.analysis.model.BoundaryConditions;
 import com.analysis.model.Solution;
 import com.analysis.solver.DirectSolver;
+import com.analysis.solver.FiniteDifferenceSolver;
 import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.utils.ConvergenceReport;
+import com.analysis.utils.ConvergenceStudy;
 import com.analysis.utils.ErrorCalculator;
 
 public class Main {
@@ -44,35 +47,20 @@ public class Main {
     }
     
     private static void testConvergence(MathFunction f, MathFunction exactSolution, BoundaryConditions bc) {
-        int[] nValues = {10, 20, 40, 80, 160};
-        double[] errors = new double[nValues.length];
-        double[] meshSizes = new double[nValues.length];
+        // n + 1 doublé d'un niveau à l'autre: grilles emboîtées, extrapolation de Richardson possible
+        int[] nValues = {9, 19, 39, 79, 159};
         
-        System.out.println("n\th\tErreur L2\tOrdre");
-        System.out.println("----------------------------------------");
+        ConvergenceStudy study = new ConvergenceStudy(n -> new DirectSolver(n, f, bc), exactSolution);
+        ConvergenceReport report = study.run(nValues);
+        System.out.print(report);
         
-        for (int i = 0; i < nValues.length; i++) {
-            int n = nValues[i];
-            DirectSolver solver = new DirectSolver(n, f, bc);
-            Solution solution = solver.solve();
-            
-            double error = ErrorCalculator.calculateL2Error(solution, exactSolution);
-            double h = 1.0 / (n + 1);
-            
-            errors[i] = error;
-            meshSizes[i] = h;
-            
-            if (i > 0) {
-                double order = Math.log(errors[i] / errors[i-1]) / Math.log(meshSizes[i] / meshSizes[i-1]);
-                System.out.printf("%d\t%.4f\t%.2e\t%.2f\n", n, h, error, order);
-            } else {
-                System.out.printf("%d\t%.4f\t%.2e\t-\n", n, h, error);
-            }
-        }
-        
-        if (errors.length >= 2) {
-            double overallOrder = ErrorCalculator.calculateConvergenceOrder(errors, meshSizes);
-            System.out.printf("\nOrdre de convergence global: %.2f\n", overallOrder);
-        }
+        // Schéma compact d'ordre 4 (Numerov) sur les mêmes grilles, même solveur de Thomas
+        System.out.println("\n=== Schéma compact d'ordre 4 ===");
+        ConvergenceStudy compactStudy = new ConvergenceStudy(m -> {
+            DirectSolver solver = new DirectSolver(m, f, bc);
+            solver.setScheme(FiniteDifferenceSolver.Scheme.COMPACT_FOURTH_ORDER);
+            return solver;
+        }, exactSolution, 4);
+        System.out.print(compactStudy.run(nValues));
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.analysis.function;
+
+// exp; sur une grille uniforme exp(x + h) = exp(x) * exp(h), recalculé exactement
+// tous les ANCHOR_INTERVAL points pour borner l'erreur d'arrondi
+final class ExponentialFunction implements MathFunction {
+    private static final int ANCHOR_INTERVAL = 32;
+    
+    @Override
+    public double apply(double x) {
+        return Math.exp(x);
+    }
+    
+    @Override
+    public void applyAll(double[] x, double[] out) {
+        for (int i = 0; i < x.length; i++) {
+            out[i] = Math.exp(x[i]);
+        }
+    }
+    
+    @Override
+    public void sample(double x0, double h, int count, double[] out, int offset) {
+        double ratio = Math.exp(h);
+        for (int j = 0; j < count; j += ANCHOR_INTERVAL) {
+            double value = Math.exp(x0 + j * h);
+            int end = Math.min(count, j + ANCHOR_INTERVAL);
+            for (int i = j; i < end; i++) {
+                out[offset + i] = value;
+                value *= ratio;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -1,31 +1,107 @@
 package com.analysis.function;
 
+import java.util.Arrays;
+
 @FunctionalInterface
 public interface MathFunction {
     double apply(double x);
     
-    // Fonctions utilitaires
+    // Évaluation groupée: out[i] = f(x[i])
+    default void applyAll(double[] x, double[] out) {
+        for (int i = 0; i < x.length; i++) {
+            out[i] = apply(x[i]);
+        }
+    }
+    
+    // Évaluation sur une grille uniforme: out[i] = f(x0 + i * h), i = 0..count-1
+    default void sample(double x0, double h, int count, double[] out) {
+        sample(x0, h, count, out, 0);
+    }
+    
+    // Même chose en écrivant dans out[offset..offset + count - 1]
+    default void sample(double x0, double h, int count, double[] out, int offset) {
+        for (int i = 0; i < count; i++) {
+            out[offset + i] = apply(x0 + i * h);
+        }
+    }
+    
+    // Fonctions utilitaires (avec boucles d'évaluation groupée dédiées)
     static MathFunction constant(double c) {
-        return x -> c;
+        return new MathFunction() {
+            @Override
+            public double apply(double x) {
+                return c;
+            }
+            
+            @Override
+            public void applyAll(double[] x, double[] out) {
+                Arrays.fill(out, 0, x.length, c);
+            }
+            
+            @Override
+            public void sample(double x0, double h, int count, double[] out, int offset) {
+                Arrays.fill(out, offset, offset + count, c);
+            }
+        };
     }
     
     static MathFunction linear(double a, double b) {
-        return x -> a * x + b;
+        return new MathFunction() {
+            @Override
+            public double apply(double x) {
+                return a * x + b;
+            }
+            
+            @Override
+            public void applyAll(double[] x, double[] out) {
+                for (int i = 0; i < x.length; i++) {
+                    out[i] = a * x[i] + b;
+                }
+            }
+            
+            @Override
+            public void sample(double x0, double h, int count, double[] out, int offset) {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = a * (x0 + i * h) + b;
+                }
+            }
+        };
     }
     
     static MathFunction quadratic(double a, double b, double c) {
-        return x -> a * x * x + b * x + c;
+        return new MathFunction() {
+            @Override
+            public double apply(double x) {
+                return a * x * x + b * x + c;
+            }
+            
+            @Override
+            public void applyAll(double[] x, double[] out) {
+                for (int i = 0; i < x.length; i++) {
+                    double xi = x[i];
+                    out[i] = a * xi * xi + b * xi + c;
+                }
+            }
+            
+            @Override
+            public void sample(double x0, double h, int count, double[] out, int offset) {
+                for (int i = 0; i < count; i++) {
+                    double xi = x0 + i * h;
+                    out[offset + i] = a * xi * xi + b * xi + c;
+                }
+            }
+        };
     }
     
     static MathFunction sin() {
-        return Math::sin;
+        return new TrigonometricFunction(false);
     }
     
     static MathFunction cos() {
-        return Math::cos;
+        return new TrigonometricFunction(true);
     }
     
     static MathFunction exp() {
-        return Math::exp;
+        return new ExponentialFunction();
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.analysis.function;
+
+@FunctionalInterface
+public interface MathFunction2D {
+    double apply(double x, double y);
+    
+    // Évaluation sur une ligne de la grille: out[offset + i] = f(x0 + i * h, y), i = 0..count-1
+    default void sampleRow(double y, double x0, double h, int count, double[] out, int offset) {
+        for (int i = 0; i < count; i++) {
+            out[offset + i] = apply(x0 + i * h, y);
+        }
+    }
+    
+    // Fonctions utilitaires
+    static MathFunction2D constant(double c) {
+        return (x, y) -> c;
+    }
+    
+    // Produit f(x) g(y), fréquent pour les solutions exactes séparables
+    static MathFunction2D product(MathFunction fx, MathFunction gy) {
+        return new MathFunction2D() {
+            @Override
+            public double apply(double x, double y) {
+                return fx.apply(x) * gy.apply(y);
+            }
+            
+            @Override
+            public void sampleRow(double y, double x0, double h, int count, double[] out, int offset) {
+                fx.sample(x0, h, count, out, offset);
+                double g = gy.apply(y);
+                for (int i = offset; i < offset + count; i++) {
+                    out[i] *= g;
+                }
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.analysis.function;
+
+@FunctionalInterface
+public interface MathFunction3D {
+    double apply(double x, double y, double z);
+    
+    // Évaluation sur une ligne de la grille: out[offset + i] = f(x0 + i * h, y, z), i = 0..count-1
+    default void sampleRow(double y, double z, double x0, double h, int count, double[] out, int offset) {
+        for (int i = 0; i < count; i++) {
+            out[offset + i] = apply(x0 + i * h, y, z);
+        }
+    }
+    
+    static MathFunction3D constant(double c) {
+        return (x, y, z) -> c;
+    }
+}
\ No newline at end of file
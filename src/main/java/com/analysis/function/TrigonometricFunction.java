@@ -0,0 +1,49 @@
+package com.analysis.function;
+
+// sin ou cos; sur une grille uniforme, rotation (cos, sin) d'angle h entre deux points,
+// recalculée exactement tous les ANCHOR_INTERVAL points pour borner l'erreur d'arrondi
+final class TrigonometricFunction implements MathFunction {
+    private static final int ANCHOR_INTERVAL = 32;
+    
+    private final boolean cosine;
+    
+    TrigonometricFunction(boolean cosine) {
+        this.cosine = cosine;
+    }
+    
+    @Override
+    public double apply(double x) {
+        return cosine ? Math.cos(x) : Math.sin(x);
+    }
+    
+    @Override
+    public void applyAll(double[] x, double[] out) {
+        if (cosine) {
+            for (int i = 0; i < x.length; i++) {
+                out[i] = Math.cos(x[i]);
+            }
+        } else {
+            for (int i = 0; i < x.length; i++) {
+                out[i] = Math.sin(x[i]);
+            }
+        }
+    }
+    
+    @Override
+    public void sample(double x0, double h, int count, double[] out, int offset) {
+        double cosH = Math.cos(h);
+        double sinH = Math.sin(h);
+        for (int j = 0; j < count; j += ANCHOR_INTERVAL) {
+            double x = x0 + j * h;
+            double s = Math.sin(x);
+            double c = Math.cos(x);
+            int end = Math.min(count, j + ANCHOR_INTERVAL);
+            for (int i = j; i < end; i++) {
+                out[offset + i] = cosine ? c : s;
+                double next = s * cosH + c * sinH;
+                c = c * cosH - s * sinH;
+                s = next;
+            }
+        }
+    }
+}
\ No newline at end of file
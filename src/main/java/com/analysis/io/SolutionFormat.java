@@ -0,0 +1,64 @@
+package com.analysis.io;
+
+import com.analysis.model.BoundaryConditions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+// Format binaire d'une solution 1D, tout en petit-boutiste:
+//   0  int    magic "FDS1"          40 double résidu
+//   4  int    version               48 int    itérations
+//   8  long   n (points intérieurs) 52 int    réservé
+//   16 double h                     56 16 octets ASCII: identifiant du solveur
+//   24 double u(0)
+//   32 double u(1)
+// puis les n + 2 valeurs u_0..u_(n+1) en double (en-tête de 72 octets, multiple de 8).
+final class SolutionFormat {
+    static final int MAGIC = 0x31534446; // "FDS1" lu en petit-boutiste
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 72;
+    static final int SOLVER_ID_BYTES = 16;
+    
+    private SolutionFormat() {
+    }
+    
+    static ByteBuffer encode(SolutionHeader header) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(header.getN()).putDouble(header.getH())
+              .putDouble(header.getBoundaryConditions().getU0())
+              .putDouble(header.getBoundaryConditions().getU1())
+              .putDouble(header.getResidual()).putInt(header.getIterations()).putInt(0);
+        byte[] id = header.getSolverId().getBytes(StandardCharsets.US_ASCII);
+        buffer.put(id, 0, Math.min(id.length, SOLVER_ID_BYTES));
+        buffer.position(HEADER_BYTES);
+        buffer.flip();
+        return buffer;
+    }
+    
+    static SolutionHeader decode(ByteBuffer buffer) throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("Fichier de solution invalide");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Version de fichier de solution non prise en charge: " + version);
+        }
+        long n = buffer.getLong();
+        double h = buffer.getDouble();
+        BoundaryConditions bc = new BoundaryConditions(buffer.getDouble(), buffer.getDouble());
+        double residual = buffer.getDouble();
+        int iterations = buffer.getInt();
+        buffer.getInt();
+        byte[] id = new byte[SOLVER_ID_BYTES];
+        buffer.get(id);
+        int length = 0;
+        while (length < id.length && id[length] != 0) {
+            length++;
+        }
+        return new SolutionHeader(n, h, bc, iterations, residual,
+                                  new String(id, 0, length, StandardCharsets.US_ASCII));
+    }
+}
\ No newline at end of file
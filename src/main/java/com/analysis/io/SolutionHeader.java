@@ -0,0 +1,53 @@
+package com.analysis.io;
+
+import com.analysis.model.BoundaryConditions;
+
+// En-tête d'un fichier de solution: grille, conditions aux limites et diagnostics
+public final class SolutionHeader {
+    private final long n;
+    private final double h;
+    private final BoundaryConditions bc;
+    private final int iterations;
+    private final double residual;
+    private final String solverId;
+    
+    public SolutionHeader(long n, double h, BoundaryConditions bc, int iterations, double residual, String solverId) {
+        this.n = n;
+        this.h = h;
+        this.bc = bc;
+        this.iterations = iterations;
+        this.residual = residual;
+        this.solverId = solverId;
+    }
+    
+    // Nombre de points intérieurs (le fichier contient n + 2 valeurs)
+    public long getN() {
+        return n;
+    }
+    
+    public double getH() {
+        return h;
+    }
+    
+    public BoundaryConditions getBoundaryConditions() {
+        return bc;
+    }
+    
+    public int getIterations() {
+        return iterations;
+    }
+    
+    public double getResidual() {
+        return residual;
+    }
+    
+    public String getSolverId() {
+        return solverId;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("SolutionHeader[n=%d, h=%.3e, %s, iterations=%d, residual=%.2e, solver=%s]",
+                             n, h, bc, iterations, residual, solverId);
+    }
+}
\ No newline at end of file
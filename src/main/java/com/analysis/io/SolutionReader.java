@@ -0,0 +1,48 @@
+package com.analysis.io;
+
+import com.analysis.model.Solution;
+import com.analysis.storage.DoubleStorage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Lecture d'un fichier SolutionFormat. read() projette les valeurs en mémoire sans les
+// copier: la Solution renvoyée lit directement le fichier (la projection reste valide
+// après fermeture du canal, jusqu'au ramassage de la Solution).
+public final class SolutionReader {
+    private SolutionReader() {
+    }
+    
+    public static SolutionHeader readHeader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readHeader(channel);
+        }
+    }
+    
+    public static Solution read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            SolutionHeader header = readHeader(channel);
+            long count = header.getN() + 2;
+            if (channel.size() < SolutionFormat.HEADER_BYTES + count * Double.BYTES) {
+                throw new IOException("Fichier de solution tronqué");
+            }
+            DoubleStorage values = DoubleStorage.mapped(channel, SolutionFormat.HEADER_BYTES, count,
+                                                        FileChannel.MapMode.READ_ONLY);
+            return Solution.ofStorage(values, header.getH(), header.getIterations(), header.getResidual());
+        }
+    }
+    
+    private static SolutionHeader readHeader(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SolutionFormat.HEADER_BYTES);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return SolutionFormat.decode(buffer);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.analysis.io;
+
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.storage.DoubleStorage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Écriture en flux d'une solution au format SolutionFormat par un FileChannel.
+// Les valeurs peuvent arriver par blocs pendant la résolution (append, ou write à une
+// position donnée pour un solveur qui produit ses valeurs dans le désordre); l'en-tête
+// est écrit à l'ouverture puis complété par finish() avec les itérations et le résidu.
+// Chaque indice est écrit une seule fois: une écriture qui recouvre des valeurs déjà
+// écrites est refusée, et finish() vérifie que les plages écrites couvrent [0, n + 1].
+public final class SolutionWriter implements AutoCloseable {
+    private static final int BUFFER_VALUES = 1 << 13;
+    
+    private final FileChannel channel;
+    private final long n;
+    private final double h;
+    private final BoundaryConditions bc;
+    private final String solverId;
+    private final ByteBuffer buffer;
+    private final DoubleBuffer doubles;
+    private long position; // indice de la prochaine valeur écrite par append
+    // Plages écrites, disjointes et fusionnées quand elles se touchent: début -> fin (exclue)
+    private final TreeMap<Long, Long> ranges = new TreeMap<>();
+    private boolean finished;
+    
+    public SolutionWriter(Path file, long n, double h, BoundaryConditions bc, String solverId) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                        StandardOpenOption.TRUNCATE_EXISTING);
+        this.n = n;
+        this.h = h;
+        this.bc = bc;
+        this.solverId = solverId;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_VALUES * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.doubles = buffer.asDoubleBuffer();
+        writeHeader(-1, Double.NaN);
+    }
+    
+    // Écrit values[offset..offset + length - 1] à la suite des valeurs déjà écrites
+    public void append(double[] values, int offset, int length) throws IOException {
+        write(position, values, offset, length);
+        position += length;
+    }
+    
+    // Écrit values[offset..] à partir de l'indice index (0 = u_0)
+    public void write(long index, double[] values, int offset, int length) throws IOException {
+        if (index < 0 || index + length > n + 2) {
+            throw new IndexOutOfBoundsException("Indices hors de [0, n + 1]");
+        }
+        if (length > 0) {
+            markWritten(index, index + length);
+        }
+        long filePosition = SolutionFormat.HEADER_BYTES + index * Double.BYTES;
+        while (length > 0) {
+            int count = Math.min(length, BUFFER_VALUES);
+            doubles.clear();
+            doubles.put(values, offset, count);
+            buffer.clear().limit(count * Double.BYTES);
+            while (buffer.hasRemaining()) {
+                filePosition += channel.write(buffer, filePosition);
+            }
+            offset += count;
+            length -= count;
+        }
+    }
+    
+    private void markWritten(long from, long to) {
+        Map.Entry<Long, Long> before = ranges.floorEntry(from);
+        Map.Entry<Long, Long> after = ranges.ceilingEntry(from);
+        if ((before != null && before.getValue() > from) || (after != null && after.getKey() < to)) {
+            throw new IllegalStateException("Valeurs déjà écrites entre les indices " + from + " et " + (to - 1));
+        }
+        if (before != null && before.getValue() == from) {
+            from = before.getKey();
+            ranges.remove(from);
+        }
+        if (after != null && after.getKey() == to) {
+            to = after.getValue();
+            ranges.remove(after.getKey());
+        }
+        ranges.put(from, to);
+    }
+    
+    // Recopie tout un stockage de n + 2 valeurs
+    public void append(DoubleStorage values) throws IOException {
+        double[] chunk = new double[BUFFER_VALUES];
+        for (long start = 0; start < values.size(); start += BUFFER_VALUES) {
+            int count = (int) Math.min(BUFFER_VALUES, values.size() - start);
+            values.get(start, chunk, 0, count);
+            append(chunk, 0, count);
+        }
+    }
+    
+    // Complète l'en-tête; le fichier doit alors contenir ses n + 2 valeurs
+    public void finish(int iterations, double residual) throws IOException {
+        if (ranges.size() != 1 || ranges.firstKey() != 0 || ranges.firstEntry().getValue() != n + 2) {
+            throw new IllegalStateException("Le fichier ne contient pas les n + 2 valeurs attendues");
+        }
+        writeHeader(iterations, residual);
+        finished = true;
+    }
+    
+    private void writeHeader(int iterations, double residual) throws IOException {
+        ByteBuffer header = SolutionFormat.encode(new SolutionHeader(n, h, bc, iterations, residual, solverId));
+        long filePosition = 0;
+        while (header.hasRemaining()) {
+            filePosition += channel.write(header, filePosition);
+        }
+    }
+    
+    public long getN() {
+        return n;
+    }
+    
+    public double getStep() {
+        return h;
+    }
+    
+    public BoundaryConditions getBoundaryConditions() {
+        return bc;
+    }
+    
+    public boolean isFinished() {
+        return finished;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    // Écrit en une fois une solution sur grille uniforme (u_0 et u_(n+1) donnent les conditions aux limites);
+    // le format ne range que le pas h: une grille non uniforme est refusée
+    public static void write(Path file, Solution solution, String solverId) throws IOException {
+        if (!solution.isUniformGrid()) {
+            throw new IllegalArgumentException("Seules les solutions sur grille uniforme peuvent être écrites");
+        }
+        long n = solution.length() - 2;
+        DoubleStorage values = solution.getStorage();
+        BoundaryConditions bc = new BoundaryConditions(values.get(0), values.get(n + 1));
+        try (SolutionWriter writer = new SolutionWriter(file, n, solution.getStep(), bc, solverId)) {
+            writer.append(values);
+            writer.finish(solution.getIterations(), solution.getResidual());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1 @@
+package com.analysis.io;
\ No newline at end of file
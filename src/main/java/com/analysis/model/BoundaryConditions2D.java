@@ -0,0 +1,41 @@
+package com.analysis.model;
+
+import com.analysis.function.MathFunction;
+
+// Conditions de Dirichlet sur les quatre côtés du carré unité:
+// bas u(x, 0), haut u(x, 1), gauche u(0, y), droite u(1, y)
+public class BoundaryConditions2D {
+    private final MathFunction bottom;
+    private final MathFunction top;
+    private final MathFunction left;
+    private final MathFunction right;
+    
+    public BoundaryConditions2D(MathFunction bottom, MathFunction top, MathFunction left, MathFunction right) {
+        this.bottom = bottom;
+        this.top = top;
+        this.left = left;
+        this.right = right;
+    }
+    
+    // Même valeur constante sur tout le bord
+    public static BoundaryConditions2D constant(double value) {
+        MathFunction c = MathFunction.constant(value);
+        return new BoundaryConditions2D(c, c, c, c);
+    }
+    
+    public MathFunction getBottom() {
+        return bottom;
+    }
+    
+    public MathFunction getTop() {
+        return top;
+    }
+    
+    public MathFunction getLeft() {
+        return left;
+    }
+    
+    public MathFunction getRight() {
+        return right;
+    }
+}
\ No newline at end of file
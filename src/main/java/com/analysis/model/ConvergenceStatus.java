@@ -0,0 +1,9 @@
+package com.analysis.model;
+
+// Raison de l'arrêt d'un solveur itératif
+public enum ConvergenceStatus {
+    CONVERGED,      // résidu sous la tolérance demandée
+    MAX_ITERATIONS, // nombre maximal d'itérations atteint
+    STAGNATED,      // le résidu ne diminue plus (précision machine ou lissage insuffisant)
+    DIVERGED        // résidu en croissance ou non fini
+}
\ No newline at end of file
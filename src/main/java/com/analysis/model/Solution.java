@@ -1,26 +1,122 @@
 package com.analysis.model;
 
+import com.analysis.storage.DoubleStorage;
+
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
+import java.util.List;
 
 public class Solution {
-    private final double[] values;
-    private final double[] xPoints;
+    private final double[] values;  // null si les valeurs sont dans un DoubleStorage
+    private final DoubleStorage storage;
+    private final double[] xPoints; // null pour une grille uniforme (x calculé à la demande)
+    private final double step;
     private final int iterations;
     private final double residual;
+    private final SolverMetrics metrics; // null si les mesures n'étaient pas activées
+    private final ConvergenceStatus status; // null pour un solveur direct
+    private final double relaxationFactor; // NaN sans relaxation
     
     public Solution(double[] values, double[] xPoints, int iterations, double residual) {
-        this.values = Arrays.copyOf(values, values.length);
-        this.xPoints = Arrays.copyOf(xPoints, xPoints.length);
+        this(Arrays.copyOf(values, values.length), null, Arrays.copyOf(xPoints, xPoints.length),
+             Double.NaN, iterations, residual, null, null, Double.NaN);
+    }
+    
+    private Solution(double[] values, DoubleStorage storage, double[] xPoints, double step,
+                     int iterations, double residual, SolverMetrics metrics, ConvergenceStatus status,
+                     double relaxationFactor) {
+        this.values = values;
+        this.storage = storage;
+        this.xPoints = xPoints;
+        this.step = step;
         this.iterations = iterations;
         this.residual = residual;
+        this.metrics = metrics;
+        this.status = status;
+        this.relaxationFactor = relaxationFactor;
+    }
+    
+    // Solution sur la grille uniforme x_i = i h: le tableau values est repris tel quel,
+    // sans copie (l'appelant ne doit plus le modifier) et x n'est pas stocké
+    public static Solution ofUniformGrid(double[] values, double h, int iterations, double residual) {
+        return new Solution(values, null, null, h, iterations, residual, null, null, Double.NaN);
+    }
+    
+    // Même chose pour des valeurs hors tas ou projetées depuis un fichier (non copiées)
+    public static Solution ofStorage(DoubleStorage values, double h, int iterations, double residual) {
+        return new Solution(null, values, null, h, iterations, residual, null, null, Double.NaN);
+    }
+    
+    // Même solution (valeurs partagées, sans copie) avec les mesures de la résolution
+    public Solution withMetrics(SolverMetrics metrics) {
+        return new Solution(values, storage, xPoints, step, iterations, residual, metrics, status,
+                            relaxationFactor);
+    }
+    
+    // Même solution avec la raison de l'arrêt du solveur itératif
+    public Solution withStatus(ConvergenceStatus status) {
+        return new Solution(values, storage, xPoints, step, iterations, residual, metrics, status,
+                            relaxationFactor);
+    }
+    
+    // Même solution avec le facteur de relaxation utilisé (choisi automatiquement ou non)
+    public Solution withRelaxationFactor(double relaxationFactor) {
+        return new Solution(values, storage, xPoints, step, iterations, residual, metrics, status,
+                            relaxationFactor);
     }
     
     public double[] getValues() {
+        if (values == null) {
+            double[] copy = new double[size()];
+            storage.get(0, copy, 0, copy.length);
+            return copy;
+        }
         return Arrays.copyOf(values, values.length);
     }
     
     public double[] getXPoints() {
-        return Arrays.copyOf(xPoints, xPoints.length);
+        if (xPoints != null) {
+            return Arrays.copyOf(xPoints, xPoints.length);
+        }
+        double[] x = new double[size()];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i * step;
+        }
+        return x;
+    }
+    
+    // Vue en lecture seule sur les valeurs, sans copie; un stockage de plus d'un segment
+    // (au-delà de 2^27 valeurs) n'a pas de vue unique: utiliser valuesSegments()
+    public DoubleBuffer valuesView() {
+        return values == null ? storage.asReadOnlyBuffer() : DoubleBuffer.wrap(values).asReadOnlyBuffer();
+    }
+    
+    // Vues en lecture seule sur des tranches consécutives des valeurs, sans copie, pour
+    // toutes les tailles (une seule vue pour un tableau sur le tas)
+    public List<DoubleBuffer> valuesSegments() {
+        return values == null ? storage.asReadOnlySegments() : List.of(DoubleBuffer.wrap(values).asReadOnlyBuffer());
+    }
+    
+    // Valeurs sous forme de stockage à indices longs (sans copie, ne pas modifier)
+    public DoubleStorage getStorage() {
+        return values == null ? storage : DoubleStorage.wrap(values);
+    }
+    
+    public boolean isStorageBacked() {
+        return values == null;
+    }
+    
+    public double getX(int index) {
+        return xPoints != null ? xPoints[index] : index * step;
+    }
+    
+    public boolean isUniformGrid() {
+        return xPoints == null;
+    }
+    
+    // Pas de la grille uniforme (NaN si les abscisses sont données explicitement)
+    public double getStep() {
+        return step;
     }
     
     public int getIterations() {
@@ -31,17 +127,77 @@ public class Solution {
         return residual;
     }
     
+    public SolverMetrics getMetrics() {
+        return metrics;
+    }
+    
+    public ConvergenceStatus getStatus() {
+        return status;
+    }
+    
+    public double getRelaxationFactor() {
+        return relaxationFactor;
+    }
+    
     public double getValue(int index) {
-        return values[index];
+        return values != null ? values[index] : storage.get(index);
+    }
+    
+    // Interpolation cubique (Lagrange sur les quatre nœuds encadrant x, décalés aux bords;
+    // linéaire si la grille n'a que deux nœuds), valeur du bord le plus proche hors de la
+    // grille. Sert à reporter une solution sur une autre grille: contrairement à
+    // l'interpolation linéaire, elle préserve la dérivée seconde discrète, donc un résidu
+    // petit sur la grille d'arrivée.
+    public double interpolate(double x) {
+        long last = length() - 1;
+        if (last == 0 || x <= position(0)) {
+            return valueAt(0);
+        }
+        if (x >= position(last)) {
+            return valueAt(last);
+        }
+        long j;
+        if (xPoints == null) {
+            j = Math.min((long) (x / step), last - 1);
+        } else {
+            int k = Arrays.binarySearch(xPoints, x);
+            j = k >= 0 ? k : -k - 2;
+        }
+        long first = Math.max(0, Math.min(j - 1, last - 3));
+        long end = Math.min(last, first + 3);
+        double result = 0.0;
+        for (long a = first; a <= end; a++) {
+            double weight = 1.0;
+            for (long b = first; b <= end; b++) {
+                if (b != a) {
+                    weight *= (x - position(b)) / (position(a) - position(b));
+                }
+            }
+            result += weight * valueAt(a);
+        }
+        return result;
+    }
+    
+    private double position(long index) {
+        return xPoints != null ? xPoints[(int) index] : index * step;
+    }
+    
+    private double valueAt(long index) {
+        return values != null ? values[(int) index] : storage.get(index);
     }
     
     public int size() {
-        return values.length;
+        return values != null ? values.length : Math.toIntExact(storage.size());
+    }
+    
+    // Nombre de valeurs, y compris au-delà de Integer.MAX_VALUE pour un DoubleStorage
+    public long length() {
+        return values != null ? values.length : storage.size();
     }
     
     @Override
     public String toString() {
         return String.format("Solution[size=%d, iterations=%d, residual=%.2e]", 
-                           values.length, iterations, residual);
+                           length(), iterations, residual);
     }
 }
\ No newline at end of file
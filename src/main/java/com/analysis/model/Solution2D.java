@@ -0,0 +1,87 @@
+package com.analysis.model;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+// Solution sur la grille (n + 2) x (n + 2) du carré unité, bords compris, rangée
+// ligne par ligne: u(x_i, y_j) est à l'indice j * (n + 2) + i, avec x_i = i h, y_j = j h
+public class Solution2D {
+    private final double[] values;
+    private final int n;
+    private final double h;
+    private final int iterations;
+    private final double residual;
+    private final ConvergenceStatus status; // null tant qu'aucun critère n'a été appliqué
+    
+    private Solution2D(double[] values, int n, double h, int iterations, double residual,
+                       ConvergenceStatus status) {
+        this.values = values;
+        this.n = n;
+        this.h = h;
+        this.iterations = iterations;
+        this.residual = residual;
+        this.status = status;
+    }
+    
+    // Reprend values sans copie (l'appelant ne doit plus le modifier)
+    public static Solution2D ofUniformGrid(double[] values, int n, int iterations, double residual) {
+        if (values.length != (long) (n + 2) * (n + 2)) {
+            throw new IllegalArgumentException("La grille doit contenir (n + 2)² valeurs");
+        }
+        return new Solution2D(values, n, 1.0 / (n + 1), iterations, residual, null);
+    }
+    
+    // Copie avec la raison de l'arrêt d'un solveur itératif
+    public Solution2D withStatus(ConvergenceStatus status) {
+        return new Solution2D(values, n, h, iterations, residual, status);
+    }
+    
+    public double[] getValues() {
+        return Arrays.copyOf(values, values.length);
+    }
+    
+    // Vue en lecture seule sur les valeurs, sans copie
+    public DoubleBuffer valuesView() {
+        return DoubleBuffer.wrap(values).asReadOnlyBuffer();
+    }
+    
+    public double getValue(int i, int j) {
+        return values[j * (n + 2) + i];
+    }
+    
+    public double getX(int i) {
+        return i * h;
+    }
+    
+    public double getY(int j) {
+        return j * h;
+    }
+    
+    // Nombre de points intérieurs par direction
+    public int getN() {
+        return n;
+    }
+    
+    public double getStep() {
+        return h;
+    }
+    
+    public int getIterations() {
+        return iterations;
+    }
+    
+    public double getResidual() {
+        return residual;
+    }
+    
+    // Raison de l'arrêt (null sans critère de convergence)
+    public ConvergenceStatus getStatus() {
+        return status;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Solution2D[size=%dx%d, iterations=%d, residual=%.2e]",
+                             n + 2, n + 2, iterations, residual);
+    }
+}
\ No newline at end of file
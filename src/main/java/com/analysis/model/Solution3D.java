@@ -0,0 +1,97 @@
+package com.analysis.model;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+// Solution sur la grille (n + 2)³ du cube unité, bords compris, rangée plan par plan puis
+// ligne par ligne: u(x_i, y_j, z_k) est à l'indice (k * (n + 2) + j) * (n + 2) + i
+public class Solution3D {
+    private final double[] values;
+    private final int n;
+    private final double h;
+    private final int iterations;
+    private final double residual;
+    private final ConvergenceStatus status; // null tant qu'aucun critère n'a été appliqué
+    private final SweepStatistics statistics;
+    
+    private Solution3D(double[] values, int n, int iterations, double residual, SweepStatistics statistics,
+                       ConvergenceStatus status) {
+        this.values = values;
+        this.n = n;
+        this.h = 1.0 / (n + 1);
+        this.iterations = iterations;
+        this.residual = residual;
+        this.statistics = statistics;
+        this.status = status;
+    }
+    
+    // Reprend values sans copie (l'appelant ne doit plus le modifier)
+    public static Solution3D ofUniformGrid(double[] values, int n, int iterations, double residual,
+                                           SweepStatistics statistics) {
+        if (values.length != (long) (n + 2) * (n + 2) * (n + 2)) {
+            throw new IllegalArgumentException("La grille doit contenir (n + 2)³ valeurs");
+        }
+        return new Solution3D(values, n, iterations, residual, statistics, null);
+    }
+    
+    // Copie avec la raison de l'arrêt d'un solveur itératif
+    public Solution3D withStatus(ConvergenceStatus status) {
+        return new Solution3D(values, n, iterations, residual, statistics, status);
+    }
+    
+    public double[] getValues() {
+        return Arrays.copyOf(values, values.length);
+    }
+    
+    // Vue en lecture seule sur les valeurs, sans copie
+    public DoubleBuffer valuesView() {
+        return DoubleBuffer.wrap(values).asReadOnlyBuffer();
+    }
+    
+    public double getValue(int i, int j, int k) {
+        return values[(k * (n + 2) + j) * (n + 2) + i];
+    }
+    
+    public double getX(int i) {
+        return i * h;
+    }
+    
+    public double getY(int j) {
+        return j * h;
+    }
+    
+    public double getZ(int k) {
+        return k * h;
+    }
+    
+    public int getN() {
+        return n;
+    }
+    
+    public double getStep() {
+        return h;
+    }
+    
+    public int getIterations() {
+        return iterations;
+    }
+    
+    public double getResidual() {
+        return residual;
+    }
+    
+    // Raison de l'arrêt (null sans critère de convergence)
+    public ConvergenceStatus getStatus() {
+        return status;
+    }
+    
+    public SweepStatistics getSweepStatistics() {
+        return statistics;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Solution3D[size=%d³, iterations=%d, residual=%.2e]",
+                             n + 2, iterations, residual);
+    }
+}
\ No newline at end of file
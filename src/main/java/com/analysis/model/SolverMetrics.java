@@ -0,0 +1,71 @@
+package com.analysis.model;
+
+import java.util.Arrays;
+
+// Mesures d'une résolution: durées par phase, nombre de balayages (ou cycles), nombre
+// d'évaluations de f et octets alloués par le thread appelant (-1 si la JVM ne le mesure pas).
+// Immuable; plus() cumule les mesures de plusieurs résolutions.
+public final class SolverMetrics {
+    
+    public enum Phase {
+        ASSEMBLY, // échantillonnage de f et second membre
+        SOLVE,    // factorisation, balayages, cycles
+        RESIDUAL, // calcul du résidu
+        OUTPUT    // construction de la Solution
+    }
+    
+    private final long[] phaseNanos;
+    private final long totalNanos;
+    private final long sweeps;
+    private final long functionEvaluations;
+    private final long allocatedBytes;
+    
+    public SolverMetrics(long[] phaseNanos, long totalNanos, long sweeps, long functionEvaluations,
+                         long allocatedBytes) {
+        if (phaseNanos.length != Phase.values().length) {
+            throw new IllegalArgumentException("Une durée par phase est attendue");
+        }
+        this.phaseNanos = phaseNanos.clone();
+        this.totalNanos = totalNanos;
+        this.sweeps = sweeps;
+        this.functionEvaluations = functionEvaluations;
+        this.allocatedBytes = allocatedBytes;
+    }
+    
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+    
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+    
+    public long getSweeps() {
+        return sweeps;
+    }
+    
+    public long getFunctionEvaluations() {
+        return functionEvaluations;
+    }
+    
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+    
+    public SolverMetrics plus(SolverMetrics other) {
+        long[] phases = new long[phaseNanos.length];
+        for (int p = 0; p < phases.length; p++) {
+            phases[p] = phaseNanos[p] + other.phaseNanos[p];
+        }
+        long allocated = allocatedBytes < 0 || other.allocatedBytes < 0 ? -1 : allocatedBytes + other.allocatedBytes;
+        return new SolverMetrics(phases, totalNanos + other.totalNanos, sweeps + other.sweeps,
+                                 functionEvaluations + other.functionEvaluations, allocated);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("SolverMetrics[total=%.3f ms, phases(ns)=%s, sweeps=%d, evaluations=%d, allocated=%d B]",
+                             totalNanos / 1e6, Arrays.toString(phaseNanos), sweeps, functionEvaluations,
+                             allocatedBytes);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.analysis.model;
+
+// Temps passé dans les balayages d'un solveur itératif et débit mémoire correspondant,
+// calculé à partir du trafic minimal estimé d'un balayage (valeurs lues et écrites une fois)
+public final class SweepStatistics {
+    private final int sweeps;
+    private final long elapsedNanos;
+    private final long bytesPerSweep;
+    
+    public SweepStatistics(int sweeps, long elapsedNanos, long bytesPerSweep) {
+        this.sweeps = sweeps;
+        this.elapsedNanos = elapsedNanos;
+        this.bytesPerSweep = bytesPerSweep;
+    }
+    
+    public int getSweeps() {
+        return sweeps;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    public long getBytesPerSweep() {
+        return bytesPerSweep;
+    }
+    
+    public double getNanosPerSweep() {
+        return sweeps == 0 ? 0.0 : (double) elapsedNanos / sweeps;
+    }
+    
+    // Débit effectif en Go/s (octets par nanoseconde)
+    public double getBandwidth() {
+        return elapsedNanos == 0 ? 0.0 : (double) bytesPerSweep * sweeps / elapsedNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("SweepStatistics[sweeps=%d, %.3f ms/sweep, %.2f GB/s]",
+                             sweeps, getNanosPerSweep() / 1e6, getBandwidth());
+    }
+}
\ No newline at end of file
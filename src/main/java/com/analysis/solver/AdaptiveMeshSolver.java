@@ -0,0 +1,140 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+
+import java.util.Arrays;
+
+// Raffinement adaptatif de maillage pour -u'' = f: les points ne sont ajoutés que là où
+// l'erreur de troncature est grande (couches raides de f), au lieu d'un pas uniforme.
+// À chaque passe, la grille G est résolue ainsi que G bissectée partout (G/2):
+// - estimation a posteriori de Richardson de l'erreur de la solution sur G/2, en norme
+//   max aux nœuds de G: |u_G/2 - u_G| / 3 (schéma d'ordre 2);
+// - indicateurs locaux: résidus des lignes de G appliquées à u_G/2, estimation de
+//   l'erreur de troncature de G nœud par nœud (l'erreur globale en est l'image par la
+//   fonction de Green, bornée par 1/4).
+// Les cellules portant la plus grande part des indicateurs (marquage de Dörfler) sont
+// coupées en deux, jusqu'à ce que l'estimation atteigne la tolérance.
+public class AdaptiveMeshSolver {
+    // Part de la somme des indicateurs couverte par les cellules coupées à chaque passe
+    private static final double MARKING_FRACTION = 0.5;
+    
+    private final MathFunction f;
+    private final BoundaryConditions bc;
+    private final double tolerance;
+    private final int initialIntervals;
+    private final int maxPoints;
+    
+    private double estimatedError = Double.NaN;
+    private int refinements;
+    
+    public AdaptiveMeshSolver(MathFunction f, BoundaryConditions bc, double tolerance) {
+        this(f, bc, tolerance, 16, 1 << 20);
+    }
+    
+    // maxPoints: taille maximale de la grille fine; atteinte, la dernière solution est rendue
+    public AdaptiveMeshSolver(MathFunction f, BoundaryConditions bc, double tolerance,
+                              int initialIntervals, int maxPoints) {
+        if (!(tolerance > 0) || initialIntervals < 2 || maxPoints < 2 * initialIntervals + 1) {
+            throw new IllegalArgumentException("Paramètres de raffinement invalides");
+        }
+        this.f = f;
+        this.bc = bc;
+        this.tolerance = tolerance;
+        this.initialIntervals = initialIntervals;
+        this.maxPoints = maxPoints;
+    }
+    
+    // Solution sur la grille G/2 de la dernière passe (abscisses explicites)
+    public Solution solve() {
+        double[] grid = new double[initialIntervals + 1];
+        for (int i = 0; i <= initialIntervals; i++) {
+            grid[i] = (double) i / initialIntervals;
+        }
+        
+        for (int pass = 0; ; pass++) {
+            NonUniformGridSolver coarse = new NonUniformGridSolver(grid, f, bc);
+            double[] fineGrid = bisect(grid, null);
+            Solution fine = new NonUniformGridSolver(fineGrid, f, bc).solve();
+            double[] coarseValues = coarse.solve().getValues();
+            
+            // Valeurs de u_G/2 aux nœuds de G (indices pairs)
+            double[] restricted = new double[grid.length];
+            double estimate = 0.0;
+            for (int i = 0; i < grid.length; i++) {
+                restricted[i] = fine.getValue(2 * i);
+                estimate = Math.max(estimate, Math.abs(restricted[i] - coarseValues[i]) / 3);
+            }
+            estimatedError = estimate;
+            refinements = pass;
+            if (estimate <= tolerance) {
+                return fine;
+            }
+            double[] refined = bisect(grid, mark(coarse.localResiduals(restricted)));
+            if (2 * refined.length - 1 > maxPoints) {
+                return fine;
+            }
+            grid = refined;
+        }
+    }
+    
+    // Cellules [x_i, x_i+1] à couper: indicateur de la cellule = moyenne des résidus
+    // de ses deux nœuds (nuls aux bords); les plus grands jusqu'à MARKING_FRACTION du total
+    private static boolean[] mark(double[] residuals) {
+        int cells = residuals.length + 1;
+        double[] indicators = new double[cells];
+        double total = 0.0;
+        for (int c = 0; c < cells; c++) {
+            double left = c > 0 ? Math.abs(residuals[c - 1]) : 0.0;
+            double right = c < cells - 1 ? Math.abs(residuals[c]) : 0.0;
+            indicators[c] = 0.5 * (left + right);
+            total += indicators[c];
+        }
+        
+        double[] sorted = indicators.clone();
+        Arrays.sort(sorted);
+        double threshold = 0.0;
+        double covered = 0.0;
+        for (int k = sorted.length - 1; k >= 0 && covered < MARKING_FRACTION * total; k--) {
+            threshold = sorted[k];
+            covered += sorted[k];
+        }
+        
+        boolean[] marked = new boolean[cells];
+        for (int c = 0; c < cells; c++) {
+            marked[c] = indicators[c] >= threshold;
+        }
+        return marked;
+    }
+    
+    // Grille avec le milieu des cellules marquées (toutes si marked est null)
+    private static double[] bisect(double[] grid, boolean[] marked) {
+        int added = 0;
+        for (int c = 0; c < grid.length - 1; c++) {
+            if (marked == null || marked[c]) {
+                added++;
+            }
+        }
+        double[] refined = new double[grid.length + added];
+        int j = 0;
+        for (int c = 0; c < grid.length - 1; c++) {
+            refined[j++] = grid[c];
+            if (marked == null || marked[c]) {
+                refined[j++] = 0.5 * (grid[c] + grid[c + 1]);
+            }
+        }
+        refined[j] = grid[grid.length - 1];
+        return refined;
+    }
+    
+    // Estimation de Richardson de l'erreur max de la dernière solution rendue
+    public double getEstimatedError() {
+        return estimatedError;
+    }
+    
+    // Nombre de passes de raffinement de la dernière résolution
+    public int getRefinements() {
+        return refinements;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.analysis.solver;
+
+// Estimation adaptative du facteur de relaxation optimal (Hageman et Young): le taux de
+// décroissance R de la norme des corrections est mesuré sur des fenêtres d'au moins
+// MIN_WINDOW balayages, et de (n + 1) / 20 pour que les modes rapides se soient amortis.
+// Avec le facteur courant omega, (R + omega - 1)² / (omega² R) estime le carré du rayon
+// spectral de Jacobi µ², d'où omega = 2 / (1 + sqrt(1 - µ²)); avec omega = 1 (premiers
+// balayages, Gauss-Seidel pur) on retrouve µ² = rho_GS. L'estimation n'est mise à jour que
+// lorsque deux fenêtres consécutives donnent le même taux (régime établi), et se fige quand
+// elle ne croît plus ou que R <= (omega - 1)^0.75 (omega optimal dépassé).
+final class AdaptiveRelaxation {
+    private static final int MIN_WINDOW = 16;
+    private static final double RATE_AGREEMENT = 0.1;
+    private static final double OVERSHOOT_EXPONENT = 0.75;
+    
+    private final int window;
+    private double omega = 1.0;
+    private boolean settled;
+    private int sweeps;
+    private double windowStart;
+    private double previousRate = -1.0;
+    
+    AdaptiveRelaxation(int n) {
+        this.window = Math.max(MIN_WINDOW, (n + 1) / 40 * 2);
+    }
+    
+    double omega() {
+        return omega;
+    }
+    
+    // Tant que l'estimation n'est pas figée, les balayages doivent mesurer leur correction
+    boolean isSettled() {
+        return settled;
+    }
+    
+    // Norme euclidienne de la correction apportée par le dernier balayage
+    void record(double updateNorm) {
+        if (!(updateNorm > 0) || !Double.isFinite(updateNorm)) {
+            settled = true;
+            return;
+        }
+        sweeps++;
+        if (sweeps == window / 2) {
+            windowStart = updateNorm;
+        }
+        if (sweeps < window) {
+            return;
+        }
+        sweeps = 0;
+        double rate = Math.pow(updateNorm / windowStart, 1.0 / (window - window / 2));
+        if (rate >= 1) {
+            // Pas de décroissance mesurable (précision machine atteinte): omega est conservé
+            settled = true;
+            return;
+        }
+        if (previousRate < 0 || Math.abs(rate - previousRate) >= RATE_AGREEMENT * (1 - rate)) {
+            previousRate = rate;
+            return;
+        }
+        previousRate = -1.0;
+        double mu2 = (rate + omega - 1) * (rate + omega - 1) / (omega * omega * rate);
+        if (rate <= Math.pow(omega - 1, OVERSHOOT_EXPONENT) || mu2 >= 1) {
+            settled = true;
+            return;
+        }
+        double estimate = 2 / (1 + Math.sqrt(1 - mu2));
+        if (estimate > omega) {
+            omega = estimate;
+        } else {
+            settled = true;
+        }
+    }
+}
\ No newline at end of file
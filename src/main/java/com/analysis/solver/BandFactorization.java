@@ -0,0 +1,132 @@
+package com.analysis.solver;
+
+// Factorisation LU avec pivotage partiel d'une BandMatrix (algorithme de dgbtf2), calculée
+// une fois puis réutilisée pour autant de seconds membres que nécessaire.
+// Stockage étendu de LAPACK: kl lignes de plus par colonne pour le remplissage dû aux
+// échanges de lignes, U a kl + ku sur-diagonales. Élimination par colonnes: chaque mise à
+// jour parcourt une colonne contiguë du tableau.
+public final class BandFactorization {
+    private final int n;
+    private final int lower;  // kl
+    private final int width;  // kl + ku, largeur de bande de U
+    private final int stride; // 2 kl + ku + 1 valeurs par colonne
+    private final double[] factors;       // U et multiplicateurs de L, par colonnes
+    private final int[] pivots;           // ligne échangée avec la ligne j à l'étape j
+    private final double[] inversePivots; // 1 / U(j, j)
+    
+    private BandFactorization(int n, int lower, int upper) {
+        this.n = n;
+        this.lower = lower;
+        this.width = lower + upper;
+        this.stride = 2 * lower + upper + 1;
+        this.factors = new double[Math.multiplyExact(n, stride)];
+        this.pivots = new int[n];
+        this.inversePivots = new double[n];
+    }
+    
+    static BandFactorization of(BandMatrix matrix) {
+        int n = matrix.size();
+        int upper = matrix.getUpperBandwidth();
+        BandFactorization lu = new BandFactorization(n, matrix.getLowerBandwidth(), upper);
+        for (int j = 0; j < n; j++) {
+            matrix.copyColumn(j, lu.factors, j * lu.stride + lu.lower);
+        }
+        lu.factor(upper);
+        return lu;
+    }
+    
+    private void factor(int upper) {
+        // Dernière colonne atteinte par les lignes des pivots déjà choisis
+        int last = 0;
+        for (int j = 0; j < n; j++) {
+            int base = base(j);
+            int rows = Math.min(lower, n - 1 - j);
+            
+            // Pivot: plus grand coefficient de la colonne sous la diagonale
+            int pivot = 0;
+            double max = Math.abs(factors[base + j]);
+            for (int r = 1; r <= rows; r++) {
+                double value = Math.abs(factors[base + j + r]);
+                if (value > max) {
+                    max = value;
+                    pivot = r;
+                }
+            }
+            if (max == 0.0) {
+                throw new IllegalArgumentException("Matrice singulière: colonne " + j + " sans pivot");
+            }
+            pivots[j] = j + pivot;
+            last = Math.max(last, Math.min(j + upper + pivot, n - 1));
+            
+            if (pivot != 0) {
+                for (int c = j; c <= last; c++) {
+                    int column = base(c);
+                    double swap = factors[column + j];
+                    factors[column + j] = factors[column + j + pivot];
+                    factors[column + j + pivot] = swap;
+                }
+            }
+            
+            // Multiplicateurs, puis mise à jour de rang 1 des colonnes suivantes
+            double inverse = 1.0 / factors[base + j];
+            inversePivots[j] = inverse;
+            for (int r = 1; r <= rows; r++) {
+                factors[base + j + r] *= inverse;
+            }
+            for (int c = j + 1; c <= last; c++) {
+                int column = base(c);
+                double t = factors[column + j];
+                if (t != 0.0) {
+                    for (int r = 1; r <= rows; r++) {
+                        factors[column + j + r] -= factors[base + j + r] * t;
+                    }
+                }
+            }
+        }
+    }
+    
+    public int size() {
+        return n;
+    }
+    
+    public void solve(double[] d, double[] x) {
+        solve(d, 0, x, 0);
+    }
+    
+    // x[xOffset..] = A^-1 d[offset..]; x peut être le même tableau que d (résolution sur place)
+    public void solve(double[] d, int offset, double[] x, int xOffset) {
+        if (d != x || offset != xOffset) {
+            System.arraycopy(d, offset, x, xOffset, n);
+        }
+        
+        // L y = P d: échanges de lignes et multiplicateurs, colonne par colonne
+        for (int j = 0; j < n - 1; j++) {
+            int p = pivots[j];
+            double t = x[xOffset + p];
+            if (p != j) {
+                x[xOffset + p] = x[xOffset + j];
+                x[xOffset + j] = t;
+            }
+            int base = base(j);
+            int rows = Math.min(lower, n - 1 - j);
+            for (int r = 1; r <= rows; r++) {
+                x[xOffset + j + r] -= factors[base + j + r] * t;
+            }
+        }
+        
+        // U x = y, colonne par colonne en remontant
+        for (int j = n - 1; j >= 0; j--) {
+            int base = base(j);
+            double t = x[xOffset + j] * inversePivots[j];
+            x[xOffset + j] = t;
+            for (int i = Math.max(0, j - width); i < j; i++) {
+                x[xOffset + i] -= factors[base + i] * t;
+            }
+        }
+    }
+    
+    // Indice de la ligne 0 de la colonne j (A(i, j) en base(j) + i)
+    private int base(int j) {
+        return j * stride + width - j;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.analysis.solver;
+
+import java.util.Arrays;
+
+// Matrice bande n x n, kl sous-diagonales et ku sur-diagonales, rangée comme dans LAPACK
+// (format de dgbmv) dans un seul tableau par colonnes: A(i, j) est en
+// values[j * (kl + ku + 1) + ku + i - j]. Mémoire en O(n (kl + ku)), sans repli dense:
+// un coefficient hors de la bande est refusé.
+public final class BandMatrix {
+    private final int n;
+    private final int lower;  // kl
+    private final int upper;  // ku
+    private final int stride; // kl + ku + 1 valeurs par colonne
+    private final double[] values;
+    
+    public BandMatrix(int n, int lowerBandwidth, int upperBandwidth) {
+        if (n < 1 || lowerBandwidth < 0 || upperBandwidth < 0) {
+            throw new IllegalArgumentException("Dimensions de matrice bande invalides");
+        }
+        this.n = n;
+        this.lower = Math.min(lowerBandwidth, n - 1);
+        this.upper = Math.min(upperBandwidth, n - 1);
+        this.stride = lower + upper + 1;
+        this.values = new double[Math.multiplyExact(n, stride)];
+    }
+    
+    public int size() {
+        return n;
+    }
+    
+    public int getLowerBandwidth() {
+        return lower;
+    }
+    
+    public int getUpperBandwidth() {
+        return upper;
+    }
+    
+    public boolean isInBand(int i, int j) {
+        return i >= 0 && i < n && j >= 0 && j < n && i - j <= lower && j - i <= upper;
+    }
+    
+    // 0 hors de la bande
+    public double get(int i, int j) {
+        return isInBand(i, j) ? values[index(i, j)] : 0.0;
+    }
+    
+    public void set(int i, int j, double value) {
+        values[checkedIndex(i, j)] = value;
+    }
+    
+    public void add(int i, int j, double value) {
+        values[checkedIndex(i, j)] += value;
+    }
+    
+    // y = A x
+    public void multiply(double[] x, double[] y) {
+        if (x.length != n || y.length != n) {
+            throw new IllegalArgumentException("Les vecteurs doivent avoir " + n + " valeurs");
+        }
+        Arrays.fill(y, 0.0);
+        // Parcours par colonnes, dans l'ordre du stockage
+        for (int j = 0; j < n; j++) {
+            double xj = x[j];
+            int base = j * stride + upper - j;
+            int end = Math.min(n - 1, j + lower);
+            for (int i = Math.max(0, j - upper); i <= end; i++) {
+                y[i] += values[base + i] * xj;
+            }
+        }
+    }
+    
+    // Factorisation LU avec pivotage partiel; la matrice n'est pas modifiée
+    public BandFactorization factor() {
+        return BandFactorization.of(this);
+    }
+    
+    // Recopie de la colonne j (lignes dans la bande) dans le stockage étendu de la
+    // factorisation, de offset + (upper - j + i) pour la ligne i
+    void copyColumn(int j, double[] target, int offset) {
+        int from = Math.max(0, j - upper);
+        int to = Math.min(n - 1, j + lower);
+        System.arraycopy(values, index(from, j), target, offset + from - j + upper, to - from + 1);
+    }
+    
+    private int index(int i, int j) {
+        return j * stride + upper + i - j;
+    }
+    
+    private int checkedIndex(int i, int j) {
+        if (!isInBand(i, j)) {
+            throw new IllegalArgumentException("Coefficient (" + i + ", " + j + ") hors de la bande");
+        }
+        return index(i, j);
+    }
+}
\ No newline at end of file
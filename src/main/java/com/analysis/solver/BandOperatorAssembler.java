@@ -0,0 +1,182 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+
+// Assemblage de -(p u')' + q u = f sur la grille uniforme x_i = i h, h = 1 / (n + 1), en
+// BandMatrix sur les n points intérieurs. Les lignes sont multipliées par h² (p = 1, q = 0
+// redonne (-1, 2, -1)); les valeurs aux bords passent dans le second membre.
+public final class BandOperatorAssembler {
+    
+    public enum Order {
+        SECOND, // forme conservative, p aux milieux: (-p_i-1/2, p_i-1/2 + p_i+1/2, -p_i+1/2), tridiagonale
+        FOURTH  // -p u'' - p' u' sur cinq points centrés, fermetures décentrées aux nœuds 1 et n (bande 3)
+    }
+    
+    // Différences d'ordre 4 (coefficients multipliés par 12) sur x_i-2..x_i+2
+    private static final double[] SECOND_DERIVATIVE = {-1, 16, -30, 16, -1};
+    private static final double[] FIRST_DERIVATIVE = {1, -8, 0, 8, -1};
+    // Fermetures au nœud 1 à partir de x_0..x_4 (ordre 3 pour u'', 4 pour u'); au nœud n,
+    // en miroir sur x_n+1..x_n-3
+    private static final double[] SECOND_DERIVATIVE_CLOSURE = {11, -20, 6, 4, -1};
+    private static final double[] FIRST_DERIVATIVE_CLOSURE = {-3, -10, 18, -6, 1};
+    private static final double[] SECOND_DERIVATIVE_MIRROR = mirror(SECOND_DERIVATIVE_CLOSURE, 1);
+    private static final double[] FIRST_DERIVATIVE_MIRROR = mirror(FIRST_DERIVATIVE_CLOSURE, -1);
+    
+    private final MathFunction p;
+    private final MathFunction q;
+    private final Order order;
+    
+    public BandOperatorAssembler(MathFunction p, MathFunction q, Order order) {
+        this.p = p;
+        this.q = q;
+        this.order = order;
+    }
+    
+    public Order getOrder() {
+        return order;
+    }
+    
+    // Nombre de sous- et de sur-diagonales de la matrice assemblée
+    public int getBandwidth() {
+        return order == Order.SECOND ? 1 : 3;
+    }
+    
+    public BandMatrix assemble(int n) {
+        checkSize(n);
+        double h = 1.0 / (n + 1);
+        double[] diffusion = sampleDiffusion(n, h);
+        double[] reaction = new double[n];
+        q.sample(h, h, n, reaction, 0);
+        
+        BandMatrix matrix = new BandMatrix(n, getBandwidth(), getBandwidth());
+        double[] weights = new double[5];
+        for (int i = 1; i <= n; i++) {
+            int first = stencil(i, n, diffusion, weights);
+            for (int k = 0; k < stencilLength(); k++) {
+                int node = first + k;
+                if (node >= 1 && node <= n) {
+                    matrix.add(i - 1, node - 1, weights[k]);
+                }
+            }
+            matrix.add(i - 1, i - 1, h * h * reaction[i - 1]);
+        }
+        return matrix;
+    }
+    
+    // b = h² f aux points intérieurs, moins les couplages des lignes voisines des bords avec
+    // u(0) et u(1)
+    public void fillRightHandSide(int n, MathFunction f, BoundaryConditions bc, double[] b) {
+        fillRightHandSide(n, f, boundaryTerms(n, bc), b);
+    }
+    
+    // Même second membre avec des couplages déjà calculés par boundaryTerms: seule f est
+    // échantillonnée
+    public void fillRightHandSide(int n, MathFunction f, double[] boundaryTerms, double[] b) {
+        checkSize(n);
+        if (b.length < n || boundaryTerms.length != n) {
+            throw new IllegalArgumentException("Le second membre doit contenir n valeurs");
+        }
+        double h = 1.0 / (n + 1);
+        f.sample(h, h, n, b, 0);
+        for (int k = 0; k < n; k++) {
+            b[k] = h * h * b[k] + boundaryTerms[k];
+        }
+    }
+    
+    // Contribution de u(0) et u(1) au second membre (nulle hors des lignes voisines des bords);
+    // ne dépend que de p et des conditions aux limites
+    public double[] boundaryTerms(int n, BoundaryConditions bc) {
+        checkSize(n);
+        double h = 1.0 / (n + 1);
+        double[] diffusion = sampleDiffusion(n, h);
+        double[] terms = new double[n];
+        double[] weights = new double[5];
+        for (int i = 1; i <= n; i++) {
+            int first = stencil(i, n, diffusion, weights);
+            if (first == 0) {
+                terms[i - 1] -= weights[0] * bc.getU0();
+            }
+            int last = first + stencilLength() - 1;
+            if (last == n + 1) {
+                terms[i - 1] -= weights[stencilLength() - 1] * bc.getU1();
+            }
+        }
+        return terms;
+    }
+    
+    // Évaluations de p et q par assemble et boundaryTerms (f: n évaluations par second membre)
+    long operatorEvaluations(int n) {
+        return 2L * diffusionSamples(n) + n;
+    }
+    
+    private void checkSize(int n) {
+        if (n < (order == Order.SECOND ? 1 : 3)) {
+            throw new IllegalArgumentException("Trop peu de points intérieurs pour le schéma " + order);
+        }
+    }
+    
+    private int stencilLength() {
+        return order == Order.SECOND ? 3 : 5;
+    }
+    
+    private int diffusionSamples(int n) {
+        return order == Order.SECOND ? n + 1 : n + 2;
+    }
+    
+    // p aux milieux (k + 1/2) h, k = 0..n, à l'ordre 2; aux nœuds 0..n+1 à l'ordre 4
+    private double[] sampleDiffusion(int n, double h) {
+        double[] values = new double[diffusionSamples(n)];
+        p.sample(order == Order.SECOND ? 0.5 * h : 0.0, h, values.length, values, 0);
+        return values;
+    }
+    
+    // Coefficients (multipliés par h², sans q) de la ligne du nœud i sur les nœuds
+    // first..first + stencilLength() - 1; renvoie first
+    private int stencil(int i, int n, double[] diffusion, double[] weights) {
+        if (order == Order.SECOND) {
+            weights[0] = -diffusion[i - 1];
+            weights[1] = diffusion[i - 1] + diffusion[i];
+            weights[2] = -diffusion[i];
+            return i - 1;
+        }
+        
+        int first;
+        double[] second;
+        double[] firstDerivative;
+        if (i == 1) {
+            first = 0;
+            second = SECOND_DERIVATIVE_CLOSURE;
+            firstDerivative = FIRST_DERIVATIVE_CLOSURE;
+        } else if (i == n) {
+            first = n - 3;
+            second = SECOND_DERIVATIVE_MIRROR;
+            firstDerivative = FIRST_DERIVATIVE_MIRROR;
+        } else {
+            first = i - 2;
+            second = SECOND_DERIVATIVE;
+            firstDerivative = FIRST_DERIVATIVE;
+        }
+        
+        // h p'(x_i) par la même différence que u'
+        double slope = 0.0;
+        for (int k = 0; k < 5; k++) {
+            slope += firstDerivative[k] * diffusion[first + k];
+        }
+        slope /= 12;
+        double centre = diffusion[i];
+        for (int k = 0; k < 5; k++) {
+            weights[k] = -(centre * second[k] + slope * firstDerivative[k]) / 12;
+        }
+        return first;
+    }
+    
+    // Même différence au nœud n, sur x_n+1..x_n-3 (signe -1 pour une dérivée première)
+    private static double[] mirror(double[] weights, double sign) {
+        double[] mirrored = new double[weights.length];
+        for (int k = 0; k < weights.length; k++) {
+            mirrored[k] = sign * weights[weights.length - 1 - k];
+        }
+        return mirrored;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.analysis.solver;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// Petit cache LRU borné, partagé entre threads (accès synchronisés). La borne porte sur la
+// somme des poids des entrées (1 par entrée par défaut, ou par exemple leur taille en octets);
+// une valeur plus lourde que la borne à elle seule est renvoyée sans être gardée.
+// Une valeur absente est construite hors du verrou: deux threads peuvent la construire en
+// même temps, le premier arrivé est gardé et renvoyé aux deux.
+final class BoundedCache<K, V> {
+    private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long capacity;
+    private final ToLongFunction<? super V> weigher;
+    private long weight;
+    
+    BoundedCache(int capacity) {
+        this(capacity, value -> 1L);
+    }
+    
+    BoundedCache(long capacity, ToLongFunction<? super V> weigher) {
+        this.capacity = capacity;
+        this.weigher = weigher;
+    }
+    
+    V computeIfAbsent(K key, Function<? super K, ? extends V> factory) {
+        V value = get(key);
+        return value != null ? value : put(key, factory.apply(key));
+    }
+    
+    private synchronized V get(K key) {
+        return entries.get(key);
+    }
+    
+    private synchronized V put(K key, V value) {
+        V existing = entries.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > capacity) {
+            return value;
+        }
+        entries.put(key, value);
+        weight += valueWeight;
+        // Éviction des entrées les moins récemment utilisées
+        Iterator<V> eldest = entries.values().iterator();
+        while (weight > capacity) {
+            weight -= weigher.applyAsLong(eldest.next());
+            eldest.remove();
+        }
+        return value;
+    }
+    
+    synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+}
\ No newline at end of file
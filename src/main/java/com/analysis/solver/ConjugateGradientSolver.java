@@ -0,0 +1,155 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Gradient conjugué préconditionné sans matrice: le stencil (-1, 2, -1) est appliqué
+// à la volée. Produits scalaires et stencil sont découpés en blocs parallèles pour les grands n.
+public class ConjugateGradientSolver extends IterativeSolver {
+    // Taille minimale d'un bloc parallèle
+    private static final int MIN_PARALLEL_GRAIN = 1 << 15;
+    
+    private final Preconditioner preconditioner;
+    private final ForkJoinPool pool;
+    
+    public ConjugateGradientSolver(int n, MathFunction f, BoundaryConditions bc) {
+        this(n, f, bc, Preconditioner.jacobi(), 1e-8, 10000);
+    }
+    
+    public ConjugateGradientSolver(int n, MathFunction f, BoundaryConditions bc,
+                                   Preconditioner preconditioner, double tolerance, int maxIterations) {
+        this(n, f, bc, preconditioner, tolerance, maxIterations, ForkJoinPool.commonPool());
+    }
+    
+    public ConjugateGradientSolver(int n, MathFunction f, BoundaryConditions bc,
+                                   Preconditioner preconditioner, double tolerance, int maxIterations,
+                                   ForkJoinPool pool) {
+        super(n, f, bc, ConvergenceCriterion.absolute(tolerance, maxIterations));
+        this.preconditioner = preconditioner;
+        this.pool = pool;
+    }
+    
+    @Override
+    public Solution solve() {
+        beginSolve();
+        double[] b = createRightHandSide();
+        double[] x = new double[n];
+        double[] r = new double[n];
+        double[] z = new double[n];
+        double[] p = new double[n];
+        double[] q = new double[n];
+        int grain = ParallelRange.grain(pool, n, MIN_PARALLEL_GRAIN);
+        
+        // Approximation initiale: interpolation linéaire ou démarrage à chaud
+        for (int i = 0; i < n; i++) {
+            x[i] = initialValue(i + 1);
+        }
+        
+        // r = b - A x: |r| / h² est le résidu de calculateResidual, mis à jour par récurrence
+        // et donc disponible à chaque itération pour le critère d'arrêt
+        applyOperatorDot(x, q, grain);
+        double scale = 1.0 / (h * h);
+        double residualNorm = scale * ParallelRange.max(pool, 0, n, grain, (from, to) -> {
+            double max = 0.0;
+            for (int i = from; i < to; i++) {
+                r[i] = b[i] - q[i];
+                max = Math.max(max, Math.abs(r[i]));
+            }
+            return max;
+        });
+        
+        preconditioner.apply(r, z);
+        System.arraycopy(z, 0, p, 0, n);
+        double rz = dot(r, z, grain);
+        ConvergenceMonitor monitor = startMonitor(residualNorm);
+        int iterations = 0;
+        
+        while (monitor.isRunning(iterations)) {
+            double pq = applyOperatorDot(p, q, grain);
+            double alpha = rz / pq;
+            
+            // x += alpha p, r -= alpha q, norme max de r dans la même passe
+            residualNorm = scale * ParallelRange.max(pool, 0, n, grain, (from, to) -> {
+                double max = 0.0;
+                for (int i = from; i < to; i++) {
+                    x[i] += alpha * p[i];
+                    r[i] -= alpha * q[i];
+                    max = Math.max(max, Math.abs(r[i]));
+                }
+                return max;
+            });
+            iterations++;
+            if (monitor.isCheckDue(iterations)) {
+                monitor.check(iterations, residualNorm);
+            }
+            afterIteration(iterations, residualNorm);
+            
+            if (!monitor.isRunning(iterations)) {
+                break;
+            }
+            
+            preconditioner.apply(r, z);
+            double rzNew = dot(r, z, grain);
+            double beta = rzNew / rz;
+            rz = rzNew;
+            
+            ParallelRange.forEach(pool, 0, n, grain, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    p[i] = z[i] + beta * p[i];
+                }
+            });
+        }
+        
+        afterLastIteration(iterations, residualNorm);
+        
+        // Solution complète avec conditions aux limites
+        double[] u = new double[n + 2];
+        u[0] = bc.getU0();
+        System.arraycopy(x, 0, u, 1, n);
+        u[n + 1] = bc.getU1();
+        
+        double residual = calculateResidual(u);
+        
+        return createSolution(u, monitor, iterations, residual);
+    }
+    
+    private double dot(double[] a, double[] b, int grain) {
+        return ParallelRange.sum(pool, 0, n, grain, (from, to) -> {
+            double sum = 0.0;
+            for (int i = from; i < to; i++) {
+                sum += a[i] * b[i];
+            }
+            return sum;
+        });
+    }
+    
+    // out = A v (stencil -1, 2, -1, zéro hors de [0, n)), renvoie v·out
+    private double applyOperatorDot(double[] v, double[] out, int grain) {
+        return ParallelRange.sum(pool, 0, n, grain, (from, to) -> {
+            double sum = 0.0;
+            int start = Math.max(from, 1);
+            int end = Math.min(to, n - 1);
+            if (from == 0) {
+                out[0] = 2 * v[0] - (n > 1 ? v[1] : 0.0);
+                sum += v[0] * out[0];
+            }
+            for (int i = start; i < end; i++) {
+                out[i] = 2 * v[i] - v[i - 1] - v[i + 1];
+                sum += v[i] * out[i];
+            }
+            if (to == n && n > 1) {
+                out[n - 1] = 2 * v[n - 1] - v[n - 2];
+                sum += v[n - 1] * out[n - 1];
+            }
+            return sum;
+        });
+    }
+    
+    // Gradient conjugué préconditionné par un V-cycle multigrille
+    public static ConjugateGradientSolver withMultigrid(int n, MathFunction f, BoundaryConditions bc) {
+        return new ConjugateGradientSolver(n, f, bc, Preconditioner.multigrid(n), 1e-8, 10000);
+    }
+}
\ No newline at end of file
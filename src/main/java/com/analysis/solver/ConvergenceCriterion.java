@@ -0,0 +1,139 @@
+package com.analysis.solver;
+
+// Critère d'arrêt des solveurs itératifs, fondé sur la norme max du vrai résidu
+// |f + u''_h| (celle de calculateResidual), contrôlée toutes les checkInterval itérations.
+// Arrêt dès que r <= max(absoluteTolerance, relativeTolerance * r0), où r0 est le résidu
+// de l'approximation initiale; stagnation si le meilleur résidu n'a pas été divisé par
+// 1 / stagnationRatio pendant stagnationWindow contrôles; divergence si r > divergenceFactor * r0
+// ou si r n'est plus fini. Immuable: les méthodes with... renvoient une copie modifiée.
+// Par défaut la fenêtre de stagnation est choisie par le solveur selon n: le résidu de SOR
+// peut rester des O(n) balayages sans nouveau minimum avant de décroître.
+public final class ConvergenceCriterion {
+    // Fenêtre de stagnation fixée par le solveur
+    public static final int AUTOMATIC_WINDOW = -1;
+    
+    
+    // Historique des résidus contrôlés (itération 0: approximation initiale)
+    @FunctionalInterface
+    public interface ResidualObserver {
+        void onResidual(int iteration, double residual);
+    }
+    
+    private final double absoluteTolerance;
+    private final double relativeTolerance;
+    private final int maxIterations;
+    private final int checkInterval;
+    private final int stagnationWindow; // 0: pas de détection, AUTOMATIC_WINDOW: selon le solveur
+    private final double stagnationRatio;
+    private final double divergenceFactor;
+    private final ResidualObserver observer;
+    
+    private ConvergenceCriterion(double absoluteTolerance, double relativeTolerance, int maxIterations,
+                                 int checkInterval, int stagnationWindow, double stagnationRatio,
+                                 double divergenceFactor, ResidualObserver observer) {
+        if (absoluteTolerance < 0 || relativeTolerance < 0) {
+            throw new IllegalArgumentException("Les tolérances doivent être positives");
+        }
+        if (maxIterations < 0 || checkInterval < 1) {
+            throw new IllegalArgumentException("Nombre d'itérations ou intervalle de contrôle invalide");
+        }
+        if (stagnationWindow < AUTOMATIC_WINDOW || stagnationRatio <= 0 || stagnationRatio > 1) {
+            throw new IllegalArgumentException("Paramètres de stagnation invalides");
+        }
+        if (!(divergenceFactor > 1)) {
+            throw new IllegalArgumentException("Le facteur de divergence doit être supérieur à 1");
+        }
+        this.absoluteTolerance = absoluteTolerance;
+        this.relativeTolerance = relativeTolerance;
+        this.maxIterations = maxIterations;
+        this.checkInterval = checkInterval;
+        this.stagnationWindow = stagnationWindow;
+        this.stagnationRatio = stagnationRatio;
+        this.divergenceFactor = divergenceFactor;
+        this.observer = observer;
+    }
+    
+    // Par défaut: contrôle à chaque itération, stagnation quand le résidu n'atteint plus de
+    // nouveau minimum (fenêtre automatique), divergence au-delà de 1e8 r0
+    public static ConvergenceCriterion of(double absoluteTolerance, double relativeTolerance, int maxIterations) {
+        return new ConvergenceCriterion(absoluteTolerance, relativeTolerance, maxIterations, 1,
+                                        AUTOMATIC_WINDOW, 1.0, 1e8, null);
+    }
+    
+    public static ConvergenceCriterion absolute(double tolerance, int maxIterations) {
+        return of(tolerance, 0.0, maxIterations);
+    }
+    
+    public static ConvergenceCriterion relative(double tolerance, int maxIterations) {
+        return of(0.0, tolerance, maxIterations);
+    }
+    
+    public ConvergenceCriterion withCheckInterval(int checkInterval) {
+        return new ConvergenceCriterion(absoluteTolerance, relativeTolerance, maxIterations, checkInterval,
+                                        stagnationWindow, stagnationRatio, divergenceFactor, observer);
+    }
+    
+    // Stagnation si aucun résidu contrôlé n'est descendu sous ratio * meilleur résidu
+    // pendant window contrôles consécutifs
+    public ConvergenceCriterion withStagnation(int window, double ratio) {
+        if (window < 0) {
+            throw new IllegalArgumentException("Paramètres de stagnation invalides");
+        }
+        return new ConvergenceCriterion(absoluteTolerance, relativeTolerance, maxIterations, checkInterval,
+                                        window, ratio, divergenceFactor, observer);
+    }
+    
+    public ConvergenceCriterion withoutStagnation() {
+        return withStagnation(0, 1.0);
+    }
+    
+    public ConvergenceCriterion withDivergenceFactor(double divergenceFactor) {
+        return new ConvergenceCriterion(absoluteTolerance, relativeTolerance, maxIterations, checkInterval,
+                                        stagnationWindow, stagnationRatio, divergenceFactor, observer);
+    }
+    
+    public ConvergenceCriterion withObserver(ResidualObserver observer) {
+        return new ConvergenceCriterion(absoluteTolerance, relativeTolerance, maxIterations, checkInterval,
+                                        stagnationWindow, stagnationRatio, divergenceFactor, observer);
+    }
+    
+    // Résidu à atteindre pour un résidu initial donné
+    public double target(double initialResidual) {
+        return Math.max(absoluteTolerance, relativeTolerance * initialResidual);
+    }
+    
+    public double getAbsoluteTolerance() {
+        return absoluteTolerance;
+    }
+    
+    public double getRelativeTolerance() {
+        return relativeTolerance;
+    }
+    
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+    
+    public int getCheckInterval() {
+        return checkInterval;
+    }
+    
+    public int getStagnationWindow() {
+        return stagnationWindow;
+    }
+    
+    public double getStagnationRatio() {
+        return stagnationRatio;
+    }
+    
+    public double getDivergenceFactor() {
+        return divergenceFactor;
+    }
+    
+    // automaticWindow: fenêtre en itérations proposée par le solveur si aucune n'est imposée
+    ConvergenceMonitor start(double initialResidual, int automaticWindow) {
+        int window = stagnationWindow != AUTOMATIC_WINDOW
+                ? stagnationWindow : Math.max(1, automaticWindow / checkInterval);
+        return new ConvergenceMonitor(this, observer, initialResidual, window);
+    }
+}
\ No newline at end of file
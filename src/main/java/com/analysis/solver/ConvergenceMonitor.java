@@ -0,0 +1,72 @@
+package com.analysis.solver;
+
+import com.analysis.model.ConvergenceStatus;
+
+// État d'une résolution vis-à-vis d'un ConvergenceCriterion (un moniteur par appel à solve())
+final class ConvergenceMonitor {
+    private final ConvergenceCriterion criterion;
+    private final ConvergenceCriterion.ResidualObserver observer;
+    private final double initialResidual;
+    private final double target;
+    private final int stagnationWindow;
+    
+    private double lastResidual;
+    private double bestResidual;
+    private int checksWithoutProgress;
+    private ConvergenceStatus status; // null tant que la résolution continue
+    
+    ConvergenceMonitor(ConvergenceCriterion criterion, ConvergenceCriterion.ResidualObserver observer,
+                       double initialResidual, int stagnationWindow) {
+        this.criterion = criterion;
+        this.observer = observer;
+        this.initialResidual = initialResidual;
+        this.target = criterion.target(initialResidual);
+        this.stagnationWindow = stagnationWindow;
+        // Le premier contrôle fixe le meilleur résidu: SOR commence souvent par l'augmenter
+        this.bestResidual = Double.POSITIVE_INFINITY;
+        this.lastResidual = initialResidual;
+        if (observer != null) {
+            observer.onResidual(0, initialResidual);
+        }
+        if (initialResidual <= target) {
+            status = ConvergenceStatus.CONVERGED;
+        } else if (!Double.isFinite(initialResidual)) {
+            status = ConvergenceStatus.DIVERGED;
+        }
+    }
+    
+    boolean isRunning(int iterations) {
+        return status == null && iterations < criterion.getMaxIterations();
+    }
+    
+    // Le résidu doit-il être calculé à la fin de cette itération (numérotée à partir de 1)?
+    // La dernière itération autorisée est toujours contrôlée.
+    boolean isCheckDue(int iteration) {
+        return iteration % criterion.getCheckInterval() == 0 || iteration >= criterion.getMaxIterations();
+    }
+    
+    void check(int iteration, double residual) {
+        lastResidual = residual;
+        if (observer != null) {
+            observer.onResidual(iteration, residual);
+        }
+        if (residual <= target) {
+            status = ConvergenceStatus.CONVERGED;
+        } else if (!(residual <= criterion.getDivergenceFactor() * initialResidual)) {
+            status = ConvergenceStatus.DIVERGED;
+        } else if (residual < criterion.getStagnationRatio() * bestResidual) {
+            bestResidual = residual;
+            checksWithoutProgress = 0;
+        } else if (stagnationWindow > 0 && ++checksWithoutProgress >= stagnationWindow) {
+            status = ConvergenceStatus.STAGNATED;
+        }
+    }
+    
+    double getLastResidual() {
+        return lastResidual;
+    }
+    
+    ConvergenceStatus getStatus() {
+        return status != null ? status : ConvergenceStatus.MAX_ITERATIONS;
+    }
+}
\ No newline at end of file
@@ -1,67 +1,265 @@
 package com.analysis.solver;
 
 import com.analysis.function.MathFunction;
+import com.analysis.io.SolutionWriter;
 import com.analysis.model.BoundaryConditions;
 import com.analysis.model.Solution;
+import com.analysis.model.SolverMetrics;
+import com.analysis.storage.DoubleStorage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class DirectSolver extends FiniteDifferenceSolver {
+    // Taille minimale d'un bloc en mode partitionné
+    private static final int MIN_BLOCK_SIZE = 4096;
+    
+    public enum Method {
+        THOMAS,          // élimination de Thomas séquentielle
+        PARTITIONED      // blocs résolus en parallèle puis recollés par un système réduit
+    }
+    
+    private final Method method;
+    private final ForkJoinPool pool;
+    private int minBlockSize = MIN_BLOCK_SIZE;
+    
+    // Factorisation de la matrice (-1, 2, -1), partagée via le cache par n
+    private TridiagonalFactorization factorization;
+    private PartitionedTridiagonalSolver partitioned;
     
     public DirectSolver(int n, MathFunction f, BoundaryConditions bc) {
+        this(n, f, bc, Method.THOMAS);
+    }
+    
+    public DirectSolver(int n, MathFunction f, BoundaryConditions bc, Method method) {
+        this(n, f, bc, method, ForkJoinPool.commonPool());
+    }
+    
+    public DirectSolver(int n, MathFunction f, BoundaryConditions bc, Method method, ForkJoinPool pool) {
         super(n, f, bc);
+        this.method = method;
+        this.pool = pool;
+    }
+    
+    // Taille minimale d'un bloc en mode partitionné (au moins 2); une petite valeur découpe
+    // aussi les petits systèmes
+    public void setMinBlockSize(int minBlockSize) {
+        if (minBlockSize < 2) {
+            throw new IllegalArgumentException("Un bloc doit contenir au moins deux inconnues");
+        }
+        this.minBlockSize = minBlockSize;
+        this.partitioned = null;
+    }
+    
+    // Nombre de blocs du mode partitionné (1 tant qu'il n'a pas servi)
+    public int getBlockCount() {
+        return partitioned == null ? 1 : partitioned.blockCount();
     }
     
     @Override
     public Solution solve() {
-        // Matrice tridiagonale: -1, 2, -1
-        double[] diagonal = new double[n];
-        double[] upperDiagonal = new double[n - 1];
-        double[] lowerDiagonal = new double[n - 1];
-        double[] b = createRightHandSide();
+        return solve(new SolverWorkspace());
+    }
+    
+    // Résolution avec tableaux de travail réutilisés
+    public Solution solve(SolverWorkspace workspace) {
+        beginSolve();
+        double[] u = new double[n + 2];
+        solveInPlace(workspace, u);
         
-        // Remplir la matrice tridiagonale
-        for (int i = 0; i < n; i++) {
-            diagonal[i] = 2.0;
-        }
-        for (int i = 0; i < n - 1; i++) {
-            upperDiagonal[i] = -1.0;
-            lowerDiagonal[i] = -1.0;
+        return createSolution(u, workspace.getIterations(), workspace.getResidual());
+    }
+    
+    // Écrit la solution complète (n + 2 valeurs, bords compris) dans u sans rien allouer
+    // une fois l'espace de travail dimensionné; le résidu est rangé dans l'espace de travail
+    public void solve(SolverWorkspace workspace, double[] u) {
+        beginSolve();
+        solveInPlace(workspace, u);
+        endSolve(workspace.getIterations(), workspace.getResidual());
+    }
+    
+    private void solveInPlace(SolverWorkspace workspace, double[] u) {
+        if (u.length != n + 2) {
+            throw new IllegalArgumentException("Le tableau de sortie doit contenir n + 2 valeurs");
         }
         
-        // Résolution par algorithme de Thomas
-        double[] u_interior = solveTridiagonal(lowerDiagonal, diagonal, upperDiagonal, b);
+        // Second membre directement dans u[1..n], résolu sur place
+        fillRightHandSide(u, 1);
+        if (method == Method.PARTITIONED) {
+            partitioned().solve(u, 1, pool);
+        } else {
+            factorization().solve(u, 1, u, 1);
+        }
         
-        // Construire la solution complète avec conditions aux limites
-        double[] u = new double[n + 2];
+        // Conditions aux limites
         u[0] = bc.getU0();
-        System.arraycopy(u_interior, 0, u, 1, n);
         u[n + 1] = bc.getU1();
         
-        double[] x = createXPoints();
-        double residual = calculateResidual(u);
-        
-        return new Solution(u, x, 1, residual);
+        workspace.record(1, calculateResidual(u));
+    }
+    
+    // Résolution en flux dans un stockage de n + 2 valeurs (tas, hors tas ou fichier projeté):
+    // Thomas avec les pivots exacts d_j = (j + 2) / (j + 1) de la matrice (-1, 2, -1),
+    // une passe de descente puis une de remontée par blocs de STREAM_CHUNK valeurs.
+    // La mémoire utilisée sur le tas ne dépend pas de n. Toujours par Thomas, quelle que
+    // soit la méthode choisie: les autres donnent la même solution.
+    public Solution solve(DoubleStorage u) {
+        try {
+            return solve(u, null);
+        } catch (IOException e) {
+            // Impossible sans fichier de sortie
+            throw new UncheckedIOException(e);
+        }
     }
     
-    private double[] solveTridiagonal(double[] a, double[] b, double[] c, double[] d) {
-        int n = d.length;
-        double[] x = new double[n];
-        double[] cp = new double[n - 1];
-        double[] dp = new double[n];
+    // Même résolution, chaque bloc étant aussi écrit dans writer (n + 2 valeurs) dès sa
+    // remontée, puis l'en-tête complété avec le résidu; writer null: pas d'écriture.
+    // L'en-tête du writer (n, h, conditions aux limites) doit décrire ce problème
+    public Solution solve(DoubleStorage u, SolutionWriter writer) throws IOException {
+        checkStorage(u);
+        if (writer != null) {
+            checkWriter(writer);
+        }
+        beginSolve();
+        int chunk = Math.min(STREAM_CHUNK, n);
+        double[] buffer = new double[chunk + 2];
+        double h2 = h * h;
         
-        // Forward sweep
-        dp[0] = d[0] / b[0];
-        for (int i = 0; i < n - 1; i++) {
-            cp[i] = c[i] / b[i];
-            b[i + 1] = b[i + 1] - a[i] * cp[i];
-            dp[i + 1] = (d[i + 1] - a[i] * dp[i]) / b[i + 1];
+        // Descente: y_j = b_j + y_(j-1) / d_(j-1), rangé à la place de u_(j+1)
+        // Indices longs: start + chunk et i + 1 peuvent dépasser Integer.MAX_VALUE
+        double carry = 0.0;
+        for (long start = 1; start <= n; start += chunk) {
+            int count = (int) Math.min(chunk, n - start + 1);
+            sampleSchemeSource(f, start, count, buffer);
+            for (int k = 0; k < count; k++) {
+                long i = start + k;
+                double b = h2 * buffer[k];
+                if (i == 1) {
+                    b += bc.getU0();
+                }
+                if (i == n) {
+                    b += bc.getU1();
+                }
+                double y = b + carry;
+                buffer[k] = y;
+                carry = y * i / (i + 1);
+            }
+            u.set(start, buffer, 0, count);
         }
         
-        // Back substitution
-        x[n - 1] = dp[n - 1];
-        for (int i = n - 2; i >= 0; i--) {
-            x[i] = dp[i] - cp[i] * x[i + 1];
+        // Remontée: x_j = (y_j + x_(j+1)) / d_j
+        double next = 0.0;
+        for (long end = n; end >= 1; ) {
+            long start = Math.max(1, end - chunk + 1);
+            int count = (int) (end - start + 1);
+            u.get(start, buffer, 0, count);
+            for (int k = count - 1; k >= 0; k--) {
+                long i = start + k;
+                next = (buffer[k] + next) * i / (i + 1);
+                buffer[k] = next;
+            }
+            u.set(start, buffer, 0, count);
+            if (writer != null) {
+                writer.write(start, buffer, 0, count);
+            }
+            end = start - 1;
         }
         
-        return x;
+        // Conditions aux limites
+        u.set(0, bc.getU0());
+        u.set(n + 1L, bc.getU1());
+        
+        double residual = calculateResidual(u);
+        if (writer != null) {
+            writer.write(0, new double[] {bc.getU0()}, 0, 1);
+            writer.write(n + 1L, new double[] {bc.getU1()}, 0, 1);
+            writer.finish(1, residual);
+        }
+        return createSolution(u, 1, residual);
+    }
+    
+    // Vérifié avant la résolution: un en-tête différent serait relu comme une autre grille
+    private void checkWriter(SolutionWriter writer) {
+        if (writer.getN() != n) {
+            throw new IllegalArgumentException("Le fichier de sortie doit contenir n = " + n + " points intérieurs");
+        }
+        if (Double.compare(writer.getStep(), h) != 0) {
+            throw new IllegalArgumentException("Le pas du fichier de sortie diffère de celui du solveur");
+        }
+        BoundaryConditions other = writer.getBoundaryConditions();
+        if (Double.compare(other.getU0(), bc.getU0()) != 0 || Double.compare(other.getU1(), bc.getU1()) != 0) {
+            throw new IllegalArgumentException("Les conditions aux limites du fichier de sortie diffèrent de celles du solveur");
+        }
+    }
+    
+    // Résout (-1, 2, -1) u = b pour plusieurs seconds membres b de longueur n
+    // (h² f et conditions aux limites déjà inclus); renvoie les valeurs intérieures.
+    // Les lots sont résolus par Thomas (en parallèle sur les seconds membres), quelle que
+    // soit la méthode choisie: le parallélisme porte déjà sur les seconds membres
+    public double[][] solveBatch(double[][] rightHandSides) {
+        double[][] solutions = new double[rightHandSides.length][n];
+        factorization().solveBatch(rightHandSides, solutions);
+        return solutions;
+    }
+    
+    public double[][] solveBatch(double[][] rightHandSides, ForkJoinPool pool) {
+        double[][] solutions = new double[rightHandSides.length][n];
+        factorization().solveBatch(rightHandSides, solutions, pool);
+        return solutions;
+    }
+    
+    // Une solution par fonction source, avec les mêmes n et conditions aux limites
+    public List<Solution> solveBatch(List<MathFunction> sources) {
+        return solveBatch(sources, null);
+    }
+    
+    // Variante parallèle (pool null: séquentiel)
+    // Les mesures, si activées, couvrent tout le lot et sont attachées à chaque solution
+    public List<Solution> solveBatch(List<MathFunction> sources, ForkJoinPool pool) {
+        beginSolve();
+        double[][] b = new double[sources.size()][n];
+        for (int k = 0; k < b.length; k++) {
+            fillRightHandSide(sources.get(k), b[k], 0);
+        }
+        
+        // Résolution sur place: chaque second membre devient sa solution
+        if (pool == null) {
+            factorization().solveBatch(b, b);
+        } else {
+            factorization().solveBatch(b, b, pool);
+        }
+        
+        List<Solution> solutions = new ArrayList<>(b.length);
+        for (int k = 0; k < b.length; k++) {
+            double[] u = new double[n + 2];
+            u[0] = bc.getU0();
+            System.arraycopy(b[k], 0, u, 1, n);
+            u[n + 1] = bc.getU1();
+            solutions.add(Solution.ofUniformGrid(u, h, 1, calculateResidual(u, sources.get(k))));
+        }
+        SolverMetrics metrics = endSolve(b.length, Double.NaN);
+        if (metrics != null) {
+            solutions.replaceAll(solution -> solution.withMetrics(metrics));
+        }
+        return solutions;
+    }
+    
+    private TridiagonalFactorization factorization() {
+        if (factorization == null) {
+            factorization = TridiagonalFactorization.of(n);
+        }
+        return factorization;
+    }
+    
+    private PartitionedTridiagonalSolver partitioned() {
+        if (partitioned == null) {
+            int desired = Math.min(4 * pool.getParallelism(), n / minBlockSize);
+            int blocks = PartitionedTridiagonalSolver.blockCount(n, desired);
+            partitioned = new PartitionedTridiagonalSolver(n, blocks, -1.0, 2.0, -1.0);
+        }
+        return partitioned;
     }
 }
\ No newline at end of file
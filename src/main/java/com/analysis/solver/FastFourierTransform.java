@@ -0,0 +1,71 @@
+package com.analysis.solver;
+
+// FFT complexe radix-2 en place (taille puissance de 2), tables de rotation
+// et permutation bit-reverse précalculées une fois par taille
+final class FastFourierTransform {
+    private final int size;
+    private final double[] cosTable;
+    private final double[] sinTable;
+    private final int[] bitReversed;
+    
+    FastFourierTransform(int size) {
+        if (size < 1 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("La taille de la FFT doit être une puissance de 2");
+        }
+        this.size = size;
+        this.cosTable = new double[size / 2];
+        this.sinTable = new double[size / 2];
+        for (int k = 0; k < size / 2; k++) {
+            double angle = 2 * Math.PI * k / size;
+            cosTable[k] = Math.cos(angle);
+            sinTable[k] = Math.sin(angle);
+        }
+        this.bitReversed = new int[size];
+        int bits = Integer.numberOfTrailingZeros(size);
+        for (int i = 0; i < size; i++) {
+            bitReversed[i] = bits == 0 ? 0 : Integer.reverse(i) >>> (32 - bits);
+        }
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    // X_k = somme_j x_j exp(-2iπ jk / size)
+    void forward(double[] re, double[] im) {
+        transform(re, im, -1.0);
+    }
+    
+    // Transformée inverse non normalisée (signe +)
+    void inverse(double[] re, double[] im) {
+        transform(re, im, 1.0);
+    }
+    
+    private void transform(double[] re, double[] im, double sign) {
+        for (int i = 0; i < size; i++) {
+            int j = bitReversed[i];
+            if (j > i) {
+                double t = re[i]; re[i] = re[j]; re[j] = t;
+                t = im[i]; im[i] = im[j]; im[j] = t;
+            }
+        }
+        for (int length = 2; length <= size; length <<= 1) {
+            int half = length >>> 1;
+            int stride = size / length;
+            for (int start = 0; start < size; start += length) {
+                for (int k = 0; k < half; k++) {
+                    double wr = cosTable[k * stride];
+                    double wi = sign * sinTable[k * stride];
+                    int a = start + k;
+                    int b = a + half;
+                    double tr = re[b] * wr - im[b] * wi;
+                    double ti = re[b] * wi + im[b] * wr;
+                    re[b] = re[a] - tr;
+                    im[b] = im[a] - ti;
+                    re[a] += tr;
+                    im[a] += ti;
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
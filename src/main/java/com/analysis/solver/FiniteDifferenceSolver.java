@@ -3,22 +3,262 @@ package com.analysis.solver;
 import com.analysis.function.MathFunction;
 import com.analysis.model.BoundaryConditions;
 import com.analysis.model.Solution;
+import com.analysis.model.SolverMetrics;
+import com.analysis.storage.DoubleStorage;
+
+import jdk.jfr.FlightRecorder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public abstract class FiniteDifferenceSolver {
+    // Taille des blocs d'évaluation de f dans le calcul du résidu
+    protected static final int RESIDUAL_CHUNK = 1024;
+    // Taille des blocs lus et écrits dans un DoubleStorage (seule mémoire de travail sur le tas)
+    protected static final int STREAM_CHUNK = 1 << 16;
+    // Nombre d'itérations regroupées dans une notification (écouteurs et JFR)
+    protected static final int ITERATION_BATCH = 64;
+    
+    // Discrétisation de -u'' = f: la matrice (-1, 2, -1) / h² est la même, seul le second
+    // membre change, si bien que tous les solveurs (Thomas, itératifs) servent aux deux
+    public enum Scheme {
+        SECOND_ORDER,        // f_i, erreur en O(h²)
+        COMPACT_FOURTH_ORDER // Numerov (f_i-1 + 10 f_i + f_i+1) / 12, erreur en O(h⁴) si f est régulière
+    }
+    
     protected final int n; // nombre de points intérieurs
     protected final double h; // pas de discrétisation
     protected final MathFunction f; // fonction f dans -u'' = f
     protected final BoundaryConditions bc;
     
+    // f aux nœuds de la grille, évaluée au premier besoin puis réutilisée
+    private SampledSource sampledSource;
+    private Scheme scheme = Scheme.SECOND_ORDER;
+    private double[] compactSource; // second membre pondéré, calculé au premier besoin
+    
+    // Instrumentation: désactivée par défaut, le surcoût se limite alors à deux lectures
+    // de System.nanoTime() par résolution et à des tests de nullité
+    private boolean metricsEnabled;
+    private final List<SolverListener> listeners = new CopyOnWriteArrayList<>();
+    private MetricsRecorder recorder; // non nul pendant une résolution mesurée
+    private long solveStartNanos;
+    
     public FiniteDifferenceSolver(int n, MathFunction f, BoundaryConditions bc) {
         this.n = n;
-        this.h = 1.0 / (n + 1);
+        this.h = 1.0 / (n + 1L);
         this.f = f;
         this.bc = bc;
     }
     
     public abstract Solution solve();
     
+    public SampledSource getSampledSource() {
+        if (sampledSource == null) {
+            long start = phaseStart();
+            sampledSource = SampledSource.of(n, f);
+            phaseEnd(SolverMetrics.Phase.ASSEMBLY, start);
+            recordEvaluations(n + 2);
+        }
+        return sampledSource;
+    }
+    
+    // Partage d'un échantillonnage déjà calculé par un autre solveur de même n et même f
+    public void setSampledSource(SampledSource sampledSource) {
+        if (sampledSource.size() != n) {
+            throw new IllegalArgumentException("Le nombre de points de la source échantillonnée ne correspond pas");
+        }
+        if (sampledSource.getFunction() != f) {
+            throw new IllegalArgumentException("La source échantillonnée provient d'une autre fonction");
+        }
+        this.sampledSource = sampledSource;
+        this.compactSource = null;
+    }
+    
+    public void setScheme(Scheme scheme) {
+        this.scheme = scheme;
+        this.compactSource = null;
+    }
+    
+    public Scheme getScheme() {
+        return scheme;
+    }
+    
+    // Second membre du schéma aux nœuds i = 0..n+1 (f aux bords, qui ne servent pas);
+    // c'est la source des balayages et du résidu de tous les solveurs
+    protected double[] getSchemeSource() {
+        double[] values = getSampledSource().values();
+        if (scheme == Scheme.SECOND_ORDER) {
+            return values;
+        }
+        if (compactSource == null) {
+            long start = phaseStart();
+            double[] weighted = values.clone();
+            applyCompactWeighting(weighted, 1, n + 1);
+            compactSource = weighted;
+            phaseEnd(SolverMetrics.Phase.ASSEMBLY, start);
+        }
+        return compactSource;
+    }
+    
+    // Pondération de Numerov sur place de values[from..to-1] (values[from - 1] et
+    // values[to] lus mais inchangés)
+    static void applyCompactWeighting(double[] values, int from, int to) {
+        double left = values[from - 1];
+        for (int i = from; i < to; i++) {
+            double centre = values[i];
+            values[i] = (left + 10 * centre + values[i + 1]) / 12;
+            left = centre;
+        }
+    }
+    
+    // Second membre du schéma pour la fonction source aux nœuds intérieurs first..first+count-1,
+    // rangé dans buffer[0..count-1] (buffer doit pouvoir contenir count + 2 valeurs).
+    // Échantillonné à partir de (first - 1) h, comme la grille sur le tas pour first = 1.
+    protected void sampleSchemeSource(MathFunction source, long first, int count, double[] buffer) {
+        if (scheme == Scheme.SECOND_ORDER) {
+            source.sample((first - 1) * h, h, count + 1, buffer, 0);
+            recordEvaluations(count + 1);
+        } else {
+            source.sample((first - 1) * h, h, count + 2, buffer, 0);
+            recordEvaluations(count + 2);
+            applyCompactWeighting(buffer, 1, count + 1);
+        }
+        System.arraycopy(buffer, 1, buffer, 0, count);
+    }
+    
+    // Les mesures sont attachées à chaque Solution renvoyée (Solution.getMetrics())
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+    
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+    
+    public void addListener(SolverListener listener) {
+        listeners.add(listener);
+    }
+    
+    public void removeListener(SolverListener listener) {
+        listeners.remove(listener);
+    }
+    
+    // Début d'une résolution: à appeler en tête de chaque méthode solve
+    protected void beginSolve() {
+        solveStartNanos = System.nanoTime();
+        recorder = metricsEnabled || !listeners.isEmpty() ? new MetricsRecorder(solveStartNanos) : null;
+    }
+    
+    // Fin d'une résolution: émet l'événement JFR, prévient les écouteurs et renvoie
+    // les mesures (null si elles ne sont pas activées)
+    protected SolverMetrics endSolve(int iterations, double residual) {
+        long end = System.nanoTime();
+        // Sans enregistrement JFR démarré, aucun événement n'est alloué
+        if (FlightRecorder.isInitialized()) {
+            SolveEvent event = new SolveEvent();
+            if (event.shouldCommit()) {
+                event.solver = getClass().getSimpleName();
+                event.n = n;
+                event.iterations = iterations;
+                event.residual = residual;
+                event.elapsed = end - solveStartNanos;
+                event.commit();
+            }
+        }
+        if (recorder == null) {
+            return null;
+        }
+        SolverMetrics metrics = recorder.finish(end);
+        recorder = null;
+        for (SolverListener listener : listeners) {
+            listener.onSolveCompleted(this, metrics);
+        }
+        return metricsEnabled ? metrics : null;
+    }
+    
+    // Construit la Solution (phase OUTPUT) et termine la résolution
+    protected Solution createSolution(double[] u, int iterations, double residual) {
+        long start = phaseStart();
+        Solution solution = Solution.ofUniformGrid(u, h, iterations, residual);
+        phaseEnd(SolverMetrics.Phase.OUTPUT, start);
+        return attachMetrics(solution, endSolve(iterations, residual));
+    }
+    
+    protected Solution createSolution(DoubleStorage u, int iterations, double residual) {
+        long start = phaseStart();
+        Solution solution = Solution.ofStorage(u, h, iterations, residual);
+        phaseEnd(SolverMetrics.Phase.OUTPUT, start);
+        return attachMetrics(solution, endSolve(iterations, residual));
+    }
+    
+    private static Solution attachMetrics(Solution solution, SolverMetrics metrics) {
+        return metrics == null ? solution : solution.withMetrics(metrics);
+    }
+    
+    // Lot d'itérations terminé (firstIteration numérotée à partir de 0)
+    protected void recordIterations(int firstIteration, int count, double error) {
+        if (recorder != null) {
+            recorder.addSweeps(count);
+            for (SolverListener listener : listeners) {
+                listener.onIterations(this, firstIteration, count, error);
+            }
+        }
+        if (FlightRecorder.isInitialized()) {
+            IterationBatchEvent event = new IterationBatchEvent();
+            if (event.shouldCommit()) {
+                event.solver = getClass().getSimpleName();
+                event.firstIteration = firstIteration;
+                event.count = count;
+                event.error = error;
+                event.commit();
+            }
+        }
+    }
+    
+    // À appeler après chaque itération (iterations = nombre d'itérations faites)
+    protected void afterIteration(int iterations, double error) {
+        if (iterations % ITERATION_BATCH == 0) {
+            recordIterations(iterations - ITERATION_BATCH, ITERATION_BATCH, error);
+        }
+    }
+    
+    // Dernier lot, incomplet, à la sortie de la boucle d'itérations
+    protected void afterLastIteration(int iterations, double error) {
+        int remainder = iterations % ITERATION_BATCH;
+        if (remainder > 0) {
+            recordIterations(iterations - remainder, remainder, error);
+        }
+    }
+    
+    protected void recordEvaluations(long count) {
+        if (recorder != null) {
+            recorder.addEvaluations(count);
+        }
+    }
+    
+    // Vrai pendant une résolution mesurée (mesures activées ou écouteurs présents)
+    protected boolean isRecording() {
+        return recorder != null;
+    }
+    
+    // Cumule dans la résolution en cours les mesures d'un sous-solveur (solveur composé)
+    protected void recordNested(SolverMetrics metrics) {
+        if (recorder != null && metrics != null) {
+            recorder.addNested(metrics);
+        }
+    }
+    
+    // Chronométrage d'une phase: 0 sans lecture d'horloge hors résolution mesurée
+    protected long phaseStart() {
+        return recorder != null ? System.nanoTime() : 0L;
+    }
+    
+    protected void phaseEnd(SolverMetrics.Phase phase, long start) {
+        if (recorder != null) {
+            recorder.addPhase(phase, System.nanoTime() - start);
+        }
+    }
+    
     protected double[] createXPoints() {
         double[] x = new double[n + 2];
         for (int i = 0; i <= n + 1; i++) {
@@ -29,23 +269,103 @@ public abstract class FiniteDifferenceSolver {
     
     protected double[] createRightHandSide() {
         double[] b = new double[n];
+        fillRightHandSide(b, 0);
+        return b;
+    }
+    
+    // Écrit le second membre dans b[offset..offset + n - 1] sans allouer
+    protected void fillRightHandSide(double[] b, int offset) {
+        double[] source = getSchemeSource();
+        long start = phaseStart();
+        for (int i = 0; i < n; i++) {
+            b[offset + i] = h * h * source[i + 1];
+        }
+        b[offset] += bc.getU0();
+        b[offset + n - 1] += bc.getU1();
+        phaseEnd(SolverMetrics.Phase.ASSEMBLY, start);
+    }
+    
+    // Même second membre pour une autre fonction source (mêmes n et conditions aux limites)
+    protected void fillRightHandSide(MathFunction source, double[] b, int offset) {
+        long start = phaseStart();
+        if (scheme == Scheme.SECOND_ORDER) {
+            source.sample(h, h, n, b, offset);
+            recordEvaluations(n);
+        } else {
+            double[] buffer = new double[n + 2];
+            sampleSchemeSource(source, 1, n, buffer);
+            System.arraycopy(buffer, 0, b, offset, n);
+        }
         for (int i = 0; i < n; i++) {
-            double xi = (i + 1) * h;
-            b[i] = h * h * f.apply(xi);
+            b[offset + i] *= h * h;
         }
         // Conditions aux limites
-        b[0] += bc.getU0();
-        b[n - 1] += bc.getU1();
-        return b;
+        b[offset] += bc.getU0();
+        b[offset + n - 1] += bc.getU1();
+        phaseEnd(SolverMetrics.Phase.ASSEMBLY, start);
     }
     
     protected double calculateResidual(double[] u) {
+        double[] source = getSchemeSource();
+        long start = phaseStart();
         double maxResidual = 0.0;
-        for (int i = 1; i < u.length - 1; i++) {
-            double xi = i * h;
-            double residual = Math.abs(-(u[i - 1] - 2 * u[i] + u[i + 1]) / (h * h) - f.apply(xi));
+        for (int i = 1; i <= n; i++) {
+            double residual = Math.abs(-(u[i - 1] - 2 * u[i] + u[i + 1]) / (h * h) - source[i]);
             maxResidual = Math.max(maxResidual, residual);
         }
+        phaseEnd(SolverMetrics.Phase.RESIDUAL, start);
+        return maxResidual;
+    }
+    
+    protected double calculateResidual(double[] u, MathFunction source) {
+        return calculateResidual(u, source, new double[Math.min(u.length - 2, RESIDUAL_CHUNK) + 2]);
+    }
+    
+    // f est évaluée par blocs de buffer.length - 2 points via MathFunction.sample
+    protected double calculateResidual(double[] u, MathFunction source, double[] buffer) {
+        long phase = phaseStart();
+        int interior = u.length - 2;
+        int chunk = buffer.length - 2;
+        double maxResidual = 0.0;
+        // Boucle sur le nombre de points restants: start + chunk peut dépasser Integer.MAX_VALUE
+        for (int start = 1, remaining = interior; remaining > 0; start += chunk, remaining -= chunk) {
+            int count = Math.min(chunk, remaining);
+            sampleSchemeSource(source, start, count, buffer);
+            for (int k = 0; k < count; k++) {
+                int i = start + k;
+                double residual = Math.abs(-(u[i - 1] - 2 * u[i] + u[i + 1]) / (h * h) - buffer[k]);
+                maxResidual = Math.max(maxResidual, residual);
+            }
+        }
+        phaseEnd(SolverMetrics.Phase.RESIDUAL, phase);
+        return maxResidual;
+    }
+    
+    protected void checkStorage(DoubleStorage u) {
+        if (u.size() != n + 2L) {
+            throw new IllegalArgumentException("Le stockage doit contenir n + 2 valeurs");
+        }
+    }
+    
+    // Résidu maximal d'une solution rangée dans un stockage, lue par blocs avec un point
+    // de recouvrement de chaque côté; f est évaluée bloc par bloc
+    protected double calculateResidual(DoubleStorage u) {
+        long phase = phaseStart();
+        int chunk = Math.min(STREAM_CHUNK, n);
+        double[] values = new double[chunk + 2];
+        double[] source = new double[chunk + 2];
+        double maxResidual = 0.0;
+        // Indice long: start + chunk peut dépasser Integer.MAX_VALUE
+        for (long start = 1; start <= n; start += chunk) {
+            int count = (int) Math.min(chunk, n - start + 1);
+            u.get(start - 1, values, 0, count + 2);
+            sampleSchemeSource(f, start, count, source);
+            for (int k = 1; k <= count; k++) {
+                double residual = Math.abs(-(values[k - 1] - 2 * values[k] + values[k + 1]) / (h * h) - source[k - 1]);
+                maxResidual = Math.max(maxResidual, residual);
+            }
+        }
+        phaseEnd(SolverMetrics.Phase.RESIDUAL, phase);
         return maxResidual;
     }
 }
\ No newline at end of file
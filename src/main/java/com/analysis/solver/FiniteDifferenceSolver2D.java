@@ -0,0 +1,87 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction2D;
+import com.analysis.model.BoundaryConditions2D;
+import com.analysis.model.Solution2D;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Pendant 2D de FiniteDifferenceSolver: -Δu = f sur le carré unité, schéma à 5 points,
+// n x n points intérieurs de pas h = 1 / (n + 1) dans chaque direction.
+// La grille complète (bords compris) est un tableau plat rangé ligne par ligne
+// (indice j * (n + 2) + i pour le point (x_i, y_j)), traité par bandes de lignes.
+public abstract class FiniteDifferenceSolver2D {
+    // Nombre minimal de points par bande de lignes traitée en parallèle
+    private static final int MIN_PARALLEL_POINTS = 1 << 14;
+    
+    protected final int n; // nombre de points intérieurs par direction
+    protected final int stride; // longueur d'une ligne de la grille: n + 2
+    protected final double h;
+    protected final MathFunction2D f;
+    protected final BoundaryConditions2D bc;
+    protected final ForkJoinPool pool;
+    
+    // f aux nœuds de la grille, évaluée au premier besoin puis réutilisée
+    private double[] sampledSource;
+    
+    public FiniteDifferenceSolver2D(int n, MathFunction2D f, BoundaryConditions2D bc, ForkJoinPool pool) {
+        if ((long) (n + 2) * (n + 2) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grille trop grande pour un tableau: n = " + n);
+        }
+        this.n = n;
+        this.stride = n + 2;
+        this.h = 1.0 / (n + 1);
+        this.f = f;
+        this.bc = bc;
+        this.pool = pool;
+    }
+    
+    public abstract Solution2D solve();
+    
+    // Grille initialisée à zéro à l'intérieur, conditions de Dirichlet sur les bords
+    protected double[] createGrid() {
+        double[] u = new double[stride * stride];
+        bc.getBottom().sample(0.0, h, stride, u, 0);
+        bc.getTop().sample(0.0, h, stride, u, (n + 1) * stride);
+        for (int j = 1; j <= n; j++) {
+            u[j * stride] = bc.getLeft().apply(j * h);
+            u[j * stride + n + 1] = bc.getRight().apply(j * h);
+        }
+        return u;
+    }
+    
+    protected double[] getSampledSource() {
+        if (sampledSource == null) {
+            double[] source = new double[stride * stride];
+            ParallelRange.forEach(pool, 0, stride, rowGrain(), (from, to) -> {
+                for (int j = from; j < to; j++) {
+                    f.sampleRow(j * h, 0.0, h, stride, source, j * stride);
+                }
+            });
+            sampledSource = source;
+        }
+        return sampledSource;
+    }
+    
+    // Nombre de lignes par bande parallèle
+    protected int rowGrain() {
+        return ParallelRange.grain(pool, n, Math.max(1, MIN_PARALLEL_POINTS / stride));
+    }
+    
+    // Résidu maximal |-Δ_h u - f| sur les points intérieurs
+    protected double calculateResidual(double[] u) {
+        double[] source = getSampledSource();
+        double invH2 = 1.0 / (h * h);
+        return ParallelRange.max(pool, 1, n + 1, rowGrain(), (from, to) -> {
+            double maxResidual = 0.0;
+            for (int j = from; j < to; j++) {
+                int row = j * stride;
+                for (int k = row + 1; k <= row + n; k++) {
+                    double laplacian = (4 * u[k] - u[k - 1] - u[k + 1] - u[k - stride] - u[k + stride]) * invH2;
+                    maxResidual = Math.max(maxResidual, Math.abs(laplacian - source[k]));
+                }
+            }
+            return maxResidual;
+        });
+    }
+}
\ No newline at end of file
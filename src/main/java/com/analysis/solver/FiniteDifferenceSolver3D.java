@@ -0,0 +1,106 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction3D;
+import com.analysis.model.Solution3D;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Pendant 3D de FiniteDifferenceSolver: -Δu = f sur le cube unité, schéma à 7 points,
+// n³ points intérieurs de pas h = 1 / (n + 1). Grille complète dans un tableau plat rangé
+// plan par plan (indice (k * (n + 2) + j) * (n + 2) + i), conditions de Dirichlet données
+// par une fonction évaluée sur les six faces.
+public abstract class FiniteDifferenceSolver3D {
+    // Nombre minimal de points par tâche parallèle
+    private static final int MIN_PARALLEL_POINTS = 1 << 14;
+    
+    protected final int n;
+    protected final int stride; // n + 2: distance entre deux lignes
+    protected final int plane;  // (n + 2)²: distance entre deux plans
+    protected final double h;
+    protected final MathFunction3D f;
+    protected final MathFunction3D boundary;
+    protected final ForkJoinPool pool;
+    
+    // f aux nœuds de la grille, évaluée au premier besoin puis réutilisée
+    private double[] sampledSource;
+    
+    public FiniteDifferenceSolver3D(int n, MathFunction3D f, MathFunction3D boundary, ForkJoinPool pool) {
+        if ((long) (n + 2) * (n + 2) * (n + 2) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grille trop grande pour un tableau: n = " + n);
+        }
+        this.n = n;
+        this.stride = n + 2;
+        this.plane = stride * stride;
+        this.h = 1.0 / (n + 1);
+        this.f = f;
+        this.boundary = boundary;
+        this.pool = pool;
+    }
+    
+    public abstract Solution3D solve();
+    
+    // Grille nulle à l'intérieur, valeurs de Dirichlet sur les six faces
+    protected double[] createGrid() {
+        double[] u = new double[plane * stride];
+        ParallelRange.forEach(pool, 0, stride, planeGrain(), (from, to) -> {
+            for (int k = from; k < to; k++) {
+                double z = k * h;
+                for (int j = 0; j < stride; j++) {
+                    int row = k * plane + j * stride;
+                    if (k == 0 || k == n + 1 || j == 0 || j == n + 1) {
+                        boundary.sampleRow(j * h, z, 0.0, h, stride, u, row);
+                    } else {
+                        u[row] = boundary.apply(0.0, j * h, z);
+                        u[row + n + 1] = boundary.apply(1.0, j * h, z);
+                    }
+                }
+            }
+        });
+        return u;
+    }
+    
+    protected double[] getSampledSource() {
+        if (sampledSource == null) {
+            double[] source = new double[plane * stride];
+            ParallelRange.forEach(pool, 1, n + 1, planeGrain(), (from, to) -> {
+                for (int k = from; k < to; k++) {
+                    for (int j = 1; j <= n; j++) {
+                        f.sampleRow(j * h, k * h, 0.0, h, stride, source, k * plane + j * stride);
+                    }
+                }
+            });
+            sampledSource = source;
+        }
+        return sampledSource;
+    }
+    
+    // Nombre de plans par tâche quand on parallélise sur z
+    protected int planeGrain() {
+        return ParallelRange.grain(pool, n, Math.max(1, MIN_PARALLEL_POINTS / plane));
+    }
+    
+    // Nombre de lignes par tuile quand on parallélise sur y à l'intérieur d'un plan
+    protected int rowGrain() {
+        return ParallelRange.grain(pool, n, Math.max(1, MIN_PARALLEL_POINTS / stride));
+    }
+    
+    // Résidu maximal |-Δ_h u - f| sur les points intérieurs
+    protected double calculateResidual(double[] u) {
+        double[] source = getSampledSource();
+        double invH2 = 1.0 / (h * h);
+        return ParallelRange.max(pool, 1, n + 1, planeGrain(), (from, to) -> {
+            double maxResidual = 0.0;
+            for (int k = from; k < to; k++) {
+                for (int j = 1; j <= n; j++) {
+                    int row = k * plane + j * stride;
+                    for (int c = row + 1; c <= row + n; c++) {
+                        double laplacian = (6 * u[c] - u[c - 1] - u[c + 1] - u[c - stride] - u[c + stride]
+                                - u[c - plane] - u[c + plane]) * invH2;
+                        maxResidual = Math.max(maxResidual, Math.abs(laplacian - source[c]));
+                    }
+                }
+            }
+            return maxResidual;
+        });
+    }
+}
\ No newline at end of file
@@ -3,66 +3,344 @@ package com.analysis.solver;
 import com.analysis.function.MathFunction;
 import com.analysis.model.BoundaryConditions;
 import com.analysis.model.Solution;
+import com.analysis.model.SolverMetrics;
+import com.analysis.storage.DoubleStorage;
 
-public class GaussSeidelSolver extends FiniteDifferenceSolver {
-    private final double tolerance;
-    private final int maxIterations;
+import java.util.concurrent.ForkJoinPool;
+
+public class GaussSeidelSolver extends IterativeSolver {
+    // Taille minimale d'un bloc parallèle en mode rouge-noir
+    private static final int MIN_PARALLEL_GRAIN = 1 << 14;
+    
+    public enum Ordering {
+        LEXICOGRAPHIC, // balayage séquentiel i = 1..n
+        RED_BLACK      // points impairs puis pairs, chaque couleur en parallèle
+    }
+    
+    public enum RelaxationStrategy {
+        FIXED,    // facteur donné par l'appelant
+        OPTIMAL,  // optimum analytique 2 / (1 + sin(πh)) du stencil (-1, 2, -1)
+        ADAPTIVE  // estimé pendant la résolution à partir du taux de convergence observé
+    }
+    
     private final double relaxationFactor;
+    private final RelaxationStrategy strategy;
+    private final Ordering ordering;
+    private final ForkJoinPool pool;
     
     public GaussSeidelSolver(int n, MathFunction f, BoundaryConditions bc) {
         this(n, f, bc, 1e-10, 10000, 1.0);
     }
     
-    public GaussSeidelSolver(int n, MathFunction f, BoundaryConditions bc, 
+    public GaussSeidelSolver(int n, MathFunction f, BoundaryConditions bc,
                            double tolerance, int maxIterations, double relaxationFactor) {
-        super(n, f, bc);
-        this.tolerance = tolerance;
-        this.maxIterations = maxIterations;
+        this(n, f, bc, tolerance, maxIterations, relaxationFactor,
+             Ordering.LEXICOGRAPHIC, ForkJoinPool.commonPool());
+    }
+    
+    public GaussSeidelSolver(int n, MathFunction f, BoundaryConditions bc,
+                           double tolerance, int maxIterations, double relaxationFactor,
+                           Ordering ordering, ForkJoinPool pool) {
+        this(n, f, bc, tolerance, maxIterations, relaxationFactor, RelaxationStrategy.FIXED, ordering, pool);
+    }
+    
+    // Facteur de relaxation choisi automatiquement (FIXED: Gauss-Seidel, omega = 1)
+    public GaussSeidelSolver(int n, MathFunction f, BoundaryConditions bc,
+                           double tolerance, int maxIterations, RelaxationStrategy strategy,
+                           Ordering ordering, ForkJoinPool pool) {
+        this(n, f, bc, tolerance, maxIterations, 1.0, strategy, ordering, pool);
+    }
+    
+    private GaussSeidelSolver(int n, MathFunction f, BoundaryConditions bc,
+                            double tolerance, int maxIterations, double relaxationFactor,
+                            RelaxationStrategy strategy, Ordering ordering, ForkJoinPool pool) {
+        super(n, f, bc, ConvergenceCriterion.absolute(tolerance, maxIterations));
         this.relaxationFactor = relaxationFactor;
+        this.strategy = strategy;
+        this.ordering = ordering;
+        this.pool = pool;
+    }
+    
+    // Facteur SOR optimal pour -u'' = f à n points intérieurs (rayon spectral de Jacobi cos(πh))
+    public static double optimalRelaxationFactor(int n) {
+        return 2 / (1 + Math.sin(Math.PI / (n + 1)));
+    }
+    
+    private double initialRelaxationFactor() {
+        switch (strategy) {
+            case OPTIMAL:
+                return optimalRelaxationFactor(n);
+            case ADAPTIVE:
+                return 1.0; // premiers balayages en Gauss-Seidel pur pour estimer rho_GS
+            default:
+                return relaxationFactor;
+        }
     }
     
     @Override
     public Solution solve() {
+        beginSolve();
         double[] u = new double[n + 2];
         u[0] = bc.getU0();
         u[n + 1] = bc.getU1();
         
-        // Initialisation avec interpolation linéaire
+        // Approximation initiale: interpolation linéaire ou démarrage à chaud
         for (int i = 1; i <= n; i++) {
-            u[i] = bc.getU0() + (bc.getU1() - bc.getU0()) * i * h;
+            u[i] = initialValue(i);
         }
         
-        double[] b = createRightHandSide();
+        // f aux points de la grille, évaluée une fois pour tous les balayages
+        double[] source = getSchemeSource();
+        ConvergenceMonitor monitor = startMonitor(calculateResidual(u));
+        AdaptiveRelaxation adaptive = strategy == RelaxationStrategy.ADAPTIVE ? new AdaptiveRelaxation(n) : null;
+        double omega = initialRelaxationFactor();
         int iterations = 0;
-        double error = Double.MAX_VALUE;
         
-        while (error > tolerance && iterations < maxIterations) {
-            double maxChange = 0.0;
-            
-            for (int i = 1; i <= n; i++) {
-                double oldValue = u[i];
-                double newValue = 0.5 * (u[i - 1] + u[i + 1] - h * h * f.apply(i * h));
-                
-                // Relaxation
-                u[i] = (1 - relaxationFactor) * oldValue + relaxationFactor * newValue;
-                
-                double change = Math.abs(u[i] - oldValue);
-                maxChange = Math.max(maxChange, change);
+        // Le vrai résidu n'est calculé qu'aux itérations de contrôle du critère
+        while (monitor.isRunning(iterations)) {
+            iterations++;
+            boolean check = monitor.isCheckDue(iterations);
+            if (adaptive != null && !adaptive.isSettled()) {
+                // Tant que l'estimation évolue, chaque balayage mesure sa correction
+                adaptive.record(ordering == Ordering.RED_BLACK
+                        ? redBlackSweepWithUpdate(u, source, omega)
+                        : lexicographicSweepWithUpdate(u, source, omega));
+                if (check) {
+                    monitor.check(iterations, calculateResidual(u));
+                }
+                omega = adaptive.omega();
+            } else if (check) {
+                monitor.check(iterations, ordering == Ordering.RED_BLACK
+                        ? redBlackSweepWithResidual(u, source, omega)
+                        : lexicographicSweepWithResidual(u, source, omega));
+            } else if (ordering == Ordering.RED_BLACK) {
+                redBlackSweep(u, source, omega);
+            } else {
+                lexicographicSweep(u, source, omega);
+            }
+            afterIteration(iterations, monitor.getLastResidual());
+        }
+        afterLastIteration(iterations, monitor.getLastResidual());
+        
+        // La dernière itération est toujours contrôlée: son résidu est celui de u
+        return createSolution(u, monitor, iterations, monitor.getLastResidual()).withRelaxationFactor(omega);
+    }
+    
+    // Résolution dans un stockage de n + 2 valeurs, balayé par blocs de STREAM_CHUNK points:
+    // la mémoire utilisée sur le tas ne dépend pas de n. Toujours lexicographique; h² f est
+    // évalué une seule fois, hors tas au-delà d'un bloc, puis relu bloc par bloc à chaque balayage.
+    public Solution solve(DoubleStorage u) {
+        checkStorage(u);
+        int chunk = Math.min(STREAM_CHUNK, n);
+        try (DoubleStorage scaledSource = n <= chunk ? DoubleStorage.heap(n) : DoubleStorage.direct(n)) {
+            return solve(u, scaledSource, chunk);
+        }
+    }
+    
+    private Solution solve(DoubleStorage u, DoubleStorage scaledSource, int chunk) {
+        beginSolve();
+        double[] values = new double[chunk + 2];
+        double[] source = new double[chunk + 2];
+        
+        u.set(0, bc.getU0());
+        u.set(n + 1L, bc.getU1());
+        
+        // Second membre du schéma aux nœuds 1..n, comme sur le tas
+        long phase = phaseStart();
+        for (long start = 1; start <= n; start += chunk) {
+            int count = (int) Math.min(chunk, n - start + 1);
+            sampleSchemeSource(f, start, count, source);
+            for (int k = 0; k < count; k++) {
+                source[k] *= h * h;
+            }
+            scaledSource.set(start - 1, source, 0, count);
+        }
+        phaseEnd(SolverMetrics.Phase.ASSEMBLY, phase);
+        
+        // Approximation initiale: interpolation linéaire ou démarrage à chaud
+        for (long start = 1; start <= n; start += chunk) {
+            int count = (int) Math.min(chunk, n - start + 1);
+            for (int k = 0; k < count; k++) {
+                values[k] = initialValue((int) (start + k));
+            }
+            u.set(start, values, 0, count);
+        }
+        
+        ConvergenceMonitor monitor = startMonitor(calculateResidual(u, scaledSource, values, source));
+        AdaptiveRelaxation adaptive = strategy == RelaxationStrategy.ADAPTIVE ? new AdaptiveRelaxation(n) : null;
+        double omega = initialRelaxationFactor();
+        int iterations = 0;
+        
+        while (monitor.isRunning(iterations)) {
+            boolean measure = adaptive != null && !adaptive.isSettled();
+            double updateSquares = 0.0;
+            // Le point de gauche de chaque bloc a déjà été mis à jour par le bloc précédent
+            for (long start = 1; start <= n; start += chunk) {
+                int count = (int) Math.min(chunk, n - start + 1);
+                u.get(start - 1, values, 0, count + 2);
+                scaledSource.get(start - 1, source, 0, count);
+                for (int k = 1; k <= count; k++) {
+                    double oldValue = values[k];
+                    double newValue = 0.5 * (values[k - 1] + values[k + 1] + source[k - 1]);
+                    values[k] = (1 - omega) * oldValue + omega * newValue;
+                    if (measure) {
+                        updateSquares += (values[k] - oldValue) * (values[k] - oldValue);
+                    }
+                }
+                u.set(start, values, 1, count);
+            }
+            if (measure) {
+                adaptive.record(Math.sqrt(updateSquares));
+                omega = adaptive.omega();
             }
-            
-            error = maxChange;
             iterations++;
+            if (monitor.isCheckDue(iterations)) {
+                monitor.check(iterations, calculateResidual(u, scaledSource, values, source));
+            }
+            afterIteration(iterations, monitor.getLastResidual());
         }
+        afterLastIteration(iterations, monitor.getLastResidual());
         
-        double[] x = createXPoints();
-        double residual = calculateResidual(u);
+        return createSolution(u, monitor, iterations, monitor.getLastResidual()).withRelaxationFactor(omega);
+    }
+    
+    // Résidu maximal d'une solution en stockage, h² f étant relu plutôt que réévalué
+    private double calculateResidual(DoubleStorage u, DoubleStorage scaledSource, double[] values, double[] source) {
+        long phase = phaseStart();
+        int chunk = values.length - 2;
+        double maxResidual = 0.0;
+        for (long start = 1; start <= n; start += chunk) {
+            int count = (int) Math.min(chunk, n - start + 1);
+            u.get(start - 1, values, 0, count + 2);
+            scaledSource.get(start - 1, source, 0, count);
+            for (int k = 1; k <= count; k++) {
+                double residual = Math.abs(-(values[k - 1] - 2 * values[k] + values[k + 1]) - source[k - 1]);
+                maxResidual = Math.max(maxResidual, residual);
+            }
+        }
+        phaseEnd(SolverMetrics.Phase.RESIDUAL, phase);
+        return maxResidual / (h * h);
+    }
+    
+    // Un balayage lexicographique, sans réduction
+    private void lexicographicSweep(double[] u, double[] source, double omega) {
+        for (int i = 1; i <= n; i++) {
+            double newValue = 0.5 * (u[i - 1] + u[i + 1] + h * h * source[i]);
+            
+            // Relaxation
+            u[i] = (1 - omega) * u[i] + omega * newValue;
+        }
+    }
+    
+    // Même balayage renvoyant le résidu maximal de l'itéré obtenu: dès que u[i] est mis à
+    // jour, le résidu au point i - 1 ne dépend plus que de valeurs définitives
+    private double lexicographicSweepWithResidual(double[] u, double[] source, double omega) {
+        double maxResidual = 0.0;
         
-        return new Solution(u, x, iterations, residual);
+        for (int i = 1; i <= n; i++) {
+            double newValue = 0.5 * (u[i - 1] + u[i + 1] + h * h * source[i]);
+            u[i] = (1 - omega) * u[i] + omega * newValue;
+            
+            if (i > 1) {
+                double residual = Math.abs(-(u[i - 2] - 2 * u[i - 1] + u[i]) / (h * h) - source[i - 1]);
+                maxResidual = Math.max(maxResidual, residual);
+            }
+        }
+        
+        double last = Math.abs(-(u[n - 1] - 2 * u[n] + u[n + 1]) / (h * h) - source[n]);
+        return Math.max(maxResidual, last);
+    }
+    
+    // Même balayage renvoyant la norme euclidienne de la correction (omega adaptatif)
+    private double lexicographicSweepWithUpdate(double[] u, double[] source, double omega) {
+        double squares = 0.0;
+        
+        for (int i = 1; i <= n; i++) {
+            double oldValue = u[i];
+            double newValue = 0.5 * (u[i - 1] + u[i + 1] + h * h * source[i]);
+            u[i] = (1 - omega) * oldValue + omega * newValue;
+            squares += (u[i] - oldValue) * (u[i] - oldValue);
+        }
+        
+        return Math.sqrt(squares);
+    }
+    
+    // Un balayage rouge-noir: les points d'une même couleur ne dépendent que de l'autre couleur
+    private void redBlackSweep(double[] u, double[] source, double omega) {
+        int grain = ParallelRange.grain(pool, n, MIN_PARALLEL_GRAIN);
+        ParallelRange.forEach(pool, 1, n + 1, grain, (from, to) -> colourSweep(u, source, omega, from, to, 1));
+        ParallelRange.forEach(pool, 1, n + 1, grain, (from, to) -> colourSweep(u, source, omega, from, to, 0));
+    }
+    
+    // Balayage rouge-noir suivi du résidu maximal, calculé par blocs parallèles
+    private double redBlackSweepWithResidual(double[] u, double[] source, double omega) {
+        redBlackSweep(u, source, omega);
+        int grain = ParallelRange.grain(pool, n, MIN_PARALLEL_GRAIN);
+        return ParallelRange.max(pool, 1, n + 1, grain, (from, to) -> {
+            double maxResidual = 0.0;
+            for (int i = from; i < to; i++) {
+                double residual = Math.abs(-(u[i - 1] - 2 * u[i] + u[i + 1]) / (h * h) - source[i]);
+                maxResidual = Math.max(maxResidual, residual);
+            }
+            return maxResidual;
+        });
+    }
+    
+    // Balayage rouge-noir renvoyant la norme euclidienne de la correction
+    private double redBlackSweepWithUpdate(double[] u, double[] source, double omega) {
+        int grain = ParallelRange.grain(pool, n, MIN_PARALLEL_GRAIN);
+        double red = ParallelRange.sum(pool, 1, n + 1, grain,
+                                       (from, to) -> colourSweepWithUpdate(u, source, omega, from, to, 1));
+        double black = ParallelRange.sum(pool, 1, n + 1, grain,
+                                         (from, to) -> colourSweepWithUpdate(u, source, omega, from, to, 0));
+        return Math.sqrt(red + black);
+    }
+    
+    // Mise à jour des indices de parité donnée dans [from, to)
+    private void colourSweep(double[] u, double[] source, double omega, int from, int to, int parity) {
+        for (int i = (from & 1) == parity ? from : from + 1; i < to; i += 2) {
+            double newValue = 0.5 * (u[i - 1] + u[i + 1] + h * h * source[i]);
+            u[i] = (1 - omega) * u[i] + omega * newValue;
+        }
+    }
+    
+    // Même mise à jour renvoyant la somme des carrés des corrections du bloc
+    private double colourSweepWithUpdate(double[] u, double[] source, double omega, int from, int to,
+                                         int parity) {
+        double squares = 0.0;
+        
+        for (int i = (from & 1) == parity ? from : from + 1; i < to; i += 2) {
+            double oldValue = u[i];
+            double newValue = 0.5 * (u[i - 1] + u[i + 1] + h * h * source[i]);
+            u[i] = (1 - omega) * oldValue + omega * newValue;
+            squares += (u[i] - oldValue) * (u[i] - oldValue);
+        }
+        
+        return squares;
     }
     
     // Version avec relaxation successive (SOR)
-    public static GaussSeidelSolver withSOR(int n, MathFunction f, BoundaryConditions bc, 
+    public static GaussSeidelSolver withSOR(int n, MathFunction f, BoundaryConditions bc,
                                            double omega) {
         return new GaussSeidelSolver(n, f, bc, 1e-10, 10000, omega);
     }
+    
+    // SOR au facteur optimal analytique
+    public static GaussSeidelSolver withOptimalSOR(int n, MathFunction f, BoundaryConditions bc) {
+        return new GaussSeidelSolver(n, f, bc, 1e-10, 10000, RelaxationStrategy.OPTIMAL,
+                                     Ordering.LEXICOGRAPHIC, ForkJoinPool.commonPool());
+    }
+    
+    // SOR au facteur estimé pendant la résolution
+    public static GaussSeidelSolver withAdaptiveSOR(int n, MathFunction f, BoundaryConditions bc) {
+        return new GaussSeidelSolver(n, f, bc, 1e-10, 10000, RelaxationStrategy.ADAPTIVE,
+                                     Ordering.LEXICOGRAPHIC, ForkJoinPool.commonPool());
+    }
+    
+    // Version rouge-noir parallèle (SOR si omega != 1) sur le pool commun
+    public static GaussSeidelSolver withRedBlack(int n, MathFunction f, BoundaryConditions bc,
+                                                double omega) {
+        return new GaussSeidelSolver(n, f, bc, 1e-10, 10000, omega,
+                                     Ordering.RED_BLACK, ForkJoinPool.commonPool());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction2D;
+import com.analysis.model.BoundaryConditions2D;
+import com.analysis.model.Solution2D;
+
+import java.util.concurrent.ForkJoinPool;
+
+// SOR rouge-noir par points, ou par lignes (ordre zébré: lignes impaires puis paires,
+// chaque ligne résolue exactement par Thomas sur la matrice (-1, 4, -1)).
+// Une couleur ne dépend que de l'autre: chaque couleur est traitée par bandes de
+// lignes contiguës en parallèle, ce qui garde les trois lignes voisines en cache.
+// Arrêt selon un ConvergenceCriterion sur le vrai résidu |-Δ_h u - f| (comme en 1D): la
+// tolérance des constructeurs simples est une tolérance absolue sur ce résidu.
+public class GaussSeidelSolver2D extends FiniteDifferenceSolver2D {
+    
+    public enum Relaxation {
+        POINT_RED_BLACK, // points (i + j) impairs puis pairs
+        LINE_ZEBRA       // lignes j impaires puis paires, résolues par Thomas
+    }
+    
+    private ConvergenceCriterion criterion;
+    private final double relaxationFactor;
+    private final Relaxation relaxation;
+    // Tampon de ligne de chaque thread du pool, conservé d'un balayage à l'autre
+    private final ThreadLocal<SolverWorkspace> workspaces = ThreadLocal.withInitial(SolverWorkspace::new);
+    
+    public GaussSeidelSolver2D(int n, MathFunction2D f, BoundaryConditions2D bc) {
+        this(n, f, bc, 1e-10, 10000, 1.0);
+    }
+    
+    public GaussSeidelSolver2D(int n, MathFunction2D f, BoundaryConditions2D bc,
+                               double tolerance, int maxIterations, double relaxationFactor) {
+        this(n, f, bc, tolerance, maxIterations, relaxationFactor,
+             Relaxation.POINT_RED_BLACK, ForkJoinPool.commonPool());
+    }
+    
+    public GaussSeidelSolver2D(int n, MathFunction2D f, BoundaryConditions2D bc,
+                               double tolerance, int maxIterations, double relaxationFactor,
+                               Relaxation relaxation, ForkJoinPool pool) {
+        this(n, f, bc, ConvergenceCriterion.absolute(tolerance, maxIterations), relaxationFactor, relaxation, pool);
+    }
+    
+    public GaussSeidelSolver2D(int n, MathFunction2D f, BoundaryConditions2D bc, ConvergenceCriterion criterion,
+                               double relaxationFactor, Relaxation relaxation, ForkJoinPool pool) {
+        super(n, f, bc, pool);
+        this.relaxationFactor = relaxationFactor;
+        this.relaxation = relaxation;
+        setConvergenceCriterion(criterion);
+    }
+    
+    public ConvergenceCriterion getConvergenceCriterion() {
+        return criterion;
+    }
+    
+    public void setConvergenceCriterion(ConvergenceCriterion criterion) {
+        if (criterion == null) {
+            throw new IllegalArgumentException("Le critère de convergence est obligatoire");
+        }
+        this.criterion = criterion;
+    }
+    
+    @Override
+    public Solution2D solve() {
+        double[] u = createGrid();
+        double[] source = getSampledSource();
+        TridiagonalFactorization lines = relaxation == Relaxation.LINE_ZEBRA
+                ? TridiagonalFactorization.of(n, -1.0, 4.0, -1.0) : null;
+        int grain = rowGrain();
+        
+        int iterations = 0;
+        // Même fenêtre de stagnation automatique qu'en 1D: O(n) balayages de SOR
+        ConvergenceMonitor monitor = criterion.start(calculateResidual(u), Math.max(50, 8 * (n + 1)));
+        
+        while (monitor.isRunning(iterations)) {
+            if (lines != null) {
+                ParallelRange.forEach(pool, 1, n + 1, grain, (from, to) -> lineSweep(u, source, lines, from, to, 1));
+                ParallelRange.forEach(pool, 1, n + 1, grain, (from, to) -> lineSweep(u, source, lines, from, to, 0));
+            } else {
+                ParallelRange.forEach(pool, 1, n + 1, grain, (from, to) -> pointSweep(u, source, from, to, 1));
+                ParallelRange.forEach(pool, 1, n + 1, grain, (from, to) -> pointSweep(u, source, from, to, 0));
+            }
+            iterations++;
+            if (monitor.isCheckDue(iterations)) {
+                monitor.check(iterations, calculateResidual(u));
+            }
+        }
+        
+        return Solution2D.ofUniformGrid(u, n, iterations, monitor.getLastResidual()).withStatus(monitor.getStatus());
+    }
+    
+    // Mise à jour des points (i + j) % 2 == parity des lignes [from, to)
+    private void pointSweep(double[] u, double[] source, int from, int to, int parity) {
+        double h2 = h * h;
+        double omega = relaxationFactor;
+        
+        for (int j = from; j < to; j++) {
+            int row = j * stride;
+            int first = ((1 + j) & 1) == parity ? 1 : 2;
+            for (int k = row + first; k <= row + n; k += 2) {
+                double newValue = 0.25 * (u[k - 1] + u[k + 1] + u[k - stride] + u[k + stride] + h2 * source[k]);
+                u[k] = (1 - omega) * u[k] + omega * newValue;
+            }
+        }
+    }
+    
+    // Relaxation des lignes j % 2 == parity de [from, to): chaque ligne est résolue
+    // exactement, les lignes voisines (de l'autre couleur) étant fixées
+    private void lineSweep(double[] u, double[] source, TridiagonalFactorization lines,
+                           int from, int to, int parity) {
+        double h2 = h * h;
+        double omega = relaxationFactor;
+        double[] line = workspaces.get().vector(0, n);
+        
+        for (int j = (from & 1) == parity ? from : from + 1; j < to; j += 2) {
+            int row = j * stride;
+            for (int i = 1; i <= n; i++) {
+                int k = row + i;
+                line[i - 1] = h2 * source[k] + u[k - stride] + u[k + stride];
+            }
+            line[0] += u[row];
+            line[n - 1] += u[row + n + 1];
+            lines.solve(line, line);
+            
+            for (int i = 1; i <= n; i++) {
+                int k = row + i;
+                u[k] = (1 - omega) * u[k] + omega * line[i - 1];
+            }
+        }
+    }
+    
+    // Version avec relaxation successive (SOR) rouge-noir sur le pool commun
+    public static GaussSeidelSolver2D withSOR(int n, MathFunction2D f, BoundaryConditions2D bc, double omega) {
+        return new GaussSeidelSolver2D(n, f, bc, 1e-10, 10000, omega);
+    }
+    
+    // Version par lignes (ordre zébré) sur le pool commun
+    public static GaussSeidelSolver2D withLineRelaxation(int n, MathFunction2D f, BoundaryConditions2D bc,
+                                                         double omega) {
+        return new GaussSeidelSolver2D(n, f, bc, 1e-10, 10000, omega,
+                                       Relaxation.LINE_ZEBRA, ForkJoinPool.commonPool());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.analysis.solver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Événement JFR émis par les solveurs itératifs après chaque lot d'itérations
+@Name("com.analysis.solver.IterationBatch")
+@Label("Lot d'itérations")
+@Category("Différences finies")
+final class IterationBatchEvent extends Event {
+    @Label("Solveur")
+    String solver;
+    
+    @Label("Première itération")
+    int firstIteration;
+    
+    @Label("Nombre d'itérations")
+    int count;
+    
+    @Label("Critère d'arrêt")
+    double error;
+}
\ No newline at end of file
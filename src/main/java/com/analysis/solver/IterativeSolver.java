@@ -0,0 +1,73 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.storage.DoubleStorage;
+
+// Base des solveurs itératifs 1D: le critère d'arrêt est interchangeable et la raison
+// de l'arrêt est rapportée par Solution.getStatus(). Sans approximation initiale fournie,
+// les itérations partent de l'interpolation linéaire des conditions aux limites.
+public abstract class IterativeSolver extends FiniteDifferenceSolver {
+    private ConvergenceCriterion criterion;
+    private Solution initialGuess; // null: interpolation linéaire des bords
+    
+    public IterativeSolver(int n, MathFunction f, BoundaryConditions bc, ConvergenceCriterion criterion) {
+        super(n, f, bc);
+        this.criterion = criterion;
+    }
+    
+    public ConvergenceCriterion getConvergenceCriterion() {
+        return criterion;
+    }
+    
+    public void setConvergenceCriterion(ConvergenceCriterion criterion) {
+        if (criterion == null) {
+            throw new IllegalArgumentException("Le critère de convergence est obligatoire");
+        }
+        this.criterion = criterion;
+    }
+    
+    // Démarrage à chaud des résolutions suivantes: solution précédente sur la même grille
+    // (valeurs reprises telles quelles) ou sur une autre grille de [0, 1], interpolée aux
+    // nœuds x_i = i h par Lagrange cubique sur quatre points (Solution.interpolate).
+    // Les valeurs aux bords restent celles de bc.
+    // Avec une tolérance relative, r0 est alors le résidu de cette approximation.
+    public void setInitialGuess(Solution initialGuess) {
+        this.initialGuess = initialGuess;
+    }
+    
+    public Solution getInitialGuess() {
+        return initialGuess;
+    }
+    
+    // Approximation initiale au nœud intérieur i (1 <= i <= n)
+    protected double initialValue(int i) {
+        if (initialGuess == null) {
+            return bc.getU0() + (bc.getU1() - bc.getU0()) * i * h;
+        }
+        if (initialGuess.isUniformGrid() && initialGuess.length() == n + 2L) {
+            return initialGuess.getValue(i);
+        }
+        return initialGuess.interpolate(i * h);
+    }
+    
+    protected ConvergenceMonitor startMonitor(double initialResidual) {
+        return criterion.start(initialResidual, automaticStagnationWindow());
+    }
+    
+    // Itérations sans nouveau minimum du résidu avant de conclure à la stagnation, quand le
+    // critère ne l'impose pas: le résidu max de SOR peut rester O(n) balayages au-dessus de
+    // son minimum (ordre de grandeur mesuré: 4n au facteur optimal)
+    protected int automaticStagnationWindow() {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(50, 8 * (n + 1L)));
+    }
+    
+    protected Solution createSolution(double[] u, ConvergenceMonitor monitor, int iterations, double residual) {
+        return createSolution(u, iterations, residual).withStatus(monitor.getStatus());
+    }
+    
+    protected Solution createSolution(DoubleStorage u, ConvergenceMonitor monitor, int iterations, double residual) {
+        return createSolution(u, iterations, residual).withStatus(monitor.getStatus());
+    }
+}
\ No newline at end of file
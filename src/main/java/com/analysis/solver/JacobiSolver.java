@@ -0,0 +1,181 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Jacobi à deux tampons: chaque balayage lit l'itéré courant et écrit dans l'autre tableau,
+// sans dépendance entre points, donc parallélisable par blocs et vectorisable.
+// L'accélération de Tchebychev (semi-itérative) exploite le spectre connu de la matrice
+// d'itération de Jacobi pour (-1, 2, -1), valeurs propres cos(kπh): avec ρ = cos(πh),
+// u^{k+1} = ω_{k+1} (J u^k - u^{k-1}) + u^{k-1}, ω_1 = 1, ω_2 = 1 / (1 - ρ²/2),
+// ω_{k+1} = 1 / (1 - ρ² ω_k / 4). u^{k+1} remplace u^{k-1} point par point, ce qui
+// garde deux tampons. Convergence en O(n) balayages comme SOR optimal, au lieu de O(n²).
+// Les erreurs d'arrondi des modes extrêmes (|μ| = ρ) ne sont pas amorties par la récurrence:
+// le résidu maximal plafonne plus haut qu'avec SOR (de l'ordre de 1e-4 |f| pour n = 10^4).
+public class JacobiSolver extends IterativeSolver {
+    // Taille minimale d'un bloc parallèle
+    private static final int MIN_PARALLEL_GRAIN = 1 << 14;
+    
+    public enum Acceleration {
+        NONE,      // Jacobi simple
+        CHEBYSHEV  // semi-itératif de Tchebychev, ρ = cos(πh)
+    }
+    
+    private final Acceleration acceleration;
+    private final ForkJoinPool pool;
+    
+    // Second tampon de solve(), conservé pour l'appel suivant: le premier est cédé à la
+    // Solution (sans copie)
+    private double[] spare;
+    
+    // Tolérance relative par défaut: le résidu absolu plafonne selon n et |f| (voir plus haut)
+    public JacobiSolver(int n, MathFunction f, BoundaryConditions bc) {
+        this(n, f, bc, ConvergenceCriterion.relative(1e-6, 10000), Acceleration.CHEBYSHEV,
+             ForkJoinPool.commonPool());
+    }
+    
+    public JacobiSolver(int n, MathFunction f, BoundaryConditions bc,
+                        double tolerance, int maxIterations, Acceleration acceleration, ForkJoinPool pool) {
+        this(n, f, bc, ConvergenceCriterion.absolute(tolerance, maxIterations), acceleration, pool);
+    }
+    
+    public JacobiSolver(int n, MathFunction f, BoundaryConditions bc, ConvergenceCriterion criterion,
+                        Acceleration acceleration, ForkJoinPool pool) {
+        super(n, f, bc, criterion);
+        this.acceleration = acceleration;
+        this.pool = pool;
+    }
+    
+    // Rayon spectral de la matrice d'itération de Jacobi pour n points intérieurs
+    public static double spectralRadius(int n) {
+        return Math.cos(Math.PI / (n + 1));
+    }
+    
+    @Override
+    public Solution solve() {
+        beginSolve();
+        double[] u = new double[n + 2];
+        double[] other = spare != null && spare.length == n + 2 ? spare : new double[n + 2];
+        ConvergenceMonitor monitor = initialize(u, other);
+        int iterations = iterate(u, other, monitor);
+        
+        spare = other;
+        return createSolution(u, monitor, iterations, monitor.getLastResidual());
+    }
+    
+    // Écrit la solution complète (n + 2 valeurs, bords compris) dans u, le second tampon
+    // étant pris dans l'espace de travail: rien n'est alloué une fois celui-ci dimensionné.
+    // Itérations et résidu sont rangés dans l'espace de travail
+    public void solve(SolverWorkspace workspace, double[] u) {
+        if (u.length != n + 2) {
+            throw new IllegalArgumentException("Le tableau de sortie doit contenir n + 2 valeurs");
+        }
+        beginSolve();
+        double[] other = workspace.vector(0, n + 2);
+        ConvergenceMonitor monitor = initialize(u, other);
+        int iterations = iterate(u, other, monitor);
+        
+        workspace.record(iterations, monitor.getLastResidual());
+        endSolve(iterations, monitor.getLastResidual());
+    }
+    
+    // Bords, approximation initiale (interpolation linéaire ou démarrage à chaud) et résidu
+    // de celle-ci
+    private ConvergenceMonitor initialize(double[] u, double[] other) {
+        u[0] = other[0] = bc.getU0();
+        u[n + 1] = other[n + 1] = bc.getU1();
+        for (int i = 1; i <= n; i++) {
+            u[i] = initialValue(i);
+        }
+        double[] source = getSchemeSource();
+        int grain = ParallelRange.grain(pool, n, MIN_PARALLEL_GRAIN);
+        return startMonitor(2 / (h * h) * ParallelRange.max(pool, 1, n + 1, grain,
+                                                            (from, to) -> residual(u, source, from, to)));
+    }
+    
+    // Itérations jusqu'à l'arrêt; l'itéré rendu est toujours dans u
+    private int iterate(double[] u, double[] other, ConvergenceMonitor monitor) {
+        double[] source = getSchemeSource();
+        double rho2 = acceleration == Acceleration.CHEBYSHEV ? Math.pow(spectralRadius(n), 2) : 0.0;
+        int grain = ParallelRange.grain(pool, n, MIN_PARALLEL_GRAIN);
+        double[] current = u;
+        double[] next = other;
+        double omega = 1.0;
+        int iterations = 0;
+        
+        // Un balayage contrôlé mesure le résidu de l'itéré qu'il produit: pas de balayage
+        // de plus une fois la convergence atteinte
+        while (monitor.isRunning(iterations)) {
+            iterations++;
+            boolean check = monitor.isCheckDue(iterations);
+            double residual = sweep(current, next, source, omega, grain, check);
+            double[] swap = current;
+            current = next;
+            next = swap;
+            if (check) {
+                monitor.check(iterations, residual);
+            }
+            afterIteration(iterations, monitor.getLastResidual());
+            
+            if (acceleration == Acceleration.CHEBYSHEV) {
+                omega = iterations == 1 ? 1 / (1 - rho2 / 2) : 1 / (1 - rho2 * omega / 4);
+            }
+        }
+        afterLastIteration(iterations, monitor.getLastResidual());
+        
+        if (current != u) {
+            System.arraycopy(current, 1, u, 1, n);
+        }
+        return iterations;
+    }
+    
+    // Un balayage parallèle de u vers target; renvoie le résidu maximal de target si measure.
+    // Dans un bloc, le résidu au point i - 1 est calculé dès que target[i] est écrit; aux
+    // deux bords de chaque bloc, qui dépendent des blocs voisins, il l'est ensuite.
+    private double sweep(double[] u, double[] target, double[] source, double omega, int grain,
+                         boolean measure) {
+        double max = ParallelRange.max(pool, 1, n + 1, grain,
+                                       (from, to) -> sweep(u, target, source, omega, from, to, measure));
+        if (measure) {
+            // Points split - 1 et split de part et d'autre de chaque frontière, puis 1 et n
+            max = Math.max(max, ParallelRange.maxAtSplits(1, n + 1, grain,
+                                                          split -> residual(target, source, split - 1, split + 1)));
+            max = Math.max(max, Math.max(residual(target, source, 1, 2), residual(target, source, n, n + 1)));
+        }
+        return 2 / (h * h) * max;
+    }
+    
+    // Les tests sur omega et measure sont invariants: le JIT les sort de la boucle
+    private double sweep(double[] u, double[] target, double[] source, double omega, int from, int to,
+                         boolean measure) {
+        double h2 = h * h;
+        boolean plain = omega == 1.0;
+        double max = 0.0;
+        for (int i = from; i < to; i++) {
+            double jacobi = 0.5 * (u[i - 1] + u[i + 1] + h2 * source[i]);
+            // Premier pas (ou sans accélération): target ne contient pas encore u^{k-1}
+            target[i] = plain ? jacobi : target[i] + omega * (jacobi - target[i]);
+            if (measure && i > from + 1) {
+                max = Math.max(max, Math.abs(0.5 * (target[i - 2] + target[i] + h2 * source[i - 1]) - target[i - 1]));
+            }
+        }
+        return max;
+    }
+    
+    // max |Ju - u| sur [from, to), soit le résidu |f + u''| multiplié par h² / 2
+    private double residual(double[] u, double[] source, int from, int to) {
+        double h2 = h * h;
+        double max = 0.0;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, Math.abs(0.5 * (u[i - 1] + u[i + 1] + h2 * source[i]) - u[i]));
+        }
+        return max;
+    }
+    
+    public Acceleration getAcceleration() {
+        return acceleration;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.analysis.solver;
+
+import com.analysis.model.SolverMetrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// Accumule les mesures d'une résolution en cours (un enregistreur par appel à solve())
+final class MetricsRecorder {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    
+    private final long[] phaseNanos = new long[SolverMetrics.Phase.values().length];
+    private final long startNanos;
+    private final long startAllocated;
+    private long sweeps;
+    private long functionEvaluations;
+    
+    MetricsRecorder(long startNanos) {
+        this.startNanos = startNanos;
+        this.startAllocated = allocatedBytes();
+    }
+    
+    void addPhase(SolverMetrics.Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+    
+    void addSweeps(long count) {
+        sweeps += count;
+    }
+    
+    void addEvaluations(long count) {
+        functionEvaluations += count;
+    }
+    
+    // Mesures d'une résolution imbriquée: phases, balayages et évaluations (durée totale et
+    // allocations sont mesurées par cet enregistreur)
+    void addNested(SolverMetrics metrics) {
+        for (SolverMetrics.Phase phase : SolverMetrics.Phase.values()) {
+            phaseNanos[phase.ordinal()] += metrics.getPhaseNanos(phase);
+        }
+        sweeps += metrics.getSweeps();
+        functionEvaluations += metrics.getFunctionEvaluations();
+    }
+    
+    // Le temps non attribué à une autre phase est compté dans SOLVE
+    SolverMetrics finish(long endNanos) {
+        long total = endNanos - startNanos;
+        long attributed = 0;
+        for (long nanos : phaseNanos) {
+            attributed += nanos;
+        }
+        phaseNanos[SolverMetrics.Phase.SOLVE.ordinal()] += Math.max(0, total - attributed);
+        long allocated = allocatedBytes();
+        return new SolverMetrics(phaseNanos, total, sweeps, functionEvaluations,
+                                 allocated < 0 || startAllocated < 0 ? -1 : allocated - startAllocated);
+    }
+    
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+package com.analysis.solver;
+
+import java.util.Arrays;
+
+// Hiérarchie de grilles emboîtées pour -u'' = f: le niveau 0 est la grille fine,
+// chaque niveau grossier garde un point sur deux, n_c = n_f / 2 points intérieurs (pas double).
+// Pour n + 1 non divisible par 2^l, le dernier intervalle d'un niveau, du point n_l au bord
+// x = 1, est plus court que le pas: ce point prend le stencil à trois points non uniforme,
+// les transferts y interpolent selon les abscisses et la restriction pondère par la longueur
+// des cellules. Avec n = 2^k - 1 toutes les grilles restent uniformes.
+// Le niveau le plus grossier est résolu exactement par l'algorithme de Thomas.
+final class MultigridHierarchy {
+    private static final int MIN_COARSE_POINTS = 3;
+    
+    private final int[] sizes;
+    private final double[] steps;
+    private final double[] lastSteps; // distance du point n_l au bord x = 1 (<= pas)
+    private final double[][] u;
+    private final double[][] rhs;
+    private final double[][] residual;
+    private final TridiagonalFactorization coarseFactorization;
+    
+    private final int preSmoothing;
+    private final int postSmoothing;
+    private final int cyclesPerLevel; // 1 pour un V-cycle, 2 pour un W-cycle
+    private final double omega;
+    
+    MultigridHierarchy(int n, int preSmoothing, int postSmoothing, int cyclesPerLevel, double omega) {
+        int levels = 1;
+        for (int m = n; m / 2 >= MIN_COARSE_POINTS; m = m / 2) {
+            levels++;
+        }
+        
+        this.sizes = new int[levels];
+        this.steps = new double[levels];
+        this.lastSteps = new double[levels];
+        this.u = new double[levels][];
+        this.rhs = new double[levels][];
+        this.residual = new double[levels][];
+        
+        sizes[0] = n;
+        steps[0] = lastSteps[0] = 1.0 / (n + 1);
+        for (int l = 1; l < levels; l++) {
+            int fine = sizes[l - 1];
+            sizes[l] = fine / 2;
+            steps[l] = 2 * steps[l - 1];
+            // n_f impair: le point n_f disparaît, le dernier intervalle s'allonge d'un pas fin
+            lastSteps[l] = fine % 2 == 1 ? steps[l - 1] + lastSteps[l - 1] : lastSteps[l - 1];
+        }
+        for (int l = 0; l < levels; l++) {
+            u[l] = new double[sizes[l] + 2];
+            rhs[l] = new double[sizes[l] + 2];
+            residual[l] = new double[sizes[l] + 2];
+        }
+        
+        this.coarseFactorization = coarseFactorization(levels - 1);
+        
+        this.preSmoothing = preSmoothing;
+        this.postSmoothing = postSmoothing;
+        this.cyclesPerLevel = cyclesPerLevel;
+        this.omega = omega;
+    }
+    
+    int levels() {
+        return sizes.length;
+    }
+    
+    int size(int level) {
+        return sizes[level];
+    }
+    
+    double step(int level) {
+        return steps[level];
+    }
+    
+    // Longueur du dernier intervalle du niveau (égale au pas sur une grille uniforme)
+    double lastStep(int level) {
+        return lastSteps[level];
+    }
+    
+    // Inconnues du niveau (indices 0..n+1, bords compris)
+    double[] solution(int level) {
+        return u[level];
+    }
+    
+    // Second membre f du niveau aux mêmes indices que solution(level)
+    double[] rightHandSide(int level) {
+        return rhs[level];
+    }
+    
+    // Un cycle multigrille sur le niveau donné, à partir de l'approximation courante
+    void cycle(int level) {
+        double[] ul = u[level];
+        double[] fl = rhs[level];
+        double hl = steps[level];
+        int nl = sizes[level];
+        
+        if (level == sizes.length - 1) {
+            solveCoarsest(ul, fl, hl, nl);
+            return;
+        }
+        
+        double dl = lastSteps[level];
+        for (int s = 0; s < preSmoothing; s++) {
+            forwardSweep(ul, fl, hl, dl, nl);
+        }
+        
+        computeResidual(ul, fl, residual[level], hl, dl, nl);
+        restrict(level);
+        
+        double[] coarse = u[level + 1];
+        Arrays.fill(coarse, 0.0);
+        for (int c = 0; c < cyclesPerLevel; c++) {
+            cycle(level + 1);
+        }
+        prolongateAndCorrect(level);
+        
+        for (int s = 0; s < postSmoothing; s++) {
+            backwardSweep(ul, fl, hl, dl, nl);
+        }
+    }
+    
+    // Interpolation linéaire d'une solution complète du niveau grossier vers le niveau fin
+    // (bords du niveau fin conservés), utilisée par le multigrille complet
+    void interpolateSolution(int coarseLevel) {
+        double[] coarse = u[coarseLevel];
+        double[] fine = u[coarseLevel - 1];
+        int nc = sizes[coarseLevel];
+        int nf = sizes[coarseLevel - 1];
+        for (int j = 1; j <= nc; j++) {
+            fine[2 * j] = coarse[j];
+        }
+        for (int j = 0; j < nc; j++) {
+            double left = j == 0 ? fine[0] : coarse[j];
+            fine[2 * j + 1] = 0.5 * (left + coarse[j + 1]);
+        }
+        if (nf % 2 == 1) {
+            double w = lastWeight(coarseLevel - 1);
+            fine[nf] = w * coarse[nc] + (1 - w) * fine[nf + 1];
+        }
+    }
+    
+    // Poids du point grossier n_c pour le point fin n_f (n_f impair), situé à un pas fin de
+    // lui et à lastStep(fineLevel) du bord: 1/2 sur une grille uniforme
+    private double lastWeight(int fineLevel) {
+        return lastSteps[fineLevel] / (steps[fineLevel] + lastSteps[fineLevel]);
+    }
+    
+    // Gauss-Seidel / SOR, balayage croissant
+    private void forwardSweep(double[] ul, double[] fl, double hl, double dl, int nl) {
+        double h2 = hl * hl;
+        int regular = dl == hl ? nl : nl - 1;
+        for (int i = 1; i <= regular; i++) {
+            double newValue = 0.5 * (ul[i - 1] + ul[i + 1] + h2 * fl[i]);
+            ul[i] = (1 - omega) * ul[i] + omega * newValue;
+        }
+        if (regular < nl) {
+            relaxLast(ul, fl, hl, dl, nl);
+        }
+    }
+    
+    // Balayage décroissant: rend le cycle symétrique (utile comme préconditionneur)
+    private void backwardSweep(double[] ul, double[] fl, double hl, double dl, int nl) {
+        double h2 = hl * hl;
+        int regular = dl == hl ? nl : nl - 1;
+        if (regular < nl) {
+            relaxLast(ul, fl, hl, dl, nl);
+        }
+        for (int i = regular; i >= 1; i--) {
+            double newValue = 0.5 * (ul[i - 1] + ul[i + 1] + h2 * fl[i]);
+            ul[i] = (1 - omega) * ul[i] + omega * newValue;
+        }
+    }
+    
+    // Point n_l, voisins à hl (gauche) et dl (bord): 2 / (hl + dl) [(u_n - u_n-1) / hl + (u_n - u_n+1) / dl] = f
+    private void relaxLast(double[] ul, double[] fl, double hl, double dl, int nl) {
+        double newValue = (0.5 * (hl + dl) * hl * dl * fl[nl] + dl * ul[nl - 1] + hl * ul[nl + 1]) / (hl + dl);
+        ul[nl] = (1 - omega) * ul[nl] + omega * newValue;
+    }
+    
+    private static void computeResidual(double[] ul, double[] fl, double[] rl, double hl, double dl, int nl) {
+        double invH2 = 1.0 / (hl * hl);
+        int regular = dl == hl ? nl : nl - 1;
+        for (int i = 1; i <= regular; i++) {
+            rl[i] = fl[i] + (ul[i - 1] - 2 * ul[i] + ul[i + 1]) * invH2;
+        }
+        if (regular < nl) {
+            rl[nl] = fl[nl] - 2 / (hl + dl) * ((ul[nl] - ul[nl - 1]) / hl + (ul[nl] - ul[nl + 1]) / dl);
+        }
+    }
+    
+    // Restriction par pondération complète (1/4, 1/2, 1/4); au dernier point grossier, les
+    // résidus fins sont pondérés par la prolongation et la longueur de leur cellule
+    private void restrict(int fineLevel) {
+        double[] fine = residual[fineLevel];
+        double[] coarse = rhs[fineLevel + 1];
+        int nf = sizes[fineLevel];
+        int nc = sizes[fineLevel + 1];
+        for (int j = 1; j < nc; j++) {
+            int i = 2 * j;
+            coarse[j] = 0.25 * fine[i - 1] + 0.5 * fine[i] + 0.25 * fine[i + 1];
+        }
+        
+        double hf = steps[fineLevel];
+        double df = lastSteps[fineLevel];
+        double cell = 2 * nc == nf ? 0.5 * (hf + df) : hf; // cellule du point fin 2 n_c
+        double sum = 0.5 * hf * fine[2 * nc - 1] + cell * fine[2 * nc];
+        if (nf % 2 == 1) {
+            // Poids lastWeight, cellule (hf + df) / 2
+            sum += 0.5 * df * fine[nf];
+        }
+        coarse[nc] = sum / (0.5 * (steps[fineLevel + 1] + lastSteps[fineLevel + 1]));
+        coarse[0] = 0.0;
+        coarse[nc + 1] = 0.0;
+    }
+    
+    // Prolongation linéaire de la correction grossière (nulle aux bords)
+    private void prolongateAndCorrect(int fineLevel) {
+        double[] coarse = u[fineLevel + 1];
+        double[] fine = u[fineLevel];
+        int nf = sizes[fineLevel];
+        int nc = sizes[fineLevel + 1];
+        for (int j = 0; j < nc; j++) {
+            if (j > 0) {
+                fine[2 * j] += coarse[j];
+            }
+            double left = j == 0 ? 0.0 : coarse[j];
+            fine[2 * j + 1] += 0.5 * (left + coarse[j + 1]);
+        }
+        fine[2 * nc] += coarse[nc];
+        if (nf % 2 == 1) {
+            fine[nf] += lastWeight(fineLevel) * coarse[nc];
+        }
+    }
+    
+    // Matrice du niveau multipliée par h²: (-1, 2, -1), sauf la dernière ligne si le dernier
+    // intervalle est plus court
+    private TridiagonalFactorization coarseFactorization(int level) {
+        int nl = sizes[level];
+        double hl = steps[level];
+        double dl = lastSteps[level];
+        if (dl == hl) {
+            return TridiagonalFactorization.of(nl);
+        }
+        double[] lower = new double[nl];
+        double[] diagonal = new double[nl];
+        double[] upper = new double[nl];
+        Arrays.fill(lower, -1.0);
+        Arrays.fill(diagonal, 2.0);
+        Arrays.fill(upper, -1.0);
+        lower[nl - 1] = -2 * hl / (hl + dl);
+        diagonal[nl - 1] = 2 * hl / dl;
+        return TridiagonalFactorization.factor(lower, diagonal, upper);
+    }
+    
+    // Résolution exacte (Thomas) de (-u[i-1] + 2u[i] - u[i+1]) = h² f[i], bords fixés
+    // (dernière ligne non uniforme: couplage 2 h² / (dl (hl + dl)) au bord)
+    private void solveCoarsest(double[] ul, double[] fl, double hl, int nl) {
+        double h2 = hl * hl;
+        double dl = lastSteps[sizes.length - 1];
+        for (int i = 1; i <= nl; i++) {
+            ul[i] = h2 * fl[i];
+        }
+        ul[1] += ul[0];
+        ul[nl] += dl == hl ? ul[nl + 1] : 2 * h2 / (dl * (hl + dl)) * ul[nl + 1];
+        coarseFactorization.solve(ul, 1, ul, 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.model.SolverMetrics;
+
+// Multigrille géométrique: cycles V ou W avec lissage Gauss-Seidel/SOR,
+// restriction par pondération complète et prolongation linéaire.
+// Tout n est grossi jusqu'à quelques points; lorsque n + 1 n'est pas divisible par une
+// puissance de 2, le dernier intervalle des niveaux grossiers est plus court que le pas
+// (voir MultigridHierarchy).
+public class MultigridSolver extends IterativeSolver {
+    // Un cycle qui réduit le résidu de moins de ce facteur a atteint la précision machine
+    private static final double STAGNATION_RATIO = 0.9;
+    
+    public enum CycleType {
+        V(1), W(2);
+        
+        private final int recursions;
+        
+        CycleType(int recursions) {
+            this.recursions = recursions;
+        }
+    }
+    
+    private final CycleType cycleType;
+    private final int preSmoothing;
+    private final int postSmoothing;
+    private final double relaxationFactor;
+    private final boolean fullMultigrid;
+    
+    private int levels;
+    
+    public MultigridSolver(int n, MathFunction f, BoundaryConditions bc) {
+        this(n, f, bc, CycleType.V, 2, 2, 1e-8, 50);
+    }
+    
+    public MultigridSolver(int n, MathFunction f, BoundaryConditions bc, CycleType cycleType,
+                           int preSmoothing, int postSmoothing, double tolerance, int maxCycles) {
+        this(n, f, bc, cycleType, preSmoothing, postSmoothing, tolerance, maxCycles, 1.0, true);
+    }
+    
+    public MultigridSolver(int n, MathFunction f, BoundaryConditions bc, CycleType cycleType,
+                           int preSmoothing, int postSmoothing, double tolerance, int maxCycles,
+                           double relaxationFactor, boolean fullMultigrid) {
+        super(n, f, bc, ConvergenceCriterion.absolute(tolerance, maxCycles).withStagnation(1, STAGNATION_RATIO));
+        this.cycleType = cycleType;
+        this.preSmoothing = preSmoothing;
+        this.postSmoothing = postSmoothing;
+        this.relaxationFactor = relaxationFactor;
+        this.fullMultigrid = fullMultigrid;
+    }
+    
+    @Override
+    public Solution solve() {
+        beginSolve();
+        MultigridHierarchy hierarchy = new MultigridHierarchy(
+                n, preSmoothing, postSmoothing, cycleType.recursions, relaxationFactor);
+        levels = hierarchy.levels();
+        
+        // Second membre et conditions aux limites sur tous les niveaux
+        for (int l = 0; l < hierarchy.levels(); l++) {
+            double[] fl = hierarchy.rightHandSide(l);
+            double hl = hierarchy.step(l);
+            if (l == 0) {
+                System.arraycopy(getSchemeSource(), 0, fl, 0, n + 2);
+            } else {
+                long start = phaseStart();
+                int nl = hierarchy.size(l);
+                if (getScheme() == Scheme.SECOND_ORDER) {
+                    f.sample(hl, hl, nl, fl, 1);
+                    recordEvaluations(nl);
+                } else {
+                    // Même schéma sur les niveaux grossiers (multigrille complet)
+                    f.sample(0.0, hl, nl + 2, fl, 0);
+                    if (hierarchy.lastStep(l) != hl) {
+                        // Bord droit à x = 1, pas à (nl + 1) hl
+                        fl[nl + 1] = f.apply(1.0);
+                        recordEvaluations(1);
+                    }
+                    recordEvaluations(nl + 2);
+                    applyCompactWeighting(fl, 1, nl + 1);
+                }
+                phaseEnd(SolverMetrics.Phase.ASSEMBLY, start);
+            }
+            double[] ul = hierarchy.solution(l);
+            ul[0] = bc.getU0();
+            ul[hierarchy.size(l) + 1] = bc.getU1();
+        }
+        
+        double[] u = hierarchy.solution(0);
+        int cycles = 0;
+        
+        // Résidu de l'approximation initiale: nulle à l'intérieur pour le multigrille
+        // complet, interpolation linéaire des bords ou démarrage à chaud sinon. Une
+        // approximation fournie remplace la phase de multigrille complet.
+        boolean nested = fullMultigrid && getInitialGuess() == null;
+        if (!nested) {
+            for (int i = 1; i <= n; i++) {
+                u[i] = initialValue(i);
+            }
+        }
+        ConvergenceMonitor monitor = startMonitor(calculateResidual(u));
+        
+        if (nested && monitor.isRunning(cycles)) {
+            // Multigrille complet: résolution grossière puis un cycle par niveau en remontant
+            int coarsest = hierarchy.levels() - 1;
+            hierarchy.cycle(coarsest);
+            for (int l = coarsest - 1; l >= 0; l--) {
+                hierarchy.interpolateSolution(l + 1);
+                hierarchy.cycle(l);
+            }
+            cycles++;
+            if (monitor.isCheckDue(cycles)) {
+                monitor.check(cycles, calculateResidual(u));
+            }
+            afterIteration(cycles, monitor.getLastResidual());
+        }
+        
+        while (monitor.isRunning(cycles)) {
+            hierarchy.cycle(0);
+            cycles++;
+            if (monitor.isCheckDue(cycles)) {
+                monitor.check(cycles, calculateResidual(u));
+            }
+            afterIteration(cycles, monitor.getLastResidual());
+        }
+        afterLastIteration(cycles, monitor.getLastResidual());
+        
+        return createSolution(u, monitor, cycles, monitor.getLastResidual());
+    }
+    
+    // Nombre de niveaux de la dernière résolution (0 avant la première)
+    public int getLevels() {
+        return levels;
+    }
+}
\ No newline at end of file
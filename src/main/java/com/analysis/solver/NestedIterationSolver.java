@@ -0,0 +1,85 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.model.SolverMetrics;
+
+import java.util.Arrays;
+
+// Itérations emboîtées: le problème est résolu sur des grilles de plus en plus fines
+// (n_{l+1} = (n_l - 1) / 2 comme pour le multigrille), de la plus grossière à la grille
+// demandée, et chaque solution interpolée sert d'approximation initiale au niveau suivant.
+// La grille fine part ainsi d'une erreur de l'ordre de l'erreur de discrétisation du
+// niveau grossier au lieu de l'interpolation linéaire des bords.
+public class NestedIterationSolver extends FiniteDifferenceSolver {
+    // Plus petite grille résolue: en dessous, le gain ne couvre plus le coût d'un niveau
+    private static final int MIN_COARSE_POINTS = 15;
+    
+    // Solveur itératif d'un niveau, par exemple GaussSeidelSolver::withOptimalSOR
+    @FunctionalInterface
+    public interface LevelSolverFactory {
+        IterativeSolver create(int n, MathFunction f, BoundaryConditions bc);
+    }
+    
+    private final LevelSolverFactory factory;
+    private final int[] levelSizes; // du plus grossier au plus fin (n)
+    private int[] levelIterations;  // itérations par niveau de la dernière résolution
+    
+    public NestedIterationSolver(int n, MathFunction f, BoundaryConditions bc, LevelSolverFactory factory) {
+        this(n, f, bc, factory, Integer.MAX_VALUE);
+    }
+    
+    // maxLevels: nombre de grilles au plus, la grille fine comprise (1: pas d'emboîtement)
+    public NestedIterationSolver(int n, MathFunction f, BoundaryConditions bc, LevelSolverFactory factory,
+                                 int maxLevels) {
+        super(n, f, bc);
+        if (maxLevels < 1) {
+            throw new IllegalArgumentException("Il faut au moins un niveau");
+        }
+        this.factory = factory;
+        int levels = 1;
+        for (int m = n; levels < maxLevels && (m - 1) / 2 >= MIN_COARSE_POINTS; m = (m - 1) / 2) {
+            levels++;
+        }
+        this.levelSizes = new int[levels];
+        int m = n;
+        for (int l = levels - 1; l >= 0; l--) {
+            levelSizes[l] = m;
+            m = (m - 1) / 2;
+        }
+    }
+    
+    // La solution rapportée est celle de la grille fine (itérations du niveau fin). Les
+    // mesures, écouteurs et événements JFR portent sur toute la résolution: phases,
+    // balayages et évaluations de tous les niveaux y sont cumulés
+    @Override
+    public Solution solve() {
+        beginSolve();
+        int[] iterations = new int[levelSizes.length];
+        Solution solution = null;
+        
+        for (int l = 0; l < levelSizes.length; l++) {
+            IterativeSolver level = factory.create(levelSizes[l], f, bc);
+            level.setMetricsEnabled(isRecording());
+            level.setScheme(getScheme());
+            level.setInitialGuess(solution);
+            solution = level.solve();
+            iterations[l] = solution.getIterations();
+            recordNested(solution.getMetrics());
+        }
+        
+        levelIterations = iterations;
+        SolverMetrics metrics = endSolve(solution.getIterations(), solution.getResidual());
+        return solution.getMetrics() == null && metrics == null ? solution : solution.withMetrics(metrics);
+    }
+    
+    public int[] getLevelSizes() {
+        return Arrays.copyOf(levelSizes, levelSizes.length);
+    }
+    
+    // Itérations de chaque niveau lors de la dernière résolution (null avant la première)
+    public int[] getLevelIterations() {
+        return levelIterations == null ? null : Arrays.copyOf(levelIterations, levelIterations.length);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+
+import java.util.Arrays;
+
+// -u'' = f sur une grille quelconque 0 = x_0 < x_1 < ... < x_n+1 = 1, pas h_i = x_i+1 - x_i.
+// Ligne i multipliée par (h_i-1 + h_i) / 2 pour rendre la matrice symétrique:
+//   -u_i-1 / h_i-1 + (1 / h_i-1 + 1 / h_i) u_i - u_i+1 / h_i = (h_i-1 + h_i) / 2 f_i
+// Erreur de troncature en O(h_i - h_i-1) + O(h²), mais erreur globale en O(h²) si la
+// grille varie régulièrement (bissections successives). Résolution directe par
+// TridiagonalFactorization.factor.
+public class NonUniformGridSolver {
+    private final double[] x;
+    private final MathFunction f;
+    private final BoundaryConditions bc;
+    private final int n; // nombre de points intérieurs
+    
+    public NonUniformGridSolver(double[] x, MathFunction f, BoundaryConditions bc) {
+        if (x.length < 3 || x[0] != 0.0 || x[x.length - 1] != 1.0) {
+            throw new IllegalArgumentException("La grille doit aller de 0 à 1 avec au moins un point intérieur");
+        }
+        for (int i = 1; i < x.length; i++) {
+            if (!(x[i] > x[i - 1])) {
+                throw new IllegalArgumentException("Les abscisses doivent être strictement croissantes");
+            }
+        }
+        this.x = Arrays.copyOf(x, x.length);
+        this.f = f;
+        this.bc = bc;
+        this.n = x.length - 2;
+    }
+    
+    public Solution solve() {
+        double[] lower = new double[n];
+        double[] diagonal = new double[n];
+        double[] upper = new double[n];
+        double[] b = rightHandSide();
+        for (int k = 0; k < n; k++) {
+            int i = k + 1;
+            double left = 1.0 / (x[i] - x[i - 1]);
+            double right = 1.0 / (x[i + 1] - x[i]);
+            lower[k] = -left;
+            diagonal[k] = left + right;
+            upper[k] = -right;
+        }
+        // Conditions aux limites
+        b[0] -= lower[0] * bc.getU0();
+        b[n - 1] -= upper[n - 1] * bc.getU1();
+        
+        double[] u = new double[n + 2];
+        TridiagonalFactorization.factor(lower, diagonal, upper).solve(b, 0, u, 1);
+        u[0] = bc.getU0();
+        u[n + 1] = bc.getU1();
+        
+        return new Solution(u, x, 1, calculateResidual(u));
+    }
+    
+    // Second membre (h_i-1 + h_i) / 2 f_i, sans les conditions aux limites
+    private double[] rightHandSide() {
+        double[] b = new double[n];
+        for (int k = 0; k < n; k++) {
+            int i = k + 1;
+            b[k] = 0.5 * (x[i + 1] - x[i - 1]) * f.apply(x[i]);
+        }
+        return b;
+    }
+    
+    // Résidu de chaque ligne symétrisée, (h_i-1 + h_i) / 2 f_i - (A u)_i, pour des valeurs
+    // u aux nœuds de la grille (bords compris). Appliqué à une solution plus précise, c'est
+    // une estimation de l'erreur de troncature locale de cette grille.
+    double[] localResiduals(double[] u) {
+        double[] b = rightHandSide();
+        for (int k = 0; k < n; k++) {
+            int i = k + 1;
+            double left = (u[i] - u[i - 1]) / (x[i] - x[i - 1]);
+            double right = (u[i + 1] - u[i]) / (x[i + 1] - x[i]);
+            b[k] += right - left;
+        }
+        return b;
+    }
+    
+    // Résidu maximal |f + u''_h| avec la différence seconde sur grille non uniforme
+    private double calculateResidual(double[] u) {
+        double[] scaled = localResiduals(u);
+        double maxResidual = 0.0;
+        for (int k = 0; k < n; k++) {
+            maxResidual = Math.max(maxResidual, Math.abs(scaled[k]) * 2 / (x[k + 2] - x[k]));
+        }
+        return maxResidual;
+    }
+    
+    public int getInteriorPoints() {
+        return n;
+    }
+}
\ No newline at end of file
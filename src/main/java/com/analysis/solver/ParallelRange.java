@@ -0,0 +1,135 @@
+package com.analysis.solver;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntToDoubleFunction;
+
+// Découpage d'un intervalle d'indices en blocs traités sur un ForkJoinPool.
+// Chaque bloc renvoie sa propre réduction, combinée ensuite sans verrou partagé;
+// forEach traite les blocs sans rien réduire.
+final class ParallelRange {
+    // Nombre de double par ligne de cache (64 octets)
+    private static final int CACHE_LINE_DOUBLES = 8;
+    
+    @FunctionalInterface
+    interface RangeReduction {
+        double apply(int from, int to);
+    }
+    
+    @FunctionalInterface
+    interface RangeAction {
+        void run(int from, int to);
+    }
+    
+    private ParallelRange() {
+    }
+    
+    // Taille de bloc: quelques blocs par coeur, jamais moins de minGrain indices
+    static int grain(ForkJoinPool pool, int length, int minGrain) {
+        int chunks = 4 * pool.getParallelism();
+        return Math.max(minGrain, (length + chunks - 1) / chunks);
+    }
+    
+    static double max(ForkJoinPool pool, int from, int to, int grain, RangeReduction body) {
+        return reduce(pool, from, to, grain, body, Math::max);
+    }
+    
+    static double sum(ForkJoinPool pool, int from, int to, int grain, RangeReduction body) {
+        return reduce(pool, from, to, grain, body, Double::sum);
+    }
+    
+    static double reduce(ForkJoinPool pool, int from, int to, int grain,
+                         RangeReduction body, DoubleBinaryOperator combine) {
+        if (to - from <= grain) {
+            return body.apply(from, to);
+        }
+        return pool.invoke(new ReductionTask(from, to, grain, body, combine));
+    }
+    
+    // Même découpage que reduce, pour des blocs qui ne font qu'écrire
+    static void forEach(ForkJoinPool pool, int from, int to, int grain, RangeAction body) {
+        if (to - from <= grain) {
+            body.run(from, to);
+        } else {
+            pool.invoke(new ActionTask(from, to, grain, body));
+        }
+    }
+    
+    // Max de edge(split) sur les débuts des blocs de reduce (sauf le premier), pour traiter
+    // après coup ce qui dépend de deux blocs voisins; -∞ s'il n'y a qu'un bloc
+    static double maxAtSplits(int from, int to, int grain, IntToDoubleFunction edge) {
+        if (to - from <= grain) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        int mid = split(from, to);
+        return Math.max(edge.applyAsDouble(mid),
+                        Math.max(maxAtSplits(from, mid, grain, edge), maxAtSplits(mid, to, grain, edge)));
+    }
+    
+    // Milieu arrondi à un multiple de CACHE_LINE_DOUBLES indices. Ce n'est pas un alignement
+    // d'adresse: les données d'un double[] suivent l'en-tête de l'objet sans être alignées
+    // sur une ligne de cache, et deux blocs voisins peuvent partager la ligne de leur frontière
+    private static int split(int from, int to) {
+        int mid = ((from + to) >>> 1) & -CACHE_LINE_DOUBLES;
+        return mid > from ? mid : (from + to) >>> 1;
+    }
+    
+    private static final class ReductionTask extends RecursiveTask<Double> {
+        private static final long serialVersionUID = 1L;
+        
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeReduction body;
+        private final DoubleBinaryOperator combine;
+        
+        ReductionTask(int from, int to, int grain, RangeReduction body, DoubleBinaryOperator combine) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.body = body;
+            this.combine = combine;
+        }
+        
+        @Override
+        protected Double compute() {
+            if (to - from <= grain) {
+                return body.apply(from, to);
+            }
+            int mid = split(from, to);
+            ReductionTask left = new ReductionTask(from, mid, grain, body, combine);
+            ReductionTask right = new ReductionTask(mid, to, grain, body, combine);
+            left.fork();
+            double rightValue = right.compute();
+            return combine.applyAsDouble(left.join(), rightValue);
+        }
+    }
+    
+    private static final class ActionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeAction body;
+        
+        ActionTask(int from, int to, int grain, RangeAction body) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.body = body;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                body.run(from, to);
+                return;
+            }
+            int mid = split(from, to);
+            invokeAll(new ActionTask(from, mid, grain, body), new ActionTask(mid, to, grain, body));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.analysis.solver;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// Résolution parallèle d'un système tridiagonal à coefficients constants par partition
+// (méthode des « spikes »): chaque bloc est résolu indépendamment par Thomas, puis un
+// petit système réduit sur les inconnues aux frontières des blocs recolle les morceaux.
+// Pas de pivot: destiné aux matrices à diagonale dominante comme (-1, 2, -1).
+final class PartitionedTridiagonalSolver {
+    private final int n;
+    private final int blockSize;
+    private final int blocks;
+    
+    // Factorisations et spikes pour la taille courante et pour le dernier bloc (plus court)
+    private final TridiagonalFactorization fullFactorization;
+    private final TridiagonalFactorization lastFactorization;
+    private final double[] fullLeftSpike;
+    private final double[] fullRightSpike;
+    private final double[] lastLeftSpike;
+    private final double[] lastRightSpike;
+    
+    // Système réduit pentadiagonal (2 inconnues par bloc), bandes -2..+2
+    private final double[][] band;
+    private final double[] reducedRhs;
+    
+    PartitionedTridiagonalSolver(int n, int blocks, double lower, double diagonal, double upper) {
+        if (blocks < 1 || (blocks > 1 && n < 2 * blocks)) {
+            throw new IllegalArgumentException("Chaque bloc doit contenir au moins deux inconnues");
+        }
+        this.n = n;
+        this.blocks = blocks;
+        this.blockSize = (n + blocks - 1) / blocks;
+        
+        int lastSize = n - (blocks - 1) * blockSize;
+        if (blocks > 1 && lastSize < 2) {
+            throw new IllegalArgumentException("Chaque bloc doit contenir au moins deux inconnues");
+        }
+        this.fullFactorization = TridiagonalFactorization.of(blockSize, lower, diagonal, upper);
+        this.lastFactorization = TridiagonalFactorization.of(lastSize, lower, diagonal, upper);
+        this.fullLeftSpike = spike(fullFactorization, lower, 0);
+        this.fullRightSpike = spike(fullFactorization, upper, blockSize - 1);
+        this.lastLeftSpike = spike(lastFactorization, lower, 0);
+        this.lastRightSpike = spike(lastFactorization, upper, lastSize - 1);
+        
+        this.band = new double[2 * blocks][5];
+        this.reducedRhs = new double[2 * blocks];
+    }
+    
+    // Plus grand nombre de blocs <= desired tel que chaque bloc ait au moins deux inconnues
+    static int blockCount(int n, int desired) {
+        int blocks = Math.max(1, Math.min(desired, n / 2));
+        while (blocks > 1 && n - (blocks - 1) * ((n + blocks - 1) / blocks) < 2) {
+            blocks--;
+        }
+        return blocks;
+    }
+    
+    int blockCount() {
+        return blocks;
+    }
+    
+    // v = A_bloc^-1 (coefficient * e_position)
+    private static double[] spike(TridiagonalFactorization factorization, double coefficient, int position) {
+        double[] e = new double[factorization.size()];
+        e[position] = coefficient;
+        factorization.solve(e, e);
+        return e;
+    }
+    
+    // Résout sur place d[offset..offset + n - 1]
+    void solve(double[] d, int offset, ForkJoinPool pool) {
+        // 1. Résolutions locales indépendantes: y_k = A_k^-1 d_k
+        ParallelRange.forEach(pool, 0, blocks, 1, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                int start = offset + k * blockSize;
+                factorization(k).solve(d, start, d, start);
+            }
+        });
+        
+        // 2. Système réduit: x_k = y_k - v_k L_(k-1) - w_k F_(k+1), pris en première
+        //    (F_k) et dernière (L_k) ligne de chaque bloc
+        for (int k = 0; k < blocks; k++) {
+            int start = offset + k * blockSize;
+            int size = size(k);
+            double[] v = leftSpike(k);
+            double[] w = rightSpike(k);
+            boolean hasLeft = k > 0;
+            boolean hasRight = k < blocks - 1;
+            
+            double[] first = band[2 * k];
+            double[] last = band[2 * k + 1];
+            Arrays.fill(first, 0.0);
+            Arrays.fill(last, 0.0);
+            // Ligne F_k: colonnes L_(k-1) (-1), F_k (0), F_(k+1) (+2)
+            first[2] = 1.0;
+            first[1] = hasLeft ? v[0] : 0.0;
+            first[4] = hasRight ? w[0] : 0.0;
+            // Ligne L_k: colonnes L_(k-1) (-2), L_k (0), F_(k+1) (+1)
+            last[2] = 1.0;
+            last[0] = hasLeft ? v[size - 1] : 0.0;
+            last[3] = hasRight ? w[size - 1] : 0.0;
+            
+            reducedRhs[2 * k] = d[start];
+            reducedRhs[2 * k + 1] = d[start + size - 1];
+        }
+        solveReducedSystem();
+        
+        // 3. Correction de chaque bloc par les valeurs aux frontières voisines
+        ParallelRange.forEach(pool, 0, blocks, 1, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                int start = offset + k * blockSize;
+                double left = k > 0 ? reducedRhs[2 * k - 1] : 0.0;
+                double right = k < blocks - 1 ? reducedRhs[2 * k + 2] : 0.0;
+                double[] v = leftSpike(k);
+                double[] w = rightSpike(k);
+                for (int i = 0, size = size(k); i < size; i++) {
+                    d[start + i] -= v[i] * left + w[i] * right;
+                }
+            }
+        });
+    }
+    
+    // Élimination de Gauss sans pivot sur la matrice à bandes (-2..+2), solution dans reducedRhs
+    private void solveReducedSystem() {
+        int m = 2 * blocks;
+        for (int j = 0; j < m; j++) {
+            double pivot = band[j][2];
+            for (int i = j + 1; i <= Math.min(j + 2, m - 1); i++) {
+                double factor = band[i][2 + j - i] / pivot;
+                if (factor == 0.0) {
+                    continue;
+                }
+                for (int c = j; c <= Math.min(j + 2, m - 1); c++) {
+                    band[i][2 + c - i] -= factor * band[j][2 + c - j];
+                }
+                reducedRhs[i] -= factor * reducedRhs[j];
+            }
+        }
+        for (int j = m - 1; j >= 0; j--) {
+            double sum = reducedRhs[j];
+            for (int c = j + 1; c <= Math.min(j + 2, m - 1); c++) {
+                sum -= band[j][2 + c - j] * reducedRhs[c];
+            }
+            reducedRhs[j] = sum / band[j][2];
+        }
+    }
+    
+    private int size(int k) {
+        return k < blocks - 1 ? blockSize : n - (blocks - 1) * blockSize;
+    }
+    
+    private TridiagonalFactorization factorization(int k) {
+        return k < blocks - 1 ? fullFactorization : lastFactorization;
+    }
+    
+    private double[] leftSpike(int k) {
+        return k < blocks - 1 ? fullLeftSpike : lastLeftSpike;
+    }
+    
+    private double[] rightSpike(int k) {
+        return k < blocks - 1 ? fullRightSpike : lastRightSpike;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.analysis.solver;
+
+import java.util.Arrays;
+
+// Préconditionneur M du système (-1, 2, -1) u = b: z = M^-1 r sur les n points intérieurs.
+// M doit être symétrique défini positif pour le gradient conjugué.
+@FunctionalInterface
+public interface Preconditioner {
+    void apply(double[] r, double[] z);
+    
+    // Préconditionneurs prédéfinis
+    static Preconditioner identity() {
+        return (r, z) -> System.arraycopy(r, 0, z, 0, r.length);
+    }
+    
+    // Diagonale de la matrice (= 2)
+    static Preconditioner jacobi() {
+        return (r, z) -> {
+            for (int i = 0; i < r.length; i++) {
+                z[i] = 0.5 * r[i];
+            }
+        };
+    }
+    
+    // M = (D + L) D^-1 (D + U): une descente puis une remontée de Gauss-Seidel
+    static Preconditioner symmetricGaussSeidel() {
+        return (r, z) -> {
+            int n = r.length;
+            double previous = 0.0;
+            for (int i = 0; i < n; i++) {
+                previous = 0.5 * (r[i] + previous);
+                z[i] = previous;
+            }
+            for (int i = n - 2; i >= 0; i--) {
+                z[i] += 0.5 * z[i + 1];
+            }
+        };
+    }
+    
+    // Un V-cycle symétrique (1 lissage avant, 1 après) partant de zéro.
+    // Garde ses tableaux de travail: une instance par solveur, pas de partage entre threads
+    static Preconditioner multigrid(int n) {
+        MultigridHierarchy hierarchy = new MultigridHierarchy(n, 1, 1, 1, 1.0);
+        double h = 1.0 / (n + 1);
+        double invH2 = 1.0 / (h * h);
+        return (r, z) -> {
+            // A = h² (-d²/dx²): le cycle résout -e'' = r / h²
+            double[] u = hierarchy.solution(0);
+            double[] rhs = hierarchy.rightHandSide(0);
+            Arrays.fill(u, 0.0);
+            for (int i = 0; i < n; i++) {
+                rhs[i + 1] = r[i] * invH2;
+            }
+            hierarchy.cycle(0);
+            System.arraycopy(u, 1, z, 0, n);
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+
+// Valeurs de f aux nœuds x_i = i h, i = 0..n+1, évaluées une seule fois.
+// Immuable une fois construit: peut être partagé entre solveurs (et threads)
+// travaillant sur la même grille et la même fonction via setSampledSource.
+public final class SampledSource {
+    private final int n;
+    private final MathFunction f;
+    private final double[] values;
+    
+    private SampledSource(int n, MathFunction f) {
+        this.n = n;
+        this.f = f;
+        this.values = new double[n + 2];
+        double h = 1.0 / (n + 1);
+        f.sample(0.0, h, n + 2, values, 0);
+    }
+    
+    public static SampledSource of(int n, MathFunction f) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n doit être strictement positif");
+        }
+        return new SampledSource(n, f);
+    }
+    
+    public int size() {
+        return n;
+    }
+    
+    public MathFunction getFunction() {
+        return f;
+    }
+    
+    // f(i h), i = 0..n+1
+    public double get(int i) {
+        return values[i];
+    }
+    
+    // Accès direct pour les boucles internes des solveurs (ne pas modifier)
+    double[] values() {
+        return values;
+    }
+}
\ No newline at end of file
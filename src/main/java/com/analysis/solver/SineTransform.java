@@ -0,0 +1,129 @@
+package com.analysis.solver;
+
+import java.util.Arrays;
+
+// Transformée en sinus discrète DST-I: S_k = somme_{j=1..n} x_j sin(π j k / (n + 1)).
+// Calculée via la FFT de l'extension impaire de longueur N = 2(n + 1): radix-2 direct
+// si N est une puissance de 2, sinon algorithme de Bluestein (FFT de taille >= 2N - 1).
+// Un plan est immuable et partagé entre threads; il est mis en cache par n, dans la limite
+// de CACHE_BYTES octets de tables. Les tableaux de travail de la FFT viennent de l'appelant.
+final class SineTransform {
+    private static final long CACHE_BYTES = 64L << 20;
+    private static final BoundedCache<Integer, SineTransform> CACHE =
+            new BoundedCache<>(CACHE_BYTES, SineTransform::bytes);
+    
+    private final int n;
+    private final int length; // N = 2(n + 1)
+    private final FastFourierTransform fft;
+    // Bluestein: chirp exp(-iπ j² / N) et transformée du filtre conjugué
+    private final double[] chirpRe;
+    private final double[] chirpIm;
+    private final double[] filterRe;
+    private final double[] filterIm;
+    
+    private SineTransform(int n) {
+        this.n = n;
+        this.length = 2 * (n + 1);
+        if (Integer.bitCount(length) == 1) {
+            this.fft = new FastFourierTransform(length);
+            this.chirpRe = null;
+            this.chirpIm = null;
+            this.filterRe = null;
+            this.filterIm = null;
+        } else {
+            int size = Integer.highestOneBit(2 * length - 1) << 1;
+            this.fft = new FastFourierTransform(size);
+            this.chirpRe = new double[length];
+            this.chirpIm = new double[length];
+            long period = 2L * length;
+            for (int j = 0; j < length; j++) {
+                // j² réduit modulo 2N pour garder un angle précis
+                double angle = Math.PI * ((long) j * j % period) / length;
+                chirpRe[j] = Math.cos(angle);
+                chirpIm[j] = -Math.sin(angle);
+            }
+            this.filterRe = new double[size];
+            this.filterIm = new double[size];
+            for (int j = 0; j < length; j++) {
+                filterRe[j] = chirpRe[j];
+                filterIm[j] = -chirpIm[j];
+                if (j > 0) {
+                    filterRe[size - j] = chirpRe[j];
+                    filterIm[size - j] = -chirpIm[j];
+                }
+            }
+            fft.forward(filterRe, filterIm);
+        }
+    }
+    
+    static SineTransform forSize(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("La transformée demande au moins un point");
+        }
+        return CACHE.computeIfAbsent(n, SineTransform::new);
+    }
+    
+    int size() {
+        return n;
+    }
+    
+    // Tables du plan: FFT, plus chirp et filtre pour Bluestein
+    private long bytes() {
+        long size = fft.size();
+        long tables = size * Double.BYTES + size * Integer.BYTES;
+        return chirpRe == null ? tables : tables + (2L * length + 2 * size) * Double.BYTES;
+    }
+    
+    // DST-I en place sur data[offset..offset + n - 1]; deux tableaux de travail de la taille
+    // de la FFT sont pris dans workspace (emplacements 0 et 1)
+    void transform(double[] data, int offset, SolverWorkspace workspace) {
+        int size = fft.size();
+        double[] re = workspace.vector(0, size);
+        double[] im = workspace.vector(1, size);
+        Arrays.fill(re, 0.0);
+        Arrays.fill(im, 0.0);
+        
+        // Extension impaire y_j = x_j, y_(N-j) = -x_j
+        for (int j = 1; j <= n; j++) {
+            re[j] = data[offset + j - 1];
+            re[length - j] = -data[offset + j - 1];
+        }
+        
+        if (chirpRe == null) {
+            fft.forward(re, im);
+        } else {
+            bluestein(re, im);
+        }
+        
+        // Y_k = -2i S_k
+        for (int k = 1; k <= n; k++) {
+            data[offset + k - 1] = -0.5 * im[k];
+        }
+    }
+    
+    // DFT de longueur N des N premières valeurs de (re, im) par convolution circulaire
+    private void bluestein(double[] re, double[] im) {
+        int size = fft.size();
+        for (int j = 0; j < length; j++) {
+            double r = re[j];
+            double i = im[j];
+            re[j] = r * chirpRe[j] - i * chirpIm[j];
+            im[j] = r * chirpIm[j] + i * chirpRe[j];
+        }
+        fft.forward(re, im);
+        for (int k = 0; k < size; k++) {
+            double r = re[k];
+            double i = im[k];
+            re[k] = r * filterRe[k] - i * filterIm[k];
+            im[k] = r * filterIm[k] + i * filterRe[k];
+        }
+        fft.inverse(re, im);
+        double scale = 1.0 / size;
+        for (int k = 0; k < length; k++) {
+            double r = re[k] * scale;
+            double i = im[k] * scale;
+            re[k] = r * chirpRe[k] - i * chirpIm[k];
+            im[k] = r * chirpIm[k] + i * chirpRe[k];
+        }
+    }
+}
\ No newline at end of file
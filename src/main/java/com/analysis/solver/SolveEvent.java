@@ -0,0 +1,29 @@
+package com.analysis.solver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+// Événement JFR émis à la fin de chaque résolution
+@Name("com.analysis.solver.Solve")
+@Label("Résolution")
+@Category("Différences finies")
+final class SolveEvent extends Event {
+    @Label("Solveur")
+    String solver;
+    
+    @Label("Points intérieurs")
+    int n;
+    
+    @Label("Itérations")
+    int iterations;
+    
+    @Label("Résidu")
+    double residual;
+    
+    @Label("Durée de la résolution")
+    @Timespan
+    long elapsed;
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.analysis.solver;
+
+import com.analysis.model.SolverMetrics;
+
+// Notifications d'un solveur, appelées sur le thread qui exécute solve()
+public interface SolverListener {
+    
+    // Lot d'itérations terminé: itérations firstIteration..firstIteration + count - 1,
+    // error est le critère d'arrêt du solveur à la fin du lot
+    default void onIterations(FiniteDifferenceSolver solver, int firstIteration, int count, double error) {
+    }
+    
+    // Fin d'une résolution
+    default void onSolveCompleted(FiniteDifferenceSolver solver, SolverMetrics metrics) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.analysis.solver;
+
+import java.util.Arrays;
+
+// Tableaux de travail réutilisables d'une résolution à l'autre: une fois dimensionné
+// pour un n donné, un solveur qui l'utilise n'alloue plus rien en régime établi.
+// Les diagnostics de la dernière résolution y sont aussi rangés.
+// Un espace de travail ne doit pas être partagé entre threads.
+public class SolverWorkspace {
+    private double[][] vectors = new double[0][];
+    private int iterations;
+    private double residual = Double.NaN;
+    
+    // Tableau de travail numéro slot, réalloué seulement si sa taille change
+    double[] vector(int slot, int length) {
+        if (slot >= vectors.length) {
+            vectors = Arrays.copyOf(vectors, slot + 1);
+        }
+        double[] vector = vectors[slot];
+        if (vector == null || vector.length != length) {
+            vector = new double[length];
+            vectors[slot] = vector;
+        }
+        return vector;
+    }
+    
+    void record(int iterations, double residual) {
+        this.iterations = iterations;
+        this.residual = residual;
+    }
+    
+    // Nombre d'itérations de la dernière résolution
+    public int getIterations() {
+        return iterations;
+    }
+    
+    // Résidu de la dernière résolution
+    public double getResidual() {
+        return residual;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+
+// Solveur rapide de Poisson: la matrice (-1, 2, -1) est diagonalisée par la DST-I,
+// de valeurs propres 2 - 2cos(kπh). Coût O(n log n) pour tout n; la même idée
+// s'étend aux grilles 2D/3D en transformant dimension par dimension.
+public class SpectralPoissonSolver extends FiniteDifferenceSolver {
+    
+    public SpectralPoissonSolver(int n, MathFunction f, BoundaryConditions bc) {
+        super(n, f, bc);
+    }
+    
+    @Override
+    public Solution solve() {
+        return solve(new SolverWorkspace());
+    }
+    
+    // Résolution avec les tableaux de travail de la FFT réutilisés d'un appel à l'autre
+    public Solution solve(SolverWorkspace workspace) {
+        beginSolve();
+        SineTransform transform = SineTransform.forSize(n);
+        double[] u = new double[n + 2];
+        
+        // Second membre dans u[1..n], transformé sur place
+        fillRightHandSide(u, 1);
+        transform.transform(u, 1, workspace);
+        
+        // Division par les valeurs propres 2 - 2cos(kπh) = 4sin²(kπh/2) (forme sans
+        // annulation pour les petits k); 2 / (n + 1) normalise la transformée inverse
+        double normalisation = 2.0 / (n + 1);
+        for (int k = 1; k <= n; k++) {
+            double s = Math.sin(0.5 * k * Math.PI * h);
+            double eigenvalue = 4 * s * s;
+            u[k] *= normalisation / eigenvalue;
+        }
+        transform.transform(u, 1, workspace);
+        
+        // Conditions aux limites
+        u[0] = bc.getU0();
+        u[n + 1] = bc.getU1();
+        
+        double residual = calculateResidual(u);
+        
+        return createSolution(u, 1, residual);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction3D;
+import com.analysis.model.Solution3D;
+import com.analysis.model.SweepStatistics;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Lisseurs itératifs à 7 points avec blocage spatial et temporel: la grille est parcourue
+// plan par plan (front d'onde en z) et deux demi-étapes sont fusionnées dans le même
+// passage, pendant que les plans voisins sont encore en cache:
+//  - RED_BLACK: rouge sur le plan k + 1 puis noir sur le plan k (équivalent à un balayage
+//    rouge puis un balayage noir complets, pour un seul parcours de la mémoire);
+//  - JACOBI: deux itérations de Jacobi par passage, u -> v sur le plan k + 1 puis
+//    v -> u sur le plan k (itérations comptées par paires, une itération seule si
+//    maxIterations est impair).
+// Chaque plan est découpé en tuiles de lignes y traitées en parallèle.
+// Arrêt selon un ConvergenceCriterion sur le vrai résidu, contrôlé après chaque passage qui
+// atteint une itération de contrôle; la tolérance des constructeurs simples est absolue.
+public class StencilSolver3D extends FiniteDifferenceSolver3D {
+    
+    public enum Smoother {
+        JACOBI,
+        RED_BLACK
+    }
+    
+    private ConvergenceCriterion criterion;
+    private final double relaxationFactor;
+    private final Smoother smoother;
+    
+    public StencilSolver3D(int n, MathFunction3D f, MathFunction3D boundary) {
+        this(n, f, boundary, 1e-10, 10000, 1.0, Smoother.RED_BLACK, ForkJoinPool.commonPool());
+    }
+    
+    public StencilSolver3D(int n, MathFunction3D f, MathFunction3D boundary,
+                           double tolerance, int maxIterations, double relaxationFactor,
+                           Smoother smoother, ForkJoinPool pool) {
+        this(n, f, boundary, ConvergenceCriterion.absolute(tolerance, maxIterations), relaxationFactor, smoother, pool);
+    }
+    
+    public StencilSolver3D(int n, MathFunction3D f, MathFunction3D boundary, ConvergenceCriterion criterion,
+                           double relaxationFactor, Smoother smoother, ForkJoinPool pool) {
+        super(n, f, boundary, pool);
+        this.relaxationFactor = relaxationFactor;
+        this.smoother = smoother;
+        setConvergenceCriterion(criterion);
+    }
+    
+    public ConvergenceCriterion getConvergenceCriterion() {
+        return criterion;
+    }
+    
+    public void setConvergenceCriterion(ConvergenceCriterion criterion) {
+        if (criterion == null) {
+            throw new IllegalArgumentException("Le critère de convergence est obligatoire");
+        }
+        this.criterion = criterion;
+    }
+    
+    @Override
+    public Solution3D solve() {
+        double[] u = createGrid();
+        double[] source = getSampledSource();
+        double[] v = smoother == Smoother.JACOBI ? u.clone() : null;
+        
+        int maxIterations = criterion.getMaxIterations();
+        int iterations = 0;
+        // Même fenêtre de stagnation automatique qu'en 1D: O(n) balayages de SOR
+        ConvergenceMonitor monitor = criterion.start(calculateResidual(u), Math.max(50, 8 * (n + 1)));
+        long start = System.nanoTime();
+        
+        while (monitor.isRunning(iterations)) {
+            if (v != null && maxIterations - iterations == 1) {
+                // Dernière itération seule: le résultat est dans v
+                jacobiSweep(u, v, source);
+                double[] swap = u;
+                u = v;
+                v = swap;
+                iterations++;
+            } else if (v != null) {
+                jacobiPass(u, v, source);
+                iterations += 2;
+            } else {
+                redBlackPass(u, source);
+                iterations++;
+            }
+            // Un passage de Jacobi couvre deux itérations: contrôle si l'une des deux est due
+            if (monitor.isCheckDue(iterations) || (v != null && monitor.isCheckDue(iterations - 1))) {
+                monitor.check(iterations, calculateResidual(u));
+            }
+        }
+        
+        long elapsed = System.nanoTime() - start;
+        SweepStatistics statistics = new SweepStatistics(iterations, elapsed, bytesPerSweep());
+        return Solution3D.ofUniformGrid(u, n, iterations, monitor.getLastResidual(), statistics)
+                .withStatus(monitor.getStatus());
+    }
+    
+    // Trafic minimal d'un passage fusionné: u et f lus une fois, u écrit une fois
+    // (plus v écrit une fois pour Jacobi), réparti sur les itérations du passage
+    private long bytesPerSweep() {
+        long points = (long) n * n * n;
+        return smoother == Smoother.JACOBI ? 2 * points * Double.BYTES : 3 * points * Double.BYTES;
+    }
+    
+    // Balayage rouge-noir complet en un seul parcours des plans
+    private void redBlackPass(double[] u, double[] source) {
+        int grain = rowGrain();
+        relaxPlane(u, source, 1, 1, grain);
+        for (int k = 1; k <= n; k++) {
+            if (k < n) {
+                relaxPlane(u, source, k + 1, 1, grain);
+            }
+            relaxPlane(u, source, k, 0, grain);
+        }
+    }
+    
+    private void relaxPlane(double[] u, double[] source, int k, int parity, int grain) {
+        ParallelRange.forEach(pool, 1, n + 1, grain, (from, to) -> relaxRows(u, source, k, from, to, parity));
+    }
+    
+    // SOR sur les points (i + j + k) % 2 == parity des lignes [from, to) du plan k
+    private void relaxRows(double[] u, double[] source, int k, int from, int to, int parity) {
+        double h2 = h * h;
+        double omega = relaxationFactor;
+        
+        for (int j = from; j < to; j++) {
+            int row = k * plane + j * stride;
+            int first = ((1 + j + k) & 1) == parity ? 1 : 2;
+            for (int c = row + first; c <= row + n; c += 2) {
+                double newValue = (u[c - 1] + u[c + 1] + u[c - stride] + u[c + stride]
+                        + u[c - plane] + u[c + plane] + h2 * source[c]) / 6;
+                u[c] = (1 - omega) * u[c] + omega * newValue;
+            }
+        }
+    }
+    
+    // Deux itérations de Jacobi en un parcours: v(k + 1) <- u puis u(k) <- v, le plan k de u
+    // n'étant réécrit qu'une fois lu par v(k + 1)
+    private void jacobiPass(double[] u, double[] v, double[] source) {
+        int grain = rowGrain();
+        for (int k = 1; k <= n + 1; k++) {
+            int current = k;
+            if (current <= n) {
+                ParallelRange.forEach(pool, 1, n + 1, grain, (from, to) -> jacobiRows(u, v, source, current, from, to));
+            }
+            if (current > 1) {
+                ParallelRange.forEach(pool, 1, n + 1, grain,
+                        (from, to) -> jacobiRows(v, u, source, current - 1, from, to));
+            }
+        }
+    }
+    
+    // Une seule itération de Jacobi u -> v, plan par plan
+    private void jacobiSweep(double[] u, double[] v, double[] source) {
+        int grain = rowGrain();
+        for (int k = 1; k <= n; k++) {
+            int current = k;
+            ParallelRange.forEach(pool, 1, n + 1, grain, (from, to) -> jacobiRows(u, v, source, current, from, to));
+        }
+    }
+    
+    // out = relaxation de Jacobi de in sur les lignes [from, to) du plan k
+    private void jacobiRows(double[] in, double[] out, double[] source, int k, int from, int to) {
+        double h2 = h * h;
+        double omega = relaxationFactor;
+        
+        for (int j = from; j < to; j++) {
+            int row = k * plane + j * stride;
+            for (int c = row + 1; c <= row + n; c++) {
+                double newValue = (in[c - 1] + in[c + 1] + in[c - stride] + in[c + stride]
+                        + in[c - plane] + in[c + plane] + h2 * source[c]) / 6;
+                out[c] = (1 - omega) * in[c] + omega * newValue;
+            }
+        }
+    }
+}
\ No newline at end of file
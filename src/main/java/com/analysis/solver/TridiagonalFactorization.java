@@ -0,0 +1,189 @@
+package com.analysis.solver;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// Factorisation LU (élimination de Thomas) d'une matrice tridiagonale, calculée une
+// seule fois puis réutilisée pour autant de seconds membres que nécessaire.
+// Les factorisations de la matrice (-1, 2, -1) sont gardées dans un cache par n, borné en
+// octets: au-delà, chaque solveur garde la sienne et elle est libérée avec lui.
+public final class TridiagonalFactorization {
+    // 2n doubles par entrée: n jusqu'à 2^21 environ pour une entrée seule
+    private static final long CACHE_BYTES = 32L << 20;
+    private static final BoundedCache<Integer, TridiagonalFactorization> CACHE =
+            new BoundedCache<>(CACHE_BYTES, TridiagonalFactorization::bytes);
+    
+    private final int n;
+    private final double[] multipliers;   // l[i] = a[i] / p[i-1], l[0] inutilisé
+    private final double[] inversePivots; // 1 / p[i]
+    private final double[] upper;         // c[i], c[n-1] inutilisé; null si constant
+    private final double constantLower;   // a et c pour une matrice à coefficients constants
+    private final double constantUpper;
+    
+    private TridiagonalFactorization(int n, double[] upper, double constantLower, double constantUpper) {
+        this.n = n;
+        this.multipliers = new double[n];
+        this.inversePivots = new double[n];
+        this.upper = upper;
+        this.constantLower = constantLower;
+        this.constantUpper = constantUpper;
+    }
+    
+    // Matrice (-1, 2, -1) des différences finies, mise en cache
+    public static TridiagonalFactorization of(int n) {
+        checkSize(n);
+        return CACHE.computeIfAbsent(n, key -> factorConstant(n, -1.0, 2.0, -1.0));
+    }
+    
+    // Matrice à coefficients constants (sous-diagonale, diagonale, sur-diagonale); seule la
+    // matrice (-1, 2, -1) est prise dans le cache
+    public static TridiagonalFactorization of(int n, double lower, double diagonal, double upper) {
+        checkSize(n);
+        if (lower == -1.0 && diagonal == 2.0 && upper == -1.0) {
+            return of(n);
+        }
+        return factorConstant(n, lower, diagonal, upper);
+    }
+    
+    private static void checkSize(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("La matrice doit avoir au moins une ligne");
+        }
+    }
+    
+    // Matrice à coefficients variables: a[i] couple x[i-1] (a[0] ignoré), c[i] couple
+    // x[i+1] (c[n-1] ignoré). Les tableaux d'entrée ne sont pas modifiés.
+    public static TridiagonalFactorization factor(double[] lower, double[] diagonal, double[] upper) {
+        int n = diagonal.length;
+        if (lower.length != n || upper.length != n) {
+            throw new IllegalArgumentException("Les trois diagonales doivent avoir la même longueur");
+        }
+        TridiagonalFactorization lu = new TridiagonalFactorization(n, Arrays.copyOf(upper, n), Double.NaN, Double.NaN);
+        double pivot = diagonal[0];
+        lu.inversePivots[0] = 1.0 / pivot;
+        for (int i = 1; i < n; i++) {
+            double l = lower[i] * lu.inversePivots[i - 1];
+            pivot = diagonal[i] - l * upper[i - 1];
+            lu.multipliers[i] = l;
+            lu.inversePivots[i] = 1.0 / pivot;
+        }
+        return lu;
+    }
+    
+    // Même élimination sans tableaux de coefficients: seuls les multiplicateurs et les
+    // pivots sont rangés
+    private static TridiagonalFactorization factorConstant(int n, double lower, double diagonal,
+                                                           double upper) {
+        TridiagonalFactorization lu = new TridiagonalFactorization(n, null, lower, upper);
+        double pivot = diagonal;
+        lu.inversePivots[0] = 1.0 / pivot;
+        for (int i = 1; i < n; i++) {
+            double l = lower * lu.inversePivots[i - 1];
+            pivot = diagonal - l * upper;
+            lu.multipliers[i] = l;
+            lu.inversePivots[i] = 1.0 / pivot;
+        }
+        return lu;
+    }
+    
+    // Vide le cache des matrices (-1, 2, -1)
+    public static void clearCache() {
+        CACHE.clear();
+    }
+    
+    // Taille approximative en mémoire (tableaux de coefficients)
+    private long bytes() {
+        return (long) (upper == null ? 2 : 3) * n * Double.BYTES;
+    }
+    
+    public int size() {
+        return n;
+    }
+    
+    public void solve(double[] d, double[] x) {
+        solve(d, 0, x, 0);
+    }
+    
+    // x[xOffset..] = A^-1 d[offset..]; x peut être le même tableau que d (résolution sur place)
+    public void solve(double[] d, int offset, double[] x, int xOffset) {
+        // Forward sweep
+        double previous = d[offset];
+        x[xOffset] = previous;
+        for (int i = 1; i < n; i++) {
+            previous = d[offset + i] - multipliers[i] * previous;
+            x[xOffset + i] = previous;
+        }
+        
+        // Back substitution
+        double next = x[xOffset + n - 1] * inversePivots[n - 1];
+        x[xOffset + n - 1] = next;
+        if (upper == null) {
+            double c = constantUpper;
+            for (int i = n - 2; i >= 0; i--) {
+                next = (x[xOffset + i] - c * next) * inversePivots[i];
+                x[xOffset + i] = next;
+            }
+        } else {
+            for (int i = n - 2; i >= 0; i--) {
+                next = (x[xOffset + i] - upper[i] * next) * inversePivots[i];
+                x[xOffset + i] = next;
+            }
+        }
+    }
+    
+    // Résout plusieurs seconds membres en une passe: les coefficients de chaque ligne
+    // sont lus une seule fois pour tous les seconds membres
+    public void solveBatch(double[][] rightHandSides, double[][] solutions) {
+        checkBatch(rightHandSides, solutions);
+        solveBatch(rightHandSides, solutions, 0, rightHandSides.length);
+    }
+    
+    // Même calcul, les seconds membres étant répartis en groupes sur le pool
+    public void solveBatch(double[][] rightHandSides, double[][] solutions, ForkJoinPool pool) {
+        checkBatch(rightHandSides, solutions);
+        int count = rightHandSides.length;
+        int grain = Math.max(1, (count + pool.getParallelism() - 1) / pool.getParallelism());
+        ParallelRange.forEach(pool, 0, count, grain, (from, to) -> {
+            solveBatch(rightHandSides, solutions, from, to);
+        });
+    }
+    
+    private void solveBatch(double[][] d, double[][] x, int from, int to) {
+        // Forward sweep
+        for (int k = from; k < to; k++) {
+            x[k][0] = d[k][0];
+        }
+        for (int i = 1; i < n; i++) {
+            double l = multipliers[i];
+            for (int k = from; k < to; k++) {
+                double[] xk = x[k];
+                xk[i] = d[k][i] - l * xk[i - 1];
+            }
+        }
+        
+        // Back substitution
+        double last = inversePivots[n - 1];
+        for (int k = from; k < to; k++) {
+            x[k][n - 1] *= last;
+        }
+        for (int i = n - 2; i >= 0; i--) {
+            double c = upper != null ? upper[i] : constantUpper;
+            double inversePivot = inversePivots[i];
+            for (int k = from; k < to; k++) {
+                double[] xk = x[k];
+                xk[i] = (xk[i] - c * xk[i + 1]) * inversePivot;
+            }
+        }
+    }
+    
+    private void checkBatch(double[][] rightHandSides, double[][] solutions) {
+        if (rightHandSides.length != solutions.length) {
+            throw new IllegalArgumentException("Autant de solutions que de seconds membres sont attendues");
+        }
+        for (int k = 0; k < rightHandSides.length; k++) {
+            if (rightHandSides[k].length != n || solutions[k].length != n) {
+                throw new IllegalArgumentException("Chaque second membre doit avoir " + n + " valeurs");
+            }
+        }
+    }
+}
\ No newline at end of file
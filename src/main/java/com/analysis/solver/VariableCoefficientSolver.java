@@ -0,0 +1,109 @@
+package com.analysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.model.SolverMetrics;
+
+// Solveur direct de -(p u')' + q u = f, u(0) = u0, u(1) = u1: matrice bande assemblée par
+// BandOperatorAssembler, factorisée au premier appel (BandFactorization) puis réutilisée
+// pour d'autres sources (solve(MathFunction)) ou d'autres seconds membres (solve(double[])).
+// Le réglage setScheme ne s'applique pas: l'ordre est celui de l'assembleur.
+public class VariableCoefficientSolver extends FiniteDifferenceSolver {
+    private final BandOperatorAssembler assembler;
+    
+    private BandMatrix matrix;
+    private double[] boundaryTerms; // couplages des bords, calculés avec la matrice
+    private BandFactorization factorization;
+    
+    public VariableCoefficientSolver(int n, MathFunction p, MathFunction q, MathFunction f,
+                                     BoundaryConditions bc) {
+        this(n, p, q, f, bc, BandOperatorAssembler.Order.SECOND);
+    }
+    
+    public VariableCoefficientSolver(int n, MathFunction p, MathFunction q, MathFunction f,
+                                     BoundaryConditions bc, BandOperatorAssembler.Order order) {
+        super(n, f, bc);
+        this.assembler = new BandOperatorAssembler(p, q, order);
+    }
+    
+    @Override
+    public Solution solve() {
+        return solve(f);
+    }
+    
+    // Même opérateur et mêmes conditions aux limites pour une autre source: seule source est
+    // échantillonnée, p et q ne le sont qu'au premier appel
+    public Solution solve(MathFunction source) {
+        beginSolve();
+        long start = phaseStart();
+        assembleOperator();
+        double[] b = new double[n];
+        assembler.fillRightHandSide(n, source, boundaryTerms, b);
+        recordEvaluations(n);
+        phaseEnd(SolverMetrics.Phase.ASSEMBLY, start);
+        
+        start = phaseStart();
+        double[] u = new double[n + 2];
+        factorization().solve(b, 0, u, 1);
+        phaseEnd(SolverMetrics.Phase.SOLVE, start);
+        
+        // Conditions aux limites
+        u[0] = bc.getU0();
+        u[n + 1] = bc.getU1();
+        
+        return createSolution(u, 1, calculateResidual(u, b));
+    }
+    
+    // Résout A u = b pour un second membre de longueur n (h² f et couplages des bords déjà
+    // inclus, voir BandOperatorAssembler.fillRightHandSide); renvoie les valeurs intérieures
+    public double[] solve(double[] rightHandSide) {
+        if (rightHandSide.length != n) {
+            throw new IllegalArgumentException("Le second membre doit contenir n valeurs");
+        }
+        double[] u = new double[n];
+        factorization().solve(rightHandSide, u);
+        return u;
+    }
+    
+    // Matrice et couplages des bords, assemblés une seule fois
+    private void assembleOperator() {
+        if (matrix == null) {
+            matrix = assembler.assemble(n);
+            boundaryTerms = assembler.boundaryTerms(n, bc);
+            recordEvaluations(assembler.operatorEvaluations(n));
+        }
+    }
+    
+    private BandFactorization factorization() {
+        if (factorization == null) {
+            assembleOperator();
+            factorization = matrix.factor();
+        }
+        return factorization;
+    }
+    
+    // Résidu maximal |b - A u| / h² de l'équation discrète
+    private double calculateResidual(double[] u, double[] b) {
+        long start = phaseStart();
+        double[] interior = new double[n];
+        System.arraycopy(u, 1, interior, 0, n);
+        double[] product = new double[n];
+        matrix.multiply(interior, product);
+        double maxResidual = 0.0;
+        for (int i = 0; i < n; i++) {
+            maxResidual = Math.max(maxResidual, Math.abs(b[i] - product[i]));
+        }
+        phaseEnd(SolverMetrics.Phase.RESIDUAL, start);
+        return maxResidual / (h * h);
+    }
+    
+    public BandOperatorAssembler getAssembler() {
+        return assembler;
+    }
+    
+    // Matrice assemblée (null avant la première résolution)
+    public BandMatrix getMatrix() {
+        return matrix;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.analysis.storage;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Tableau de doubles à indices longs: sur le tas, hors tas (ByteBuffer direct) ou
+// projeté en mémoire depuis un fichier. Les deux derniers sont découpés en segments
+// de 2^27 valeurs (1 Go), ce qui lève la limite de 2 Go d'un ByteBuffer.
+// Les valeurs hors tas sont rangées en petit-boutiste.
+public interface DoubleStorage extends AutoCloseable {
+    long size();
+    
+    double get(long index);
+    
+    void set(long index, double value);
+    
+    // Copie storage[from..from + length - 1] dans dst[offset..offset + length - 1]
+    default void get(long from, double[] dst, int offset, int length) {
+        for (int k = 0; k < length; k++) {
+            dst[offset + k] = get(from + k);
+        }
+    }
+    
+    // Copie src[offset..offset + length - 1] dans storage[from..from + length - 1]
+    default void set(long from, double[] src, int offset, int length) {
+        for (int k = 0; k < length; k++) {
+            set(from + k, src[offset + k]);
+        }
+    }
+    
+    // Vue en lecture seule sur toutes les valeurs, si elles tiennent dans un seul tampon
+    // (UnsupportedOperationException au-delà d'un segment: voir asReadOnlySegments)
+    DoubleBuffer asReadOnlyBuffer();
+    
+    // Vues en lecture seule sur des tranches consécutives couvrant toutes les valeurs,
+    // dans l'ordre des indices; valable pour toutes les tailles
+    default List<DoubleBuffer> asReadOnlySegments() {
+        return List.of(asReadOnlyBuffer());
+    }
+    
+    // Écrit sur disque les modifications d'un stockage projeté (sans effet sinon)
+    default void flush() {
+    }
+    
+    @Override
+    default void close() {
+    }
+    
+    static DoubleStorage heap(long size) {
+        if (size < 0 || size > HeapDoubleStorage.MAX_SIZE) {
+            throw new IllegalArgumentException("Taille hors des limites d'un tableau Java: " + size);
+        }
+        return new HeapDoubleStorage(new double[(int) size]);
+    }
+    
+    // Stockage sur le tas qui reprend values sans copie
+    static DoubleStorage wrap(double[] values) {
+        return new HeapDoubleStorage(values);
+    }
+    
+    static DoubleStorage direct(long size) {
+        return SegmentedDoubleStorage.direct(size);
+    }
+    
+    // Hors tas avec des segments de segmentSize valeurs (puissance de 2, au plus 2^27): des
+    // segments courts font franchir des frontières de segment sur de petites tailles
+    static DoubleStorage direct(long size, int segmentSize) {
+        return SegmentedDoubleStorage.direct(size, SegmentedDoubleStorage.shiftOf(segmentSize));
+    }
+    
+    // Crée (ou écrase) le fichier et le projette en lecture-écriture
+    static DoubleStorage mapped(Path file, long size) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                               StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return SegmentedDoubleStorage.mapped(channel, 0, size, FileChannel.MapMode.READ_WRITE, true);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    // Projette size valeurs à partir de byteOffset; le canal reste à la charge de l'appelant
+    static DoubleStorage mapped(FileChannel channel, long byteOffset, long size,
+                                FileChannel.MapMode mode) throws IOException {
+        return SegmentedDoubleStorage.mapped(channel, byteOffset, size, mode, false);
+    }
+    
+    // Même projection avec des segments de segmentSize valeurs (voir direct(long, int))
+    static DoubleStorage mapped(FileChannel channel, long byteOffset, long size, FileChannel.MapMode mode,
+                                int segmentSize) throws IOException {
+        return SegmentedDoubleStorage.mapped(channel, byteOffset, size, mode, false,
+                                             SegmentedDoubleStorage.shiftOf(segmentSize));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.analysis.storage;
+
+import java.nio.DoubleBuffer;
+
+final class HeapDoubleStorage implements DoubleStorage {
+    static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+    
+    private final double[] values;
+    
+    HeapDoubleStorage(double[] values) {
+        this.values = values;
+    }
+    
+    @Override
+    public long size() {
+        return values.length;
+    }
+    
+    @Override
+    public double get(long index) {
+        return values[(int) index];
+    }
+    
+    @Override
+    public void set(long index, double value) {
+        values[(int) index] = value;
+    }
+    
+    @Override
+    public void get(long from, double[] dst, int offset, int length) {
+        System.arraycopy(values, Math.toIntExact(from), dst, offset, length);
+    }
+    
+    @Override
+    public void set(long from, double[] src, int offset, int length) {
+        System.arraycopy(src, offset, values, Math.toIntExact(from), length);
+    }
+    
+    @Override
+    public DoubleBuffer asReadOnlyBuffer() {
+        return DoubleBuffer.wrap(values).asReadOnlyBuffer();
+    }
+}
\ No newline at end of file
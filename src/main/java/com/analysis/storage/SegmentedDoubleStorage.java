@@ -0,0 +1,183 @@
+package com.analysis.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Valeurs réparties en segments de 2^segmentShift doubles, chacun vu comme un DoubleBuffer
+final class SegmentedDoubleStorage implements DoubleStorage {
+    // 2^27 doubles = 1 Go par segment, taille par défaut et maximale
+    static final int SEGMENT_SHIFT = 27;
+    
+    private final int segmentShift;
+    private final long segmentSize;
+    private final long segmentMask;
+    private final long size;
+    private final DoubleBuffer[] segments;
+    private final MappedByteBuffer[] mapped; // null hors projection de fichier
+    private final FileChannel ownedChannel;  // fermé par close() s'il a été ouvert ici
+    
+    private SegmentedDoubleStorage(int segmentShift, long size, DoubleBuffer[] segments,
+                                   MappedByteBuffer[] mapped, FileChannel ownedChannel) {
+        this.segmentShift = segmentShift;
+        this.segmentSize = 1L << segmentShift;
+        this.segmentMask = segmentSize - 1;
+        this.size = size;
+        this.segments = segments;
+        this.mapped = mapped;
+        this.ownedChannel = ownedChannel;
+    }
+    
+    static SegmentedDoubleStorage direct(long size) {
+        return direct(size, SEGMENT_SHIFT);
+    }
+    
+    static SegmentedDoubleStorage direct(long size, int segmentShift) {
+        checkShift(segmentShift);
+        DoubleBuffer[] segments = new DoubleBuffer[segmentCount(size, segmentShift)];
+        for (int s = 0; s < segments.length; s++) {
+            int length = segmentLength(size, s, segmentShift);
+            segments[s] = ByteBuffer.allocateDirect(length * Double.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+        return new SegmentedDoubleStorage(segmentShift, size, segments, null, null);
+    }
+    
+    static SegmentedDoubleStorage mapped(FileChannel channel, long byteOffset, long size,
+                                         FileChannel.MapMode mode, boolean ownsChannel) throws IOException {
+        return mapped(channel, byteOffset, size, mode, ownsChannel, SEGMENT_SHIFT);
+    }
+    
+    static SegmentedDoubleStorage mapped(FileChannel channel, long byteOffset, long size,
+                                         FileChannel.MapMode mode, boolean ownsChannel,
+                                         int segmentShift) throws IOException {
+        checkShift(segmentShift);
+        DoubleBuffer[] segments = new DoubleBuffer[segmentCount(size, segmentShift)];
+        MappedByteBuffer[] mapped = new MappedByteBuffer[segments.length];
+        for (int s = 0; s < segments.length; s++) {
+            long position = byteOffset + ((long) s << segmentShift) * Double.BYTES;
+            mapped[s] = channel.map(mode, position, (long) segmentLength(size, s, segmentShift) * Double.BYTES);
+            mapped[s].order(ByteOrder.LITTLE_ENDIAN);
+            segments[s] = mapped[s].asDoubleBuffer();
+        }
+        return new SegmentedDoubleStorage(segmentShift, size, segments, mapped, ownsChannel ? channel : null);
+    }
+    
+    // Exposant d'une taille de segment donnée en nombre de valeurs (puissance de 2)
+    static int shiftOf(int segmentSize) {
+        if (segmentSize <= 0 || Integer.bitCount(segmentSize) != 1) {
+            throw new IllegalArgumentException("La taille de segment doit être une puissance de 2: " + segmentSize);
+        }
+        return Integer.numberOfTrailingZeros(segmentSize);
+    }
+    
+    private static void checkShift(int segmentShift) {
+        if (segmentShift < 0 || segmentShift > SEGMENT_SHIFT) {
+            throw new IllegalArgumentException("Taille de segment invalide: 2^" + segmentShift);
+        }
+    }
+    
+    private static int segmentCount(long size, int segmentShift) {
+        if (size < 0) {
+            throw new IllegalArgumentException("La taille doit être positive ou nulle");
+        }
+        return (int) Math.max(1, (size + (1L << segmentShift) - 1) >>> segmentShift);
+    }
+    
+    private static int segmentLength(long size, int segment, int segmentShift) {
+        return (int) Math.min(1L << segmentShift, size - ((long) segment << segmentShift));
+    }
+    
+    @Override
+    public long size() {
+        return size;
+    }
+    
+    @Override
+    public double get(long index) {
+        return segments[(int) (index >>> segmentShift)].get((int) (index & segmentMask));
+    }
+    
+    @Override
+    public void set(long index, double value) {
+        segments[(int) (index >>> segmentShift)].put((int) (index & segmentMask), value);
+    }
+    
+    @Override
+    public void get(long from, double[] dst, int offset, int length) {
+        while (length > 0) {
+            int position = (int) (from & segmentMask);
+            int count = (int) Math.min(length, segmentSize - position);
+            DoubleBuffer segment = segments[(int) (from >>> segmentShift)].duplicate();
+            segment.position(position);
+            segment.get(dst, offset, count);
+            from += count;
+            offset += count;
+            length -= count;
+        }
+    }
+    
+    @Override
+    public void set(long from, double[] src, int offset, int length) {
+        while (length > 0) {
+            int position = (int) (from & segmentMask);
+            int count = (int) Math.min(length, segmentSize - position);
+            DoubleBuffer segment = segments[(int) (from >>> segmentShift)].duplicate();
+            segment.position(position);
+            segment.put(src, offset, count);
+            from += count;
+            offset += count;
+            length -= count;
+        }
+    }
+    
+    @Override
+    public DoubleBuffer asReadOnlyBuffer() {
+        if (segments.length > 1) {
+            throw new UnsupportedOperationException("Plus d'un segment: utiliser asReadOnlySegments()");
+        }
+        return segments[0].asReadOnlyBuffer();
+    }
+    
+    @Override
+    public List<DoubleBuffer> asReadOnlySegments() {
+        List<DoubleBuffer> views = new ArrayList<>(segments.length);
+        for (DoubleBuffer segment : segments) {
+            views.add(segment.asReadOnlyBuffer());
+        }
+        return Collections.unmodifiableList(views);
+    }
+    
+    int segmentCount() {
+        return segments.length;
+    }
+    
+    @Override
+    public void flush() {
+        if (mapped != null) {
+            for (MappedByteBuffer buffer : mapped) {
+                buffer.force();
+            }
+        }
+    }
+    
+    // La projection elle-même n'est libérée qu'au ramassage des tampons (pas d'API en Java 11)
+    @Override
+    public void close() {
+        if (ownedChannel != null) {
+            flush();
+            try {
+                ownedChannel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1 @@
+package com.analysis.storage;
\ No newline at end of file
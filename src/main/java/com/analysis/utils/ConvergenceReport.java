@@ -0,0 +1,136 @@
+package com.analysis.utils;
+
+import com.analysis.model.Solution;
+
+import java.util.Collections;
+import java.util.List;
+
+// Résultat d'une étude de convergence: erreurs par niveau de raffinement, ordres
+// observés et, si les deux grilles les plus fines sont emboîtées, solution extrapolée
+public final class ConvergenceReport {
+    
+    public static final class Level {
+        private final int n;
+        private final double h;
+        private final double l2Error;
+        private final double maxError;
+        private final int iterations;
+        private final double residual;
+        private final long elapsedNanos;
+        
+        Level(int n, double h, double l2Error, double maxError, int iterations, double residual, long elapsedNanos) {
+            this.n = n;
+            this.h = h;
+            this.l2Error = l2Error;
+            this.maxError = maxError;
+            this.iterations = iterations;
+            this.residual = residual;
+            this.elapsedNanos = elapsedNanos;
+        }
+        
+        public int getN() {
+            return n;
+        }
+        
+        public double getH() {
+            return h;
+        }
+        
+        public double getL2Error() {
+            return l2Error;
+        }
+        
+        public double getMaxError() {
+            return maxError;
+        }
+        
+        public int getIterations() {
+            return iterations;
+        }
+        
+        public double getResidual() {
+            return residual;
+        }
+        
+        // Durée de la résolution et du calcul d'erreur de ce niveau
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+    
+    private final List<Level> levels;
+    private final double observedOrder;
+    private final double observedMaxOrder;
+    private final Solution extrapolated;
+    private final double extrapolatedL2Error;
+    private final double extrapolatedMaxError;
+    
+    ConvergenceReport(List<Level> levels, double observedOrder, double observedMaxOrder,
+                      Solution extrapolated, double extrapolatedL2Error, double extrapolatedMaxError) {
+        this.levels = Collections.unmodifiableList(levels);
+        this.observedOrder = observedOrder;
+        this.observedMaxOrder = observedMaxOrder;
+        this.extrapolated = extrapolated;
+        this.extrapolatedL2Error = extrapolatedL2Error;
+        this.extrapolatedMaxError = extrapolatedMaxError;
+    }
+    
+    // Niveaux par n croissant
+    public List<Level> getLevels() {
+        return levels;
+    }
+    
+    // Ordre global en norme L2 (ErrorCalculator.calculateConvergenceOrder)
+    public double getObservedOrder() {
+        return observedOrder;
+    }
+    
+    // Ordre global en norme infinie
+    public double getObservedMaxOrder() {
+        return observedMaxOrder;
+    }
+    
+    // Ordre entre les niveaux i - 1 et i (NaN pour i = 0)
+    public double getLocalOrder(int i) {
+        if (i == 0) {
+            return Double.NaN;
+        }
+        Level previous = levels.get(i - 1);
+        Level current = levels.get(i);
+        return Math.log(current.l2Error / previous.l2Error) / Math.log(current.h / previous.h);
+    }
+    
+    // Extrapolation de Richardson sur la grille grossière des deux niveaux les plus fins,
+    // null si ces grilles ne sont pas emboîtées (n_fin + 1 = 2 (n_grossier + 1))
+    public Solution getExtrapolatedSolution() {
+        return extrapolated;
+    }
+    
+    public double getExtrapolatedL2Error() {
+        return extrapolatedL2Error;
+    }
+    
+    public double getExtrapolatedMaxError() {
+        return extrapolatedMaxError;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder table = new StringBuilder();
+        table.append("n\th\tErreur L2\tOrdre\n");
+        table.append("----------------------------------------\n");
+        for (int i = 0; i < levels.size(); i++) {
+            Level level = levels.get(i);
+            if (i > 0) {
+                table.append(String.format("%d\t%.4f\t%.2e\t%.2f\n", level.n, level.h, level.l2Error, getLocalOrder(i)));
+            } else {
+                table.append(String.format("%d\t%.4f\t%.2e\t-\n", level.n, level.h, level.l2Error));
+            }
+        }
+        table.append(String.format("\nOrdre de convergence global: %.2f\n", observedOrder));
+        if (extrapolated != null) {
+            table.append(String.format("Erreur L2 après extrapolation de Richardson: %.2e\n", extrapolatedL2Error));
+        }
+        return table.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.analysis.utils;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.Solution;
+import com.analysis.solver.FiniteDifferenceSolver;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+// Étude de raffinement: chaque niveau n est résolu et comparé à la solution exacte en
+// parallèle sur un exécuteur, puis les ordres observés et l'extrapolation de Richardson
+// des deux niveaux les plus fins sont rassemblés dans un ConvergenceReport.
+// Seules les solutions des deux niveaux les plus fins sont conservées en mémoire.
+public class ConvergenceStudy {
+    private final IntFunction<? extends FiniteDifferenceSolver> solverFactory;
+    private final MathFunction exactSolution;
+    private final int schemeOrder;
+    
+    public ConvergenceStudy(IntFunction<? extends FiniteDifferenceSolver> solverFactory, MathFunction exactSolution) {
+        this(solverFactory, exactSolution, 2);
+    }
+    
+    // schemeOrder: ordre théorique p du schéma, utilisé par l'extrapolation (2^p u_h/2 - u_h) / (2^p - 1)
+    public ConvergenceStudy(IntFunction<? extends FiniteDifferenceSolver> solverFactory, MathFunction exactSolution,
+                            int schemeOrder) {
+        this.solverFactory = solverFactory;
+        this.exactSolution = exactSolution;
+        this.schemeOrder = schemeOrder;
+    }
+    
+    // Exécuteur par défaut: threads virtuels si la JVM en dispose (Java 21+), sinon un pool
+    // de threads de plateforme de la taille du nombre de coeurs
+    public static ExecutorService newDefaultExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+    
+    public ConvergenceReport run(int... nValues) {
+        ExecutorService executor = newDefaultExecutor();
+        try {
+            return run(executor, nValues);
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    public ConvergenceReport run(ExecutorService executor, int... nValues) {
+        if (nValues.length < 2) {
+            throw new IllegalArgumentException("Besoin d'au moins 2 niveaux de raffinement");
+        }
+        int[] sizes = nValues.clone();
+        Arrays.sort(sizes);
+        
+        List<Future<LevelResult>> futures = new ArrayList<>(sizes.length);
+        for (int i = 0; i < sizes.length; i++) {
+            boolean keepSolution = i >= sizes.length - 2;
+            futures.add(executor.submit(levelTask(sizes[i], keepSolution)));
+        }
+        
+        List<ConvergenceReport.Level> levels = new ArrayList<>(sizes.length);
+        Solution[] finest = new Solution[2];
+        for (int i = 0; i < futures.size(); i++) {
+            LevelResult result = await(futures.get(i));
+            levels.add(result.level);
+            if (result.solution != null) {
+                finest[i - (sizes.length - 2)] = result.solution;
+            }
+        }
+        
+        double[] l2Errors = new double[levels.size()];
+        double[] maxErrors = new double[levels.size()];
+        double[] meshSizes = new double[levels.size()];
+        for (int i = 0; i < levels.size(); i++) {
+            l2Errors[i] = levels.get(i).getL2Error();
+            maxErrors[i] = levels.get(i).getMaxError();
+            meshSizes[i] = levels.get(i).getH();
+        }
+        
+        Solution extrapolated = extrapolate(finest[0], finest[1]);
+        double extrapolatedL2 = Double.NaN;
+        double extrapolatedMax = Double.NaN;
+        if (extrapolated != null) {
+            extrapolatedL2 = ErrorCalculator.calculateL2Error(extrapolated, exactSolution);
+            extrapolatedMax = ErrorCalculator.calculateMaxError(extrapolated, exactSolution);
+        }
+        
+        return new ConvergenceReport(levels,
+                                     ErrorCalculator.calculateConvergenceOrder(l2Errors, meshSizes),
+                                     ErrorCalculator.calculateConvergenceOrder(maxErrors, meshSizes),
+                                     extrapolated, extrapolatedL2, extrapolatedMax);
+    }
+    
+    private Callable<LevelResult> levelTask(int n, boolean keepSolution) {
+        return () -> {
+            long start = System.nanoTime();
+            Solution solution = solverFactory.apply(n).solve();
+            double l2Error = ErrorCalculator.calculateL2Error(solution, exactSolution);
+            double maxError = ErrorCalculator.calculateMaxError(solution, exactSolution);
+            ConvergenceReport.Level level = new ConvergenceReport.Level(
+                    n, 1.0 / (n + 1), l2Error, maxError, solution.getIterations(), solution.getResidual(),
+                    System.nanoTime() - start);
+            return new LevelResult(level, keepSolution ? solution : null);
+        };
+    }
+    
+    private static LevelResult await(Future<LevelResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Étude de convergence interrompue", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Échec d'un niveau de raffinement", e.getCause());
+        }
+    }
+    
+    // R_i = (2^p u_fin(2i) - u_grossier(i)) / (2^p - 1) aux nœuds de la grille grossière
+    private Solution extrapolate(Solution coarse, Solution fine) {
+        int nc = coarse.size() - 2;
+        int nf = fine.size() - 2;
+        if (nf + 1 != 2 * (nc + 1)) {
+            return null;
+        }
+        double factor = Math.pow(2, schemeOrder);
+        double[] values = new double[nc + 2];
+        for (int i = 0; i <= nc + 1; i++) {
+            values[i] = (factor * fine.getValue(2 * i) - coarse.getValue(i)) / (factor - 1);
+        }
+        return Solution.ofUniformGrid(values, 1.0 / (nc + 1), 0, Double.NaN);
+    }
+    
+    private static final class LevelResult {
+        private final ConvergenceReport.Level level;
+        private final Solution solution;
+        
+        LevelResult(ConvergenceReport.Level level, Solution solution) {
+            this.level = level;
+            this.solution = solution;
+        }
+    }
+}
\ No newline at end of file
@@ -2,47 +2,136 @@ package com.analysis.utils;
 
 import com.analysis.function.MathFunction;
 import com.analysis.model.Solution;
+import com.analysis.storage.DoubleStorage;
 
 public class ErrorCalculator {
     
+    // Nombre de valeurs exactes évaluées à la fois (aucune copie de la solution)
+    private static final int CHUNK = 1024;
+    
     // Calcul de l'erreur en norme L2 par intégration numérique
     public static double calculateL2Error(Solution numericalSolution, MathFunction exactSolution) {
-        double[] x = numericalSolution.getXPoints();
-        double[] u_num = numericalSolution.getValues();
+        if (numericalSolution.isStorageBacked()) {
+            return calculateL2Error(numericalSolution.getStorage(), numericalSolution.getStep(), exactSolution);
+        }
+        if (!numericalSolution.isUniformGrid()) {
+            return calculateNonUniformL2Error(numericalSolution, exactSolution);
+        }
+        int size = numericalSolution.size();
+        double h = numericalSolution.getX(1) - numericalSolution.getX(0);
+        double[] exact = new double[Math.min(CHUNK, size)];
         
-        double error = 0.0;
-        double h = x[1] - x[0];
+        // Intégration par la règle des trapèzes: chaque point intérieur compte deux fois
+        double sum = 0.0;
+        for (int start = 0; start < size; start += CHUNK) {
+            int count = evaluateExact(numericalSolution, exactSolution, start, exact);
+            for (int k = 0; k < count; k++) {
+                int i = start + k;
+                double diff = numericalSolution.getValue(i) - exact[k];
+                double weight = i == 0 || i == size - 1 ? 1.0 : 2.0;
+                sum += weight * diff * diff;
+            }
+        }
         
-        // Intégration par la règle des trapèzes
-        for (int i = 0; i < x.length - 1; i++) {
-            double x1 = x[i];
-            double x2 = x[i + 1];
-            double u_exact1 = exactSolution.apply(x1);
-            double u_exact2 = exactSolution.apply(x2);
-            
-            double diff1 = u_num[i] - u_exact1;
-            double diff2 = u_num[i + 1] - u_exact2;
-            
-            error += 0.5 * h * (diff1 * diff1 + diff2 * diff2);
+        return Math.sqrt(0.5 * h * sum);
+    }
+    
+    // Règle des trapèzes avec le pas de chaque intervalle [x_i, x_i+1]
+    private static double calculateNonUniformL2Error(Solution numericalSolution, MathFunction exactSolution) {
+        int size = numericalSolution.size();
+        double[] exact = new double[Math.min(CHUNK, size)];
+        
+        double sum = 0.0;
+        double previousSquare = 0.0;
+        for (int start = 0; start < size; start += CHUNK) {
+            int count = evaluateExact(numericalSolution, exactSolution, start, exact);
+            for (int k = 0; k < count; k++) {
+                int i = start + k;
+                double diff = numericalSolution.getValue(i) - exact[k];
+                double square = diff * diff;
+                if (i > 0) {
+                    sum += (numericalSolution.getX(i) - numericalSolution.getX(i - 1)) * (previousSquare + square);
+                }
+                previousSquare = square;
+            }
         }
         
-        return Math.sqrt(error);
+        return Math.sqrt(0.5 * sum);
     }
     
     // Calcul de l'erreur en norme infinie
     public static double calculateMaxError(Solution numericalSolution, MathFunction exactSolution) {
-        double[] x = numericalSolution.getXPoints();
-        double[] u_num = numericalSolution.getValues();
+        if (numericalSolution.isStorageBacked()) {
+            return calculateMaxError(numericalSolution.getStorage(), numericalSolution.getStep(), exactSolution);
+        }
+        int size = numericalSolution.size();
+        double[] exact = new double[Math.min(CHUNK, size)];
         
         double maxError = 0.0;
-        for (int i = 0; i < x.length; i++) {
-            double error = Math.abs(u_num[i] - exactSolution.apply(x[i]));
-            maxError = Math.max(maxError, error);
+        for (int start = 0; start < size; start += CHUNK) {
+            int count = evaluateExact(numericalSolution, exactSolution, start, exact);
+            for (int k = 0; k < count; k++) {
+                double error = Math.abs(numericalSolution.getValue(start + k) - exact[k]);
+                maxError = Math.max(maxError, error);
+            }
         }
         
         return maxError;
     }
     
+    // Erreur L2 de valeurs u_i = u(i h) rangées dans un stockage (indices longs), lues par blocs
+    public static double calculateL2Error(DoubleStorage values, double h, MathFunction exactSolution) {
+        long size = values.size();
+        double[] numerical = new double[(int) Math.min(CHUNK, size)];
+        double[] exact = new double[numerical.length];
+        
+        double sum = 0.0;
+        for (long start = 0; start < size; start += CHUNK) {
+            int count = (int) Math.min(CHUNK, size - start);
+            values.get(start, numerical, 0, count);
+            exactSolution.sample(start * h, h, count, exact, 0);
+            for (int k = 0; k < count; k++) {
+                long i = start + k;
+                double diff = numerical[k] - exact[k];
+                double weight = i == 0 || i == size - 1 ? 1.0 : 2.0;
+                sum += weight * diff * diff;
+            }
+        }
+        
+        return Math.sqrt(0.5 * h * sum);
+    }
+    
+    public static double calculateMaxError(DoubleStorage values, double h, MathFunction exactSolution) {
+        long size = values.size();
+        double[] numerical = new double[(int) Math.min(CHUNK, size)];
+        double[] exact = new double[numerical.length];
+        
+        double maxError = 0.0;
+        for (long start = 0; start < size; start += CHUNK) {
+            int count = (int) Math.min(CHUNK, size - start);
+            values.get(start, numerical, 0, count);
+            exactSolution.sample(start * h, h, count, exact, 0);
+            for (int k = 0; k < count; k++) {
+                maxError = Math.max(maxError, Math.abs(numerical[k] - exact[k]));
+            }
+        }
+        
+        return maxError;
+    }
+    
+    // Solution exacte aux points start.. de la solution, par blocs de exact.length valeurs
+    private static int evaluateExact(Solution solution, MathFunction exactSolution, int start, double[] exact) {
+        int count = Math.min(exact.length, solution.size() - start);
+        if (solution.isUniformGrid()) {
+            exactSolution.sample(solution.getX(start), solution.getStep(), count, exact, 0);
+        } else {
+            for (int k = 0; k < count; k++) {
+                exact[k] = exactSolution.apply(solution.getX(start + k));
+            }
+        }
+        return count;
+    }
+    
     // Calcul de l'ordre de convergence numérique
     public static double calculateConvergenceOrder(double[] errors, double[] meshSizes) {
         if (errors.length != meshSizes.length || errors.length < 2) {
@@ -3,15 +3,21 @@ package com.analysis.utils;
 import com.analysis.function.MathFunction;
 
 public class NumericalIntegration {
+    // Nombre de points évalués à la fois via MathFunction.sample
+    private static final int CHUNK = 1024;
     
     // Intégration par la règle des trapèzes
     public static double trapezoidalRule(MathFunction f, double a, double b, int n) {
         double h = (b - a) / n;
         double sum = 0.5 * (f.apply(a) + f.apply(b));
         
-        for (int i = 1; i < n; i++) {
-            double x = a + i * h;
-            sum += f.apply(x);
+        double[] values = new double[Math.min(CHUNK, Math.max(n - 1, 0))];
+        for (int start = 1; start < n; start += CHUNK) {
+            int count = Math.min(CHUNK, n - start);
+            f.sample(a + start * h, h, count, values);
+            for (int k = 0; k < count; k++) {
+                sum += values[k];
+            }
         }
         
         return h * sum;
@@ -26,12 +32,17 @@ public class NumericalIntegration {
         double h = (b - a) / n;
         double sum = f.apply(a) + f.apply(b);
         
-        for (int i = 1; i < n; i++) {
-            double x = a + i * h;
-            if (i % 2 == 0) {
-                sum += 2 * f.apply(x);
-            } else {
-                sum += 4 * f.apply(x);
+        double[] values = new double[Math.min(CHUNK, Math.max(n - 1, 0))];
+        for (int start = 1; start < n; start += CHUNK) {
+            int count = Math.min(CHUNK, n - start);
+            f.sample(a + start * h, h, count, values);
+            for (int k = 0; k < count; k++) {
+                int i = start + k;
+                if (i % 2 == 0) {
+                    sum += 2 * values[k];
+                } else {
+                    sum += 4 * values[k];
+                }
             }
         }
         
@@ -40,7 +51,21 @@ public class NumericalIntegration {
     
     // Calcul de la norme L2 d'une fonction
     public static double l2Norm(MathFunction f, double a, double b, int n) {
-        MathFunction f2 = x -> f.apply(x) * f.apply(x);
+        MathFunction f2 = new MathFunction() {
+            @Override
+            public double apply(double x) {
+                double value = f.apply(x);
+                return value * value;
+            }
+            
+            @Override
+            public void sample(double x0, double h, int count, double[] out, int offset) {
+                f.sample(x0, h, count, out, offset);
+                for (int i = offset; i < offset + count; i++) {
+                    out[i] *= out[i];
+                }
+            }
+        };
         return Math.sqrt(trapezoidalRule(f2, a, b, n));
     }
 }
\ No newline at end of file
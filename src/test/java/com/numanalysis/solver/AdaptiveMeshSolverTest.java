@@ -0,0 +1,94 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.AdaptiveMeshSolver;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.NonUniformGridSolver;
+import com.analysis.utils.ErrorCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveMeshSolverTest {
+    
+    // Couche raide en x = 0.5: u = atan((x - 0.5) / ε), f = -u''
+    private static final double EPSILON = 0.001;
+    private static final MathFunction EXACT = x -> Math.atan((x - 0.5) / EPSILON);
+    private static final MathFunction F = x -> {
+        double s = (x - 0.5) / EPSILON;
+        return 2 * s / (EPSILON * EPSILON * (1 + s * s) * (1 + s * s));
+    };
+    private static final BoundaryConditions BC = new BoundaryConditions(EXACT.apply(0), EXACT.apply(1));
+    
+    @Test
+    @DisplayName("Sur une grille uniforme explicite, même solution que le solveur direct")
+    void testUniformGridMatchesDirectSolver() {
+        int n = 99;
+        MathFunction f = x -> Math.exp(x) + 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        BoundaryConditions bc = new BoundaryConditions(1.0, -2.0);
+        double[] x = new double[n + 2];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = (double) i / (n + 1);
+        }
+        
+        Solution direct = new DirectSolver(n, f, bc).solve();
+        Solution nonUniform = new NonUniformGridSolver(x, f, bc).solve();
+        
+        assertFalse(nonUniform.isUniformGrid());
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(direct.getValue(i), nonUniform.getValue(i), 1e-10);
+        }
+        assertTrue(nonUniform.getResidual() < 1e-8);
+    }
+    
+    @Test
+    @DisplayName("La tolérance est atteinte avec bien moins de points qu'une grille uniforme")
+    void testAdaptiveRefinementReachesTolerance() {
+        double tolerance = 1e-4;
+        AdaptiveMeshSolver solver = new AdaptiveMeshSolver(F, BC, tolerance);
+        Solution adaptive = solver.solve();
+        
+        assertTrue(solver.getEstimatedError() <= tolerance);
+        assertTrue(ErrorCalculator.calculateMaxError(adaptive, EXACT) <= 1.5 * tolerance);
+        
+        // Grille uniforme de même taille: très loin de la tolérance
+        Solution uniform = new DirectSolver(adaptive.size() - 2, F, BC).solve();
+        assertTrue(ErrorCalculator.calculateMaxError(uniform, EXACT) > 2 * tolerance);
+        
+        // Les points sont concentrés dans la couche
+        int inLayer = 0;
+        for (int i = 0; i < adaptive.size(); i++) {
+            if (Math.abs(adaptive.getX(i) - 0.5) < 0.05) {
+                inLayer++;
+            }
+        }
+        assertTrue(inLayer > adaptive.size() / 2);
+    }
+    
+    @Test
+    @DisplayName("Norme L2 par la règle des trapèzes sur grille non uniforme")
+    void testNonUniformL2Error() {
+        // Erreur e(x) = x sur 0, 0.1, 0.5, 1: trapèzes = somme h_i (e_i² + e_i+1²) / 2
+        double[] x = {0.0, 0.1, 0.5, 1.0};
+        Solution solution = new Solution(x.clone(), x, 0, 0.0);
+        double expected = Math.sqrt(0.5 * (0.1 * 0.01 + 0.4 * (0.01 + 0.25) + 0.5 * (0.25 + 1.0)));
+        
+        assertEquals(expected, ErrorCalculator.calculateL2Error(solution, t -> 0.0), 1e-14);
+    }
+    
+    @Test
+    @DisplayName("Grilles et paramètres invalides refusés")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new NonUniformGridSolver(new double[]{0.0, 1.0}, F, BC));
+        assertThrows(IllegalArgumentException.class,
+            () -> new NonUniformGridSolver(new double[]{0.0, 0.6, 0.4, 1.0}, F, BC));
+        assertThrows(IllegalArgumentException.class,
+            () -> new NonUniformGridSolver(new double[]{0.1, 0.5, 1.0}, F, BC));
+        assertThrows(IllegalArgumentException.class,
+            () -> new AdaptiveMeshSolver(F, BC, 0.0));
+    }
+}
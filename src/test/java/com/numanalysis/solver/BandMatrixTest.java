@@ -0,0 +1,196 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.BandFactorization;
+import com.analysis.solver.BandMatrix;
+import com.analysis.solver.BandOperatorAssembler;
+import com.analysis.solver.BandOperatorAssembler.Order;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.TridiagonalFactorization;
+import com.analysis.solver.VariableCoefficientSolver;
+import com.analysis.utils.ErrorCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BandMatrixTest {
+    
+    // u = sin(πx) + x, p = 1 + x², q = exp(x), f = -(p u')' + q u
+    private static final MathFunction EXACT = x -> Math.sin(Math.PI * x) + x;
+    private static final MathFunction P = x -> 1 + x * x;
+    private static final MathFunction Q = Math::exp;
+    private static final MathFunction F = x -> {
+        double du = Math.PI * Math.cos(Math.PI * x) + 1;
+        double d2u = -Math.PI * Math.PI * Math.sin(Math.PI * x);
+        return -(2 * x * du + (1 + x * x) * d2u) + Math.exp(x) * EXACT.apply(x);
+    };
+    private static final BoundaryConditions BC = new BoundaryConditions(0.0, 1.0);
+    
+    @Test
+    @DisplayName("LU bande avec pivotage: A x = b retrouvé, diagonale nulle comprise")
+    void testFactorizationWithPivoting() {
+        int n = 50;
+        BandMatrix matrix = new BandMatrix(n, 2, 1);
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - 2); j <= Math.min(n - 1, i + 1); j++) {
+                matrix.set(i, j, random.nextDouble() - 0.5);
+            }
+            // Pivot nul sur une ligne sur trois: l'échange de lignes est indispensable
+            if (i % 3 == 0) {
+                matrix.set(i, i, 0.0);
+            }
+        }
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = random.nextDouble();
+        }
+        double[] b = new double[n];
+        matrix.multiply(expected, b);
+        
+        BandFactorization lu = matrix.factor();
+        double[] x = new double[n];
+        lu.solve(b, x);
+        for (int i = 0; i < n; i++) {
+            assertEquals(expected[i], x[i], 1e-9);
+        }
+        
+        // Factorisation réutilisée, résolution sur place
+        lu.solve(b, b);
+        assertArrayEquals(x, b, 0.0);
+    }
+    
+    @Test
+    @DisplayName("Même solution que la factorisation tridiagonale pour kl = ku = 1")
+    void testMatchesTridiagonalFactorization() {
+        int n = 100;
+        BandMatrix matrix = new BandMatrix(n, 1, 1);
+        double[] lower = new double[n];
+        double[] diagonal = new double[n];
+        double[] upper = new double[n];
+        for (int i = 0; i < n; i++) {
+            diagonal[i] = 2 + Math.sin(i);
+            lower[i] = i > 0 ? -1 + 0.1 * Math.cos(i) : 0.0;
+            upper[i] = i < n - 1 ? -1 + 0.1 * Math.sin(3 * i) : 0.0;
+            matrix.set(i, i, diagonal[i]);
+            if (i > 0) {
+                matrix.set(i, i - 1, lower[i]);
+            }
+            if (i < n - 1) {
+                matrix.set(i, i + 1, upper[i]);
+            }
+        }
+        double[] d = new double[n];
+        for (int i = 0; i < n; i++) {
+            d[i] = Math.exp(-i / 10.0);
+        }
+        
+        double[] band = new double[n];
+        double[] tridiagonal = new double[n];
+        matrix.factor().solve(d, band);
+        TridiagonalFactorization.factor(lower, diagonal, upper).solve(d, tridiagonal);
+        assertArrayEquals(tridiagonal, band, 1e-12);
+    }
+    
+    @Test
+    @DisplayName("Coefficients hors bande refusés, matrice singulière détectée")
+    void testBandLimits() {
+        BandMatrix matrix = new BandMatrix(5, 1, 2);
+        assertEquals(0.0, matrix.get(4, 0));
+        assertThrows(IllegalArgumentException.class, () -> matrix.set(3, 1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> matrix.set(0, 3, 1.0));
+        matrix.set(0, 2, 1.0);
+        assertEquals(1.0, matrix.get(0, 2));
+        
+        // Première colonne nulle
+        assertThrows(IllegalArgumentException.class, matrix::factor);
+    }
+    
+    @Test
+    @DisplayName("p = 1, q = 0: même solution que le solveur direct")
+    void testConstantCoefficientsMatchDirectSolver() {
+        int n = 80;
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        BoundaryConditions bc = new BoundaryConditions(1.0, -2.0);
+        Solution direct = new DirectSolver(n, f, bc).solve();
+        Solution band = new VariableCoefficientSolver(n, MathFunction.constant(1.0), MathFunction.constant(0.0),
+                                                      f, bc).solve();
+        
+        for (int i = 0; i < direct.size(); i++) {
+            assertEquals(direct.getValue(i), band.getValue(i), 1e-10);
+        }
+    }
+    
+    @Test
+    @DisplayName("Coefficients variables: ordre 2, puis ordre 4 avec le stencil à cinq points")
+    void testVariableCoefficientConvergenceOrders() {
+        int[] nValues = {19, 39, 79, 159};
+        for (Order order : Order.values()) {
+            double[] errors = new double[nValues.length];
+            double[] meshSizes = new double[nValues.length];
+            for (int k = 0; k < nValues.length; k++) {
+                Solution solution = new VariableCoefficientSolver(nValues[k], P, Q, F, BC, order).solve();
+                assertTrue(solution.getResidual() < 1e-8);
+                errors[k] = ErrorCalculator.calculateMaxError(solution, EXACT);
+                meshSizes[k] = 1.0 / (nValues[k] + 1);
+            }
+            double expected = order == Order.SECOND ? 2.0 : 4.0;
+            assertEquals(expected, ErrorCalculator.calculateConvergenceOrder(errors, meshSizes), 0.3);
+        }
+    }
+    
+    @Test
+    @DisplayName("Factorisation conservée d'une résolution à l'autre, bande 3 à l'ordre 4")
+    void testFactorizationReuse() {
+        VariableCoefficientSolver solver = new VariableCoefficientSolver(63, P, Q, F, BC, Order.FOURTH);
+        Solution first = solver.solve();
+        BandMatrix matrix = solver.getMatrix();
+        Solution second = solver.solve();
+        
+        assertSame(matrix, solver.getMatrix());
+        assertEquals(3, matrix.getLowerBandwidth());
+        assertEquals(3, matrix.getUpperBandwidth());
+        assertArrayEquals(first.getValues(), second.getValues(), 0.0);
+    }
+    
+    @Test
+    @DisplayName("Autres sources et seconds membres: p et q échantillonnés une seule fois")
+    void testOtherSourcesReuseOperator() {
+        int n = 63;
+        AtomicInteger diffusionCalls = new AtomicInteger();
+        MathFunction p = x -> {
+            diffusionCalls.incrementAndGet();
+            return P.apply(x);
+        };
+        MathFunction g = x -> Math.cos(3 * x);
+        VariableCoefficientSolver solver = new VariableCoefficientSolver(n, p, Q, F, BC, Order.FOURTH);
+        solver.setMetricsEnabled(true);
+        
+        Solution first = solver.solve();
+        int calls = diffusionCalls.get();
+        Solution other = solver.solve(g);
+        
+        assertEquals(calls, diffusionCalls.get());
+        // p et q pour la matrice et les bords, puis f; seule g à la deuxième résolution
+        assertEquals(first.getMetrics().getFunctionEvaluations(), calls + 2L * n);
+        assertEquals(n, other.getMetrics().getFunctionEvaluations());
+        Solution expected = new VariableCoefficientSolver(n, P, Q, g, BC, Order.FOURTH).solve();
+        assertArrayEquals(expected.getValues(), other.getValues(), 0.0);
+        
+        // Second membre assemblé à part: mêmes valeurs intérieures
+        double[] b = new double[n];
+        new BandOperatorAssembler(P, Q, Order.FOURTH).fillRightHandSide(n, g, BC, b);
+        double[] interior = solver.solve(b);
+        for (int i = 0; i < n; i++) {
+            assertEquals(other.getValue(i + 1), interior[i], 0.0);
+        }
+        assertEquals(calls, diffusionCalls.get());
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(new double[n - 1]));
+    }
+}
@@ -0,0 +1,97 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.ConjugateGradientSolver;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.FiniteDifferenceSolver;
+import com.analysis.solver.FiniteDifferenceSolver.Scheme;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.solver.JacobiSolver;
+import com.analysis.solver.MultigridSolver;
+import com.analysis.storage.DoubleStorage;
+import com.analysis.utils.ErrorCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactSchemeTest {
+    
+    // u = exp(x) + sin(2πx), -u'' = f
+    private static final MathFunction EXACT = x -> Math.exp(x) + Math.sin(2 * Math.PI * x);
+    private static final MathFunction F = x -> -Math.exp(x) + 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+    private static final BoundaryConditions BC = new BoundaryConditions(1.0, Math.E);
+    
+    private static <S extends FiniteDifferenceSolver> S compact(S solver) {
+        solver.setScheme(Scheme.COMPACT_FOURTH_ORDER);
+        return solver;
+    }
+    
+    @Test
+    @DisplayName("Ordre de convergence observé de 4 avec le solveur de Thomas")
+    void testFourthOrderConvergence() {
+        int[] nValues = {9, 19, 39, 79, 159};
+        double[] errors = new double[nValues.length];
+        double[] meshSizes = new double[nValues.length];
+        for (int k = 0; k < nValues.length; k++) {
+            Solution solution = compact(new DirectSolver(nValues[k], F, BC)).solve();
+            errors[k] = ErrorCalculator.calculateL2Error(solution, EXACT);
+            meshSizes[k] = 1.0 / (nValues[k] + 1);
+        }
+        
+        assertEquals(4.0, ErrorCalculator.calculateConvergenceOrder(errors, meshSizes), 0.1);
+    }
+    
+    @Test
+    @DisplayName("1e-10 atteint avec quelques centaines de points, contre ~1e-6 à l'ordre 2")
+    void testAccuracyWithFewPoints() {
+        int n = 639;
+        DirectSolver secondOrder = new DirectSolver(n, F, BC);
+        DirectSolver fourthOrder = compact(new DirectSolver(n, F, BC));
+        
+        assertEquals(Scheme.SECOND_ORDER, secondOrder.getScheme());
+        assertTrue(ErrorCalculator.calculateMaxError(fourthOrder.solve(), EXACT) < 1e-10);
+        assertTrue(ErrorCalculator.calculateMaxError(secondOrder.solve(), EXACT) > 1e-6);
+    }
+    
+    @Test
+    @DisplayName("Les solveurs itératifs convergent vers la même solution compacte")
+    void testIterativeSolversMatchDirectSolver() {
+        int n = 127;
+        Solution direct = compact(new DirectSolver(n, F, BC)).solve();
+        Solution[] iterative = {
+            compact(GaussSeidelSolver.withOptimalSOR(n, F, BC)).solve(),
+            compact(new JacobiSolver(n, F, BC, 1e-8, 10000, JacobiSolver.Acceleration.CHEBYSHEV,
+                                     ForkJoinPool.commonPool())).solve(),
+            compact(new ConjugateGradientSolver(n, F, BC)).solve(),
+            compact(new MultigridSolver(n, F, BC)).solve()
+        };
+        
+        for (Solution solution : iterative) {
+            // Le résidu rapporté est celui du schéma compact
+            assertTrue(solution.getResidual() < 1e-6, solution.toString());
+            for (int i = 0; i < direct.size(); i++) {
+                assertEquals(direct.getValue(i), solution.getValue(i), 1e-9);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Résolutions dans un stockage: même second membre pondéré par blocs")
+    void testStorageBackedSolvers() {
+        int n = 99;
+        Solution direct = compact(new DirectSolver(n, F, BC)).solve();
+        Solution stored = compact(new DirectSolver(n, F, BC)).solve(DoubleStorage.heap(n + 2));
+        Solution gaussSeidel = compact(GaussSeidelSolver.withOptimalSOR(n, F, BC)).solve(DoubleStorage.heap(n + 2));
+        
+        assertTrue(stored.getResidual() < 1e-8);
+        for (int i = 0; i < direct.size(); i++) {
+            assertEquals(direct.getValue(i), stored.getValue(i), 1e-12);
+            assertEquals(direct.getValue(i), gaussSeidel.getValue(i), 1e-9);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.ConjugateGradientSolver;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.Preconditioner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConjugateGradientSolverTest {
+    
+    private static final MathFunction F = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+    
+    @Test
+    @DisplayName("Test comparaison avec solution directe pour chaque préconditionneur")
+    void testPreconditionersAgainstDirectSolver() {
+        BoundaryConditions bc = new BoundaryConditions(1.0, -2.0);
+        int n = 200;
+        Solution direct = new DirectSolver(n, F, bc).solve();
+        
+        Preconditioner[] preconditioners = {
+            Preconditioner.identity(),
+            Preconditioner.jacobi(),
+            Preconditioner.symmetricGaussSeidel(),
+            Preconditioner.multigrid(n)
+        };
+        
+        for (Preconditioner preconditioner : preconditioners) {
+            Solution cg = new ConjugateGradientSolver(n, F, bc, preconditioner, 1e-8, 1000).solve();
+            
+            assertTrue(cg.getIterations() <= n, "Le gradient conjugué converge en au plus n itérations");
+            assertTrue(cg.getResidual() < 1e-6);
+            for (int i = 0; i < direct.size(); i++) {
+                assertEquals(direct.getValue(i), cg.getValue(i), 1e-8,
+                            "Solutions should be similar at point " + i);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test préconditionneur multigrille: peu d'itérations")
+    void testMultigridPreconditionerIterations() {
+        BoundaryConditions bc = new BoundaryConditions(0.0, 0.0);
+        
+        Solution small = ConjugateGradientSolver.withMultigrid(255, F, bc).solve();
+        Solution large = ConjugateGradientSolver.withMultigrid(16383, F, bc).solve();
+        
+        assertTrue(small.getIterations() < 15);
+        assertTrue(large.getIterations() < 15);
+        assertTrue(large.getIterations() - small.getIterations() <= 3,
+                  "Le nombre d'itérations ne devrait presque pas dépendre de n");
+    }
+    
+    @Test
+    @DisplayName("Test noyaux parallèles identiques au calcul séquentiel")
+    void testParallelKernels() {
+        BoundaryConditions bc = new BoundaryConditions(0.0, 1.0);
+        int n = 100_000;
+        
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            Solution reference = new ConjugateGradientSolver(n, F, bc,
+                    Preconditioner.multigrid(n), 1e-6, 100, single).solve();
+            Solution result = new ConjugateGradientSolver(n, F, bc,
+                    Preconditioner.multigrid(n), 1e-6, 100, parallel).solve();
+            Solution direct = new DirectSolver(n, F, bc).solve();
+            
+            assertEquals(reference.getIterations(), result.getIterations());
+            for (int i = 0; i < reference.size(); i++) {
+                assertEquals(reference.getValue(i), result.getValue(i), 0.0);
+                assertEquals(direct.getValue(i), result.getValue(i), 1e-7);
+            }
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.function.MathFunction2D;
+import com.analysis.function.MathFunction3D;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.BoundaryConditions2D;
+import com.analysis.model.ConvergenceStatus;
+import com.analysis.model.Solution;
+import com.analysis.model.Solution2D;
+import com.analysis.model.Solution3D;
+import com.analysis.solver.ConjugateGradientSolver;
+import com.analysis.solver.ConvergenceCriterion;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.solver.GaussSeidelSolver2D;
+import com.analysis.solver.MultigridSolver;
+import com.analysis.solver.StencilSolver3D;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConvergenceCriterionTest {
+    
+    private static final MathFunction F = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+    private static final BoundaryConditions BC = new BoundaryConditions(0.0, 1.0);
+    
+    @Test
+    @DisplayName("Gauss-Seidel s'arrête dès que le vrai résidu atteint la tolérance")
+    void testStopsOnResidual() {
+        GaussSeidelSolver solver = GaussSeidelSolver.withSOR(50, F, BC, 1.8);
+        solver.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-6, 10000));
+        
+        Solution solution = solver.solve();
+        
+        assertEquals(ConvergenceStatus.CONVERGED, solution.getStatus());
+        assertTrue(solution.getResidual() <= 1e-6);
+        assertTrue(solution.getIterations() < 10000);
+        
+        // Une itération de moins ne suffisait pas
+        GaussSeidelSolver shorter = GaussSeidelSolver.withSOR(50, F, BC, 1.8);
+        shorter.setConvergenceCriterion(ConvergenceCriterion.absolute(0.0, solution.getIterations() - 1));
+        assertTrue(shorter.solve().getResidual() > 1e-6);
+    }
+    
+    @Test
+    @DisplayName("Tolérance relative: résidu final <= tol * résidu initial")
+    void testRelativeTolerance() {
+        List<Double> history = new ArrayList<>();
+        GaussSeidelSolver solver = GaussSeidelSolver.withSOR(40, F, BC, 1.7);
+        solver.setConvergenceCriterion(ConvergenceCriterion.relative(1e-4, 10000)
+                .withObserver((iteration, residual) -> history.add(residual)));
+        
+        Solution solution = solver.solve();
+        
+        assertEquals(ConvergenceStatus.CONVERGED, solution.getStatus());
+        assertTrue(solution.getResidual() <= 1e-4 * history.get(0));
+        assertEquals(solution.getIterations() + 1, history.size());
+        assertEquals(solution.getResidual(), history.get(history.size() - 1));
+    }
+    
+    @Test
+    @DisplayName("Le résidu n'est contrôlé que toutes les k itérations, et à la dernière")
+    void testCheckInterval() {
+        List<Integer> checked = new ArrayList<>();
+        GaussSeidelSolver solver = new GaussSeidelSolver(30, F, BC, 1e-10, 100, 1.0);
+        solver.setConvergenceCriterion(ConvergenceCriterion.absolute(0.0, 103).withCheckInterval(10)
+                .withoutStagnation().withObserver((iteration, residual) -> checked.add(iteration)));
+        
+        Solution solution = solver.solve();
+        
+        assertEquals(ConvergenceStatus.MAX_ITERATIONS, solution.getStatus());
+        assertEquals(List.of(0, 10, 20, 30, 40, 50, 60, 70, 80, 90, 100, 103), checked);
+    }
+    
+    @Test
+    @DisplayName("Un résidu bloqué à la précision machine est détecté comme stagnation")
+    void testStagnation() {
+        GaussSeidelSolver solver = GaussSeidelSolver.withSOR(20, F, BC, 1.5);
+        solver.setConvergenceCriterion(ConvergenceCriterion.absolute(0.0, 100000));
+        
+        Solution solution = solver.solve();
+        
+        assertEquals(ConvergenceStatus.STAGNATED, solution.getStatus());
+        assertTrue(solution.getIterations() < 100000);
+        assertTrue(solution.getResidual() < 1e-9);
+    }
+    
+    @Test
+    @DisplayName("Une relaxation instable (omega > 2) est arrêtée pour divergence")
+    void testDivergence() {
+        GaussSeidelSolver solver = GaussSeidelSolver.withSOR(20, F, BC, 2.5);
+        
+        Solution solution = solver.solve();
+        
+        assertEquals(ConvergenceStatus.DIVERGED, solution.getStatus());
+        assertTrue(solution.getIterations() < 10000);
+    }
+    
+    @Test
+    @DisplayName("Gradient conjugué et multigrille rapportent aussi leur statut")
+    void testOtherSolvers() {
+        Solution cg = new ConjugateGradientSolver(63, F, BC).solve();
+        Solution multigrid = new MultigridSolver(63, F, BC).solve();
+        
+        assertEquals(ConvergenceStatus.CONVERGED, cg.getStatus());
+        assertTrue(multigrid.getStatus() == ConvergenceStatus.CONVERGED
+                   || multigrid.getStatus() == ConvergenceStatus.STAGNATED);
+        assertNull(new DirectSolver(63, F, BC).solve().getStatus());
+    }
+    
+    @Test
+    @DisplayName("Les lisseurs 2D et 3D contrôlent le vrai résidu tous les k balayages")
+    void testMultiDimensionalSmoothers() {
+        List<Integer> checked2D = new ArrayList<>();
+        List<Double> history2D = new ArrayList<>();
+        MathFunction2D f2D = (x, y) -> 2 * Math.PI * Math.PI * Math.sin(Math.PI * x) * Math.sin(Math.PI * y);
+        GaussSeidelSolver2D solver2D = new GaussSeidelSolver2D(31, f2D, BoundaryConditions2D.constant(0.0),
+                ConvergenceCriterion.relative(1e-6, 10000).withCheckInterval(5).withObserver((iteration, residual) -> {
+                    checked2D.add(iteration);
+                    history2D.add(residual);
+                }), 1.8, GaussSeidelSolver2D.Relaxation.POINT_RED_BLACK, ForkJoinPool.commonPool());
+        
+        Solution2D solution2D = solver2D.solve();
+        
+        assertEquals(ConvergenceStatus.CONVERGED, solution2D.getStatus());
+        assertTrue(solution2D.getResidual() <= 1e-6 * history2D.get(0));
+        assertEquals(solution2D.getResidual(), history2D.get(history2D.size() - 1));
+        assertEquals(solution2D.getIterations(), checked2D.get(checked2D.size() - 1));
+        assertTrue(checked2D.stream().allMatch(iteration -> iteration % 5 == 0));
+        
+        List<Double> history3D = new ArrayList<>();
+        MathFunction3D f3D = (x, y, z) ->
+                3 * Math.PI * Math.PI * Math.sin(Math.PI * x) * Math.sin(Math.PI * y) * Math.sin(Math.PI * z);
+        StencilSolver3D solver3D = new StencilSolver3D(15, f3D, MathFunction3D.constant(0.0),
+                ConvergenceCriterion.absolute(1e-8, 10000).withObserver((iteration, residual) -> history3D.add(residual)),
+                1.0, StencilSolver3D.Smoother.JACOBI, ForkJoinPool.commonPool());
+        
+        Solution3D solution3D = solver3D.solve();
+        
+        assertEquals(ConvergenceStatus.CONVERGED, solution3D.getStatus());
+        assertTrue(solution3D.getResidual() <= 1e-8);
+        assertTrue(history3D.get(history3D.size() - 2) > 1e-8);
+        
+        // Un facteur de relaxation instable est arrêté comme divergence
+        StencilSolver3D unstable = new StencilSolver3D(15, f3D, MathFunction3D.constant(0.0),
+                ConvergenceCriterion.absolute(1e-8, 10000), 2.5, StencilSolver3D.Smoother.RED_BLACK,
+                ForkJoinPool.commonPool());
+        Solution3D diverged = unstable.solve();
+        assertEquals(ConvergenceStatus.DIVERGED, diverged.getStatus());
+        assertTrue(diverged.getIterations() < 10000);
+    }
+    
+    @Test
+    @DisplayName("Paramètres invalides refusés")
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> ConvergenceCriterion.absolute(-1.0, 10));
+        assertThrows(IllegalArgumentException.class,
+                     () -> ConvergenceCriterion.absolute(1e-8, 10).withCheckInterval(0));
+        assertThrows(IllegalArgumentException.class,
+                     () -> ConvergenceCriterion.absolute(1e-8, 10).withDivergenceFactor(0.5));
+    }
+}
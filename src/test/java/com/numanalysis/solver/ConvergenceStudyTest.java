@@ -0,0 +1,71 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.MultigridSolver;
+import com.analysis.utils.ConvergenceReport;
+import com.analysis.utils.ConvergenceStudy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConvergenceStudyTest {
+    
+    private static final MathFunction F = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+    private static final MathFunction EXACT = x -> Math.sin(2 * Math.PI * x);
+    private static final BoundaryConditions BC = new BoundaryConditions(0.0, 0.0);
+    
+    @Test
+    @DisplayName("Ordre 2 observé et extrapolation de Richardson sur grilles emboîtées")
+    void testOrderAndRichardson() {
+        ConvergenceStudy study = new ConvergenceStudy(n -> new DirectSolver(n, F, BC), EXACT);
+        ConvergenceReport report = study.run(127, 15, 31, 63);
+        
+        assertEquals(4, report.getLevels().size());
+        assertEquals(15, report.getLevels().get(0).getN());
+        assertEquals(127, report.getLevels().get(3).getN());
+        assertEquals(2.0, report.getObservedOrder(), 0.05);
+        assertEquals(2.0, report.getObservedMaxOrder(), 0.05);
+        assertEquals(2.0, report.getLocalOrder(3), 0.05);
+        assertTrue(Double.isNaN(report.getLocalOrder(0)));
+        
+        // L'extrapolation élimine le terme en h²: erreur bien plus faible que sur la grille fine
+        assertNotNull(report.getExtrapolatedSolution());
+        assertEquals(65, report.getExtrapolatedSolution().size());
+        assertTrue(report.getExtrapolatedMaxError() < report.getLevels().get(3).getMaxError() / 100);
+    }
+    
+    @Test
+    @DisplayName("Même rapport quel que soit l'exécuteur")
+    void testExecutorIndependence() {
+        ConvergenceStudy study = new ConvergenceStudy(n -> new MultigridSolver(n, F, BC), EXACT);
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            ConvergenceReport sequential = study.run(single, 31, 63, 127);
+            ConvergenceReport concurrent = study.run(31, 63, 127);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(sequential.getLevels().get(i).getL2Error(), concurrent.getLevels().get(i).getL2Error());
+            }
+            assertEquals(sequential.getExtrapolatedL2Error(), concurrent.getExtrapolatedL2Error());
+        } finally {
+            single.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Pas d'extrapolation si les grilles ne sont pas emboîtées")
+    void testNonNestedGrids() {
+        ConvergenceStudy study = new ConvergenceStudy(n -> new DirectSolver(n, F, BC), EXACT);
+        ConvergenceReport report = study.run(10, 20, 40);
+        
+        assertNull(report.getExtrapolatedSolution());
+        assertTrue(Double.isNaN(report.getExtrapolatedL2Error()));
+        assertEquals(2.0, report.getObservedOrder(), 0.1);
+        assertThrows(IllegalArgumentException.class, () -> study.run(10));
+    }
+}
@@ -5,13 +5,20 @@ import com.analysis.function.MathFunction;
 import com.analysis.model.BoundaryConditions;
 import com.analysis.model.Solution;
 import com.analysis.solver.DirectSolver;
+import com.analysis.solver.SolverWorkspace;
+import com.analysis.storage.DoubleStorage;
 import com.analysis.utils.ErrorCalculator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class DirectSolverTest {
     
@@ -84,4 +91,118 @@ class DirectSolverTest {
         assertEquals(3.0, solution.getValue(solution.size() - 1), 1e-10);
         assertTrue(solution.getResidual() < 1e-10);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Test résolution avec espace de travail réutilisé")
+    void testWorkspaceSolveMatchesSolve() {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        BoundaryConditions bc = new BoundaryConditions(1.0, 2.0);
+        SolverWorkspace workspace = new SolverWorkspace();
+        
+        for (int n : new int[] {5, 50, 5}) {
+            DirectSolver solver = new DirectSolver(n, f, bc);
+            Solution reference = solver.solve();
+            double[] u = new double[n + 2];
+            solver.solve(workspace, u);
+            
+            assertArrayEquals(reference.getValues(), u, 0.0);
+            assertEquals(reference.getResidual(), workspace.getResidual(), 0.0);
+            assertEquals(1, workspace.getIterations());
+        }
+        
+        assertThrows(IllegalArgumentException.class,
+                    () -> new DirectSolver(10, f, bc).solve(workspace, new double[10]));
+    }
+    
+    @Test
+    @DisplayName("Test aucune allocation en régime établi")
+    void testSteadyStateSolveAllocatesNothing() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        
+        int n = 10_000;
+        DirectSolver solver = new DirectSolver(n, MathFunction.constant(1.0), new BoundaryConditions(0.0, 1.0));
+        SolverWorkspace workspace = new SolverWorkspace();
+        double[] u = new double[n + 2];
+        solver.solve(workspace, u);
+        
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int k = 0; k < 200; k++) {
+            solver.solve(workspace, u);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        
+        // Tolérance pour les mesures elles-mêmes, bien en deçà d'un seul tableau de n doubles
+        assertTrue(allocated < 8 * 1024, "Octets alloués: " + allocated);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 5000, 100_000, 100_003})
+    @DisplayName("Test mode partitionné parallèle identique à Thomas")
+    void testPartitionedMatchesThomas(int n) {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x) + 3 * x;
+        BoundaryConditions bc = new BoundaryConditions(1.0, -2.0);
+        ForkJoinPool pool = new ForkJoinPool(8);
+        try {
+            Solution thomas = new DirectSolver(n, f, bc).solve();
+            Solution partitioned = new DirectSolver(n, f, bc, DirectSolver.Method.PARTITIONED, pool).solve();
+            
+            for (int i = 0; i < thomas.size(); i++) {
+                assertEquals(thomas.getValue(i), partitioned.getValue(i), 1e-9 * (1 + Math.abs(thomas.getValue(i))),
+                            "Solutions should match at point " + i);
+            }
+            assertEquals(thomas.getResidual(), partitioned.getResidual(), 1e-3 * (1 + thomas.getResidual()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {7, 101, 5000, 65_537})
+    @DisplayName("Test mode partitionné avec petits blocs: système réduit et dernier bloc plus court")
+    void testPartitionedSmallBlocksMatchThomas(int n) {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x) + 3 * x;
+        BoundaryConditions bc = new BoundaryConditions(1.0, -2.0);
+        ForkJoinPool pool = new ForkJoinPool(8);
+        try {
+            Solution thomas = new DirectSolver(n, f, bc).solve();
+            // Dernier bloc toujours plus court: 7 = 4 + 3, 101 = 16 x 6 + 5, 5000 = 31 x 157 + 133,
+            // 65 537 = 31 x 2049 + 2018
+            for (int minBlockSize : new int[] {2, 3}) {
+                DirectSolver solver = new DirectSolver(n, f, bc, DirectSolver.Method.PARTITIONED, pool);
+                solver.setMinBlockSize(minBlockSize);
+                Solution partitioned = solver.solve();
+                
+                assertTrue(solver.getBlockCount() > 1, "Le système réduit devrait servir");
+                for (int i = 0; i < thomas.size(); i++) {
+                    assertEquals(thomas.getValue(i), partitioned.getValue(i), 1e-9 * (1 + Math.abs(thomas.getValue(i))),
+                                "Solutions should match at point " + i + " (blocs >= " + minBlockSize + ")");
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Test résolutions en flux et par lots: Thomas quelle que soit la méthode")
+    void testStreamingAndBatchUseThomas() {
+        MathFunction f = x -> 1.0 + x;
+        BoundaryConditions bc = new BoundaryConditions(0.5, -1.0);
+        int n = 10;
+        DirectSolver thomas = new DirectSolver(n, f, bc);
+        double[][] b = {new double[n]};
+        b[0][3] = 1.0;
+        for (DirectSolver.Method method : List.of(DirectSolver.Method.PARTITIONED)) {
+            DirectSolver solver = new DirectSolver(n, f, bc, method);
+            assertArrayEquals(thomas.solve(DoubleStorage.heap(n + 2)).getValues(),
+                              solver.solve(DoubleStorage.heap(n + 2)).getValues(), 0.0);
+            assertArrayEquals(thomas.solveBatch(b)[0], solver.solveBatch(b)[0], 0.0);
+            assertArrayEquals(thomas.solveBatch(List.of(f)).get(0).getValues(),
+                              solver.solveBatch(List.of(f)).get(0).getValues(), 0.0);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.storage.DoubleStorage;
+import com.analysis.utils.ErrorCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleStorageTest {
+    
+    private static final MathFunction F = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+    private static final MathFunction EXACT = x -> Math.sin(2 * Math.PI * x) + x;
+    private static final BoundaryConditions BC = new BoundaryConditions(0.0, 1.0);
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    @DisplayName("Accès ponctuels et par blocs identiques pour les trois stockages")
+    void testBackends() throws IOException {
+        int size = 10000;
+        try (DoubleStorage mapped = DoubleStorage.mapped(tempDir.resolve("values.bin"), size)) {
+            for (DoubleStorage storage : new DoubleStorage[] {DoubleStorage.heap(size), DoubleStorage.direct(size), mapped}) {
+                assertEquals(size, storage.size());
+                double[] block = new double[100];
+                for (int k = 0; k < block.length; k++) {
+                    block[k] = k + 0.5;
+                }
+                storage.set(4000, block, 0, block.length);
+                storage.set(9999, -1.0);
+                
+                double[] read = new double[100];
+                storage.get(4000, read, 0, read.length);
+                assertArrayEquals(block, read);
+                assertEquals(42.5, storage.get(4042));
+                assertEquals(-1.0, storage.get(9999));
+                assertEquals(-1.0, storage.asReadOnlyBuffer().get(9999));
+            }
+        }
+        assertEquals(size * (long) Double.BYTES, Files.size(tempDir.resolve("values.bin")));
+    }
+    
+    @Test
+    @DisplayName("Solveur direct en flux dans un fichier projeté = solveur direct sur le tas")
+    void testDirectSolverOnMappedStorage() throws IOException {
+        int n = 200000; // plusieurs blocs de lecture
+        Solution reference = new DirectSolver(n, F, BC).solve();
+        
+        try (DoubleStorage u = DoubleStorage.mapped(tempDir.resolve("u.bin"), n + 2)) {
+            Solution solution = new DirectSolver(n, F, BC).solve(u);
+            
+            assertTrue(solution.isStorageBacked());
+            assertEquals(n + 2, solution.length());
+            for (int i = 0; i <= n + 1; i += 997) {
+                assertEquals(reference.getValue(i), solution.getValue(i), 1e-8);
+            }
+            assertEquals(reference.getValue(n + 1), solution.getValue(n + 1));
+            // Pivots exacts: l'erreur d'arrondi ne s'accumule pas, l'erreur n'est pas plus grande
+            assertTrue(ErrorCalculator.calculateMaxError(solution, EXACT)
+                       <= ErrorCalculator.calculateMaxError(reference, EXACT));
+            assertTrue(ErrorCalculator.calculateL2Error(solution, EXACT)
+                       <= ErrorCalculator.calculateL2Error(reference, EXACT));
+        }
+    }
+    
+    @Test
+    @DisplayName("Gauss-Seidel par blocs hors tas = Gauss-Seidel sur le tas")
+    void testGaussSeidelOnDirectStorage() {
+        int n = 100;
+        Solution reference = GaussSeidelSolver.withSOR(n, F, BC, 1.9).solve();
+        
+        DoubleStorage u = DoubleStorage.direct(n + 2);
+        Solution solution = GaussSeidelSolver.withSOR(n, F, BC, 1.9).solve(u);
+        
+        assertEquals(reference.getIterations(), solution.getIterations());
+        assertArrayEquals(reference.getValues(), solution.getValues(), 1e-12);
+        assertEquals(reference.getResidual(), solution.getResidual(), 1e-6);
+    }
+    
+    @Test
+    @DisplayName("Un stockage de taille incorrecte est refusé")
+    void testWrongStorageSize() {
+        DirectSolver solver = new DirectSolver(10, F, BC);
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(DoubleStorage.heap(11)));
+    }
+}
@@ -8,6 +8,9 @@ import com.analysis.utils.ErrorCalculator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ErrorCalculatorTest {
@@ -75,4 +78,47 @@ class ErrorCalculatorTest {
             ErrorCalculator.calculateConvergenceOrder(errors, meshSizes);
         });
     }
+    
+    @Test
+    @DisplayName("Grille uniforme implicite: mêmes erreurs qu'avec les abscisses explicites")
+    void testUniformGridMatchesExplicitGrid() {
+        int size = 3001; // plusieurs blocs d'évaluation
+        double h = 1.0 / (size - 1);
+        double[] values = new double[size];
+        double[] xPoints = new double[size];
+        for (int i = 0; i < size; i++) {
+            xPoints[i] = i * h;
+            values[i] = Math.sin(Math.PI * xPoints[i]) + 1e-3 * Math.cos(7 * i);
+        }
+        MathFunction exactSolution = x -> Math.sin(Math.PI * x);
+        
+        Solution explicit = new Solution(values, xPoints, 1, 0.0);
+        Solution uniform = Solution.ofUniformGrid(values.clone(), h, 1, 0.0);
+        
+        assertTrue(uniform.isUniformGrid());
+        assertEquals(xPoints[1234], uniform.getX(1234), 1e-15);
+        assertArrayEquals(xPoints, uniform.getXPoints(), 1e-15);
+        assertEquals(ErrorCalculator.calculateL2Error(explicit, exactSolution),
+                     ErrorCalculator.calculateL2Error(uniform, exactSolution), 1e-14);
+        assertEquals(ErrorCalculator.calculateMaxError(explicit, exactSolution),
+                     ErrorCalculator.calculateMaxError(uniform, exactSolution), 1e-14);
+    }
+    
+    @Test
+    @DisplayName("La vue sur les valeurs est sans copie et en lecture seule")
+    void testValuesView() {
+        double[] values = {0.0, 1.0, 2.0, 0.0};
+        Solution solution = Solution.ofUniformGrid(values, 1.0 / 3, 1, 0.0);
+        DoubleBuffer view = solution.valuesView();
+        
+        assertEquals(4, view.remaining());
+        assertEquals(2.0, view.get(2));
+        assertTrue(view.isReadOnly());
+        assertThrows(ReadOnlyBufferException.class, () -> view.put(1, 5.0));
+        
+        // Le tableau est repris sans copie par ofUniformGrid
+        values[1] = 3.0;
+        assertEquals(3.0, view.get(1));
+        assertEquals(3.0, solution.getValue(1));
+    }
 }
\ No newline at end of file
@@ -1,5 +1,102 @@
 package com.numanalysis.solver;
 
-public class FiniteDifferenceSolverTest {
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.solver.SampledSource;
+import com.analysis.storage.DoubleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FiniteDifferenceSolverTest {
+    
+    // Compte les évaluations ponctuelles de f
+    private static MathFunction counting(AtomicLong counter) {
+        return x -> {
+            counter.incrementAndGet();
+            return 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        };
+    }
+    
+    @Test
+    @DisplayName("Gauss-Seidel évalue f une seule fois par nœud, quel que soit le nombre de balayages")
+    void testSourceSampledOnce() {
+        AtomicLong evaluations = new AtomicLong();
+        int n = 50;
+        GaussSeidelSolver solver = new GaussSeidelSolver(n, counting(evaluations),
+                                                         new BoundaryConditions(0.0, 0.0), 1e-10, 5000, 1.5);
+        
+        Solution solution = solver.solve();
+        
+        assertTrue(solution.getIterations() > 10);
+        assertEquals(n + 2, evaluations.get());
+    }
+    
+    @Test
+    @DisplayName("Gauss-Seidel en stockage: f évaluée une seule fois, balayages et résidus compris")
+    void testStorageSourceSampledOnce() {
+        AtomicLong evaluations = new AtomicLong();
+        int n = 50;
+        GaussSeidelSolver solver = new GaussSeidelSolver(n, counting(evaluations),
+                                                         new BoundaryConditions(0.0, 0.0), 1e-10, 5000, 1.5);
+        
+        Solution solution = solver.solve(DoubleStorage.heap(n + 2));
+        
+        assertTrue(solution.getIterations() > 10);
+        // Nœuds 0..n: le point de gauche du bloc sert au recouvrement
+        assertEquals(n + 1, evaluations.get());
+    }
+    
+    @Test
+    @DisplayName("Une source échantillonnée partagée évite toute nouvelle évaluation")
+    void testSharedSampledSource() {
+        AtomicLong evaluations = new AtomicLong();
+        MathFunction f = counting(evaluations);
+        BoundaryConditions bc = new BoundaryConditions(0.0, 1.0);
+        int n = 100;
+        
+        DirectSolver direct = new DirectSolver(n, f, bc);
+        Solution reference = direct.solve();
+        long afterFirst = evaluations.get();
+        assertEquals(n + 2, afterFirst);
+        
+        GaussSeidelSolver iterative = GaussSeidelSolver.withSOR(n, f, bc, 1.9);
+        iterative.setSampledSource(direct.getSampledSource());
+        Solution solution = iterative.solve();
+        
+        assertEquals(afterFirst, evaluations.get());
+        assertArrayEquals(reference.getValues(), solution.getValues(), 1e-6);
+    }
+    
+    @Test
+    @DisplayName("Les valeurs échantillonnées correspondent à f aux nœuds, bords compris")
+    void testSampledValues() {
+        MathFunction f = MathFunction.quadratic(1.0, -1.0, 2.0);
+        int n = 9;
+        SampledSource source = SampledSource.of(n, f);
+        
+        assertEquals(n, source.size());
+        for (int i = 0; i <= n + 1; i++) {
+            assertEquals(f.apply(i / 10.0), source.get(i), 1e-15);
+        }
+    }
+    
+    @Test
+    @DisplayName("Une source échantillonnée incompatible est refusée")
+    void testIncompatibleSampledSource() {
+        MathFunction f = MathFunction.constant(1.0);
+        BoundaryConditions bc = new BoundaryConditions(0.0, 0.0);
+        DirectSolver solver = new DirectSolver(10, f, bc);
+        
+        assertThrows(IllegalArgumentException.class,
+                     () -> solver.setSampledSource(SampledSource.of(11, f)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> solver.setSampledSource(SampledSource.of(10, MathFunction.constant(1.0))));
+    }
 }
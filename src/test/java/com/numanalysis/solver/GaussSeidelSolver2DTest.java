@@ -0,0 +1,96 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction2D;
+import com.analysis.model.BoundaryConditions2D;
+import com.analysis.model.Solution2D;
+import com.analysis.solver.GaussSeidelSolver2D;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GaussSeidelSolver2DTest {
+    
+    // -Δu = 2π² sin(πx) sin(πy), u = 0 au bord; solution exacte sin(πx) sin(πy)
+    private static final MathFunction2D F = (x, y) -> 2 * Math.PI * Math.PI * Math.sin(Math.PI * x) * Math.sin(Math.PI * y);
+    private static final MathFunction2D EXACT = MathFunction2D.product(x -> Math.sin(Math.PI * x), y -> Math.sin(Math.PI * y));
+    
+    private static double maxError(Solution2D solution, MathFunction2D exact) {
+        double maxError = 0.0;
+        for (int j = 0; j <= solution.getN() + 1; j++) {
+            for (int i = 0; i <= solution.getN() + 1; i++) {
+                double error = Math.abs(solution.getValue(i, j) - exact.apply(solution.getX(i), solution.getY(j)));
+                maxError = Math.max(maxError, error);
+            }
+        }
+        return maxError;
+    }
+    
+    private static GaussSeidelSolver2D solver(int n, MathFunction2D f, BoundaryConditions2D bc,
+                                              GaussSeidelSolver2D.Relaxation relaxation, ForkJoinPool pool) {
+        double omega = 2 / (1 + Math.sin(Math.PI / (n + 1)));
+        return new GaussSeidelSolver2D(n, f, bc, 1e-12, 20000, omega, relaxation, pool);
+    }
+    
+    @ParameterizedTest
+    @EnumSource(GaussSeidelSolver2D.Relaxation.class)
+    @DisplayName("Convergence d'ordre 2 vers sin(πx) sin(πy)")
+    void testSecondOrderConvergence(GaussSeidelSolver2D.Relaxation relaxation) {
+        BoundaryConditions2D bc = BoundaryConditions2D.constant(0.0);
+        double coarse = maxError(solver(15, F, bc, relaxation, ForkJoinPool.commonPool()).solve(), EXACT);
+        double fine = maxError(solver(31, F, bc, relaxation, ForkJoinPool.commonPool()).solve(), EXACT);
+        
+        double order = Math.log(coarse / fine) / Math.log(32.0 / 16.0);
+        assertEquals(2.0, order, 0.1);
+    }
+    
+    @ParameterizedTest
+    @EnumSource(GaussSeidelSolver2D.Relaxation.class)
+    @DisplayName("Fonction harmonique quadratique reproduite exactement avec bords non homogènes")
+    void testHarmonicBoundaryData(GaussSeidelSolver2D.Relaxation relaxation) {
+        // u = x² - y² + 2x est harmonique: le schéma à 5 points est exact
+        MathFunction2D exact = (x, y) -> x * x - y * y + 2 * x;
+        BoundaryConditions2D bc = new BoundaryConditions2D(
+                x -> x * x + 2 * x, x -> x * x + 2 * x - 1, y -> -y * y, y -> 3 - y * y);
+        
+        Solution2D solution = solver(40, MathFunction2D.constant(0.0), bc, relaxation, ForkJoinPool.commonPool()).solve();
+        
+        assertEquals(0.0, maxError(solution, exact), 1e-9);
+        assertTrue(solution.getResidual() < 1e-5);
+    }
+    
+    @Test
+    @DisplayName("Résultat indépendant du nombre de threads")
+    void testParallelMatchesSequential() {
+        BoundaryConditions2D bc = BoundaryConditions2D.constant(0.0);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            for (GaussSeidelSolver2D.Relaxation relaxation : GaussSeidelSolver2D.Relaxation.values()) {
+                Solution2D sequential = solver(200, F, bc, relaxation, single).solve();
+                Solution2D concurrent = solver(200, F, bc, relaxation, parallel).solve();
+                
+                assertEquals(sequential.getIterations(), concurrent.getIterations());
+                assertArrayEquals(sequential.getValues(), concurrent.getValues());
+            }
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("La relaxation par lignes converge en moins d'itérations que par points")
+    void testLineRelaxationFewerIterations() {
+        BoundaryConditions2D bc = BoundaryConditions2D.constant(0.0);
+        Solution2D point = new GaussSeidelSolver2D(31, F, bc).solve();
+        Solution2D line = GaussSeidelSolver2D.withLineRelaxation(31, F, bc, 1.0).solve();
+        
+        assertTrue(line.getIterations() < point.getIterations());
+        assertEquals(maxError(point, EXACT), maxError(line, EXACT), 1e-6);
+    }
+}
@@ -2,14 +2,18 @@ package com.numanalysis.solver;
 
 import com.analysis.function.MathFunction;
 import com.analysis.model.BoundaryConditions;
+import com.analysis.model.ConvergenceStatus;
 import com.analysis.model.Solution;
+import com.analysis.solver.ConvergenceCriterion;
 import com.analysis.solver.DirectSolver;
 import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.storage.DoubleStorage;
 import com.analysis.utils.ErrorCalculator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Timeout;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -101,4 +105,94 @@ class GaussSeidelSolverTest {
         assertEquals(50.0, solution.getValue(solution.size() - 1), 1e-10);
         assertTrue(solution.getResidual() < 1e-5);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Test ordre rouge-noir comparé au balayage séquentiel")
+    void testRedBlackMatchesLexicographic() {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        BoundaryConditions bc = new BoundaryConditions(0.0, 1.0);
+        
+        for (double omega : new double[] {1.0, 1.5}) {
+            Solution sequential = GaussSeidelSolver.withSOR(30, f, bc, omega).solve();
+            Solution redBlack = GaussSeidelSolver.withRedBlack(30, f, bc, omega).solve();
+            
+            assertTrue(redBlack.getIterations() < 10000, "Le mode rouge-noir devrait converger");
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(sequential.getValue(i), redBlack.getValue(i), 1e-7,
+                            "Solutions should be similar at point " + i);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test rouge-noir parallèle identique au rouge-noir mono-thread")
+    void testRedBlackParallelDeterminism() {
+        MathFunction f = MathFunction.constant(2.0);
+        BoundaryConditions bc = new BoundaryConditions(0.0, 0.0);
+        int n = 100_000;
+        
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            Solution reference = new GaussSeidelSolver(n, f, bc, 0.0, 20, 1.2,
+                    GaussSeidelSolver.Ordering.RED_BLACK, single).solve();
+            Solution result = new GaussSeidelSolver(n, f, bc, 0.0, 20, 1.2,
+                    GaussSeidelSolver.Ordering.RED_BLACK, parallel).solve();
+            
+            assertEquals(20, result.getIterations());
+            for (int i = 0; i < reference.size(); i++) {
+                assertEquals(reference.getValue(i), result.getValue(i), 0.0);
+            }
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Test SOR au facteur optimal analytique et estimé")
+    void testAutomaticRelaxationFactor() {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        BoundaryConditions bc = new BoundaryConditions(0.0, 1.0);
+        int n = 100;
+        double optimal = GaussSeidelSolver.optimalRelaxationFactor(n);
+        assertEquals(2 / (1 + Math.sin(Math.PI / 101)), optimal, 1e-15);
+        
+        Solution plain = new GaussSeidelSolver(n, f, bc, 1e-6, 100000, 1.0).solve();
+        
+        GaussSeidelSolver analyticSolver = GaussSeidelSolver.withOptimalSOR(n, f, bc);
+        analyticSolver.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-6, 100000));
+        Solution analytic = analyticSolver.solve();
+        
+        GaussSeidelSolver adaptiveSolver = GaussSeidelSolver.withAdaptiveSOR(n, f, bc);
+        adaptiveSolver.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-6, 100000));
+        Solution adaptive = adaptiveSolver.solve();
+        
+        assertEquals(1.0, plain.getRelaxationFactor());
+        assertEquals(optimal, analytic.getRelaxationFactor());
+        assertEquals(optimal, adaptive.getRelaxationFactor(), 0.05);
+        assertEquals(ConvergenceStatus.CONVERGED, analytic.getStatus());
+        assertEquals(ConvergenceStatus.CONVERGED, adaptive.getStatus());
+        assertTrue(analytic.getIterations() * 10 < plain.getIterations());
+        assertTrue(adaptive.getIterations() * 10 < plain.getIterations());
+    }
+    
+    @Test
+    @DisplayName("Test omega adaptatif en rouge-noir et dans un stockage")
+    void testAdaptiveRelaxationOtherPaths() {
+        MathFunction f = MathFunction.constant(1.0);
+        BoundaryConditions bc = new BoundaryConditions(0.0, 0.0);
+        int n = 200;
+        
+        Solution redBlack = new GaussSeidelSolver(n, f, bc, 1e-8, 100000,
+                GaussSeidelSolver.RelaxationStrategy.ADAPTIVE, GaussSeidelSolver.Ordering.RED_BLACK,
+                ForkJoinPool.commonPool()).solve();
+        Solution heap = GaussSeidelSolver.withAdaptiveSOR(n, f, bc).solve();
+        Solution stored = GaussSeidelSolver.withAdaptiveSOR(n, f, bc).solve(DoubleStorage.heap(n + 2));
+        
+        assertEquals(ConvergenceStatus.CONVERGED, redBlack.getStatus());
+        assertTrue(redBlack.getRelaxationFactor() > 1.5 && redBlack.getRelaxationFactor() < 2.0);
+        assertEquals(heap.getIterations(), stored.getIterations());
+        assertEquals(heap.getRelaxationFactor(), stored.getRelaxationFactor());
+    }
+}
@@ -0,0 +1,138 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.ConvergenceStatus;
+import com.analysis.model.Solution;
+import com.analysis.solver.ConvergenceCriterion;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.solver.JacobiSolver;
+import com.analysis.solver.JacobiSolver.Acceleration;
+import com.analysis.solver.SolverWorkspace;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacobiSolverTest {
+    
+    private static final MathFunction F = x -> Math.exp(x) + 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+    private static final BoundaryConditions BC = new BoundaryConditions(1.0, -2.0);
+    
+    @Test
+    @DisplayName("Tchebychev converge vers la solution directe, avec le vrai résidu")
+    void testChebyshevAgainstDirectSolver() {
+        int n = 200;
+        Solution direct = new DirectSolver(n, F, BC).solve();
+        Solution jacobi = new JacobiSolver(n, F, BC, 1e-8, 10000, Acceleration.CHEBYSHEV,
+                                           ForkJoinPool.commonPool()).solve();
+        
+        assertEquals(ConvergenceStatus.CONVERGED, jacobi.getStatus());
+        assertTrue(jacobi.getResidual() <= 1e-8);
+        for (int i = 0; i < direct.size(); i++) {
+            assertEquals(direct.getValue(i), jacobi.getValue(i), 1e-9);
+        }
+        
+        // Le résidu rapporté est celui de l'itéré rendu
+        double h = 1.0 / (n + 1);
+        double residual = 0.0;
+        for (int i = 1; i <= n; i++) {
+            double second = (jacobi.getValue(i - 1) - 2 * jacobi.getValue(i) + jacobi.getValue(i + 1)) / (h * h);
+            residual = Math.max(residual, Math.abs(F.apply(i * h) + second));
+        }
+        assertEquals(residual, jacobi.getResidual(), 1e-6 * residual + 1e-9);
+    }
+    
+    @Test
+    @DisplayName("L'accélération ramène le nombre de balayages de O(n²) à O(n), comme SOR optimal")
+    void testChebyshevAcceleration() {
+        int n = 63;
+        int plain = new JacobiSolver(n, F, BC, 1e-8, 100000, Acceleration.NONE, ForkJoinPool.commonPool())
+                .solve().getIterations();
+        int chebyshev = new JacobiSolver(n, F, BC, 1e-8, 100000, Acceleration.CHEBYSHEV, ForkJoinPool.commonPool())
+                .solve().getIterations();
+        GaussSeidelSolver sor = GaussSeidelSolver.withOptimalSOR(n, F, BC);
+        sor.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-8, 100000));
+        int optimalSor = sor.solve().getIterations();
+        
+        assertTrue(chebyshev * 10 < plain, chebyshev + " vs " + plain);
+        assertTrue(chebyshev < 2 * optimalSor, chebyshev + " vs " + optimalSor);
+    }
+    
+    @Test
+    @DisplayName("Blocs parallèles: résultat identique bit à bit quel que soit le pool")
+    void testParallelDeterminism() {
+        int n = 100_000;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Solution sequential = new JacobiSolver(n, F, BC, 0.0, 50, Acceleration.CHEBYSHEV,
+                                                   ForkJoinPool.commonPool()).solve();
+            Solution parallel = new JacobiSolver(n, F, BC, 0.0, 50, Acceleration.CHEBYSHEV, pool).solve();
+            
+            assertEquals(50, parallel.getIterations());
+            assertEquals(sequential.getResidual(), parallel.getResidual());
+            assertArrayEquals(sequential.getValues(), parallel.getValues());
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Les tampons sont réutilisés sans altérer les solutions déjà rendues")
+    void testBufferReuse() {
+        JacobiSolver solver = new JacobiSolver(100, F, BC);
+        
+        Solution first = solver.solve();
+        double[] firstValues = first.getValues();
+        Solution second = solver.solve();
+        
+        assertArrayEquals(firstValues, first.getValues());
+        assertArrayEquals(firstValues, second.getValues());
+        assertEquals(first.getIterations(), second.getIterations());
+    }
+    
+    @Test
+    @DisplayName("Critère relatif par défaut; espace de travail: mêmes valeurs sans allocation")
+    void testDefaultCriterionAndWorkspace() {
+        JacobiSolver solver = new JacobiSolver(100, F, BC);
+        assertTrue(solver.getConvergenceCriterion().getRelativeTolerance() > 0);
+        Solution solution = solver.solve();
+        assertEquals(ConvergenceStatus.CONVERGED, solution.getStatus());
+        
+        // Nombres d'itérations pair et impair: l'itéré final est recopié dans u si besoin
+        for (int iterations : new int[] {7, 8}) {
+            solver.setConvergenceCriterion(ConvergenceCriterion.absolute(0.0, iterations));
+            Solution expected = solver.solve();
+            SolverWorkspace workspace = new SolverWorkspace();
+            double[] u = new double[102];
+            solver.solve(workspace, u);
+            
+            assertArrayEquals(expected.getValues(), u);
+            assertEquals(iterations, workspace.getIterations());
+            assertEquals(expected.getResidual(), workspace.getResidual());
+        }
+    }
+    
+    @Test
+    @DisplayName("Résidu exact aux frontières des blocs parallèles")
+    void testResidualAcrossBlocks() {
+        int n = 100_000;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Solution solution = new JacobiSolver(n, F, BC, 0.0, 25, Acceleration.CHEBYSHEV, pool).solve();
+            double h = 1.0 / (n + 1);
+            double residual = 0.0;
+            for (int i = 1; i <= n; i++) {
+                double second = (solution.getValue(i - 1) - 2 * solution.getValue(i) + solution.getValue(i + 1))
+                        / (h * h);
+                residual = Math.max(residual, Math.abs(F.apply(i * h) + second));
+            }
+            assertEquals(residual, solution.getResidual(), 1e-6 * residual);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.utils.NumericalIntegration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MathFunctionTest {
+    
+    static Stream<MathFunction> builtInFunctions() {
+        return Stream.of(MathFunction.constant(3.0), MathFunction.linear(2.0, -1.0),
+                         MathFunction.quadratic(1.0, -2.0, 0.5), MathFunction.sin(),
+                         MathFunction.cos(), MathFunction.exp());
+    }
+    
+    @ParameterizedTest
+    @MethodSource("builtInFunctions")
+    @DisplayName("L'échantillonnage groupé coïncide avec l'évaluation point par point")
+    void testSampleMatchesApply(MathFunction f) {
+        int count = 1000;
+        double x0 = 0.1;
+        double h = 7.0 / count;
+        double[] out = new double[count + 3];
+        f.sample(x0, h, count, out, 2);
+        
+        for (int i = 0; i < count; i++) {
+            double expected = f.apply(x0 + i * h);
+            assertEquals(expected, out[i + 2], 1e-13 * Math.max(1.0, Math.abs(expected)));
+        }
+        assertEquals(0.0, out[0]);
+        assertEquals(0.0, out[count + 2]);
+    }
+    
+    @ParameterizedTest
+    @MethodSource("builtInFunctions")
+    @DisplayName("applyAll coïncide avec l'évaluation point par point")
+    void testApplyAllMatchesApply(MathFunction f) {
+        double[] x = {-1.5, 0.0, 0.3, 2.0, 10.0};
+        double[] out = new double[x.length];
+        f.applyAll(x, out);
+        
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(f.apply(x[i]), out[i], 1e-15 * Math.max(1.0, Math.abs(out[i])));
+        }
+    }
+    
+    @Test
+    @DisplayName("Les intégrales utilisent le chemin groupé par blocs")
+    void testIntegrationAcrossChunks() {
+        // n > taille d'un bloc d'échantillonnage
+        double trapezoid = NumericalIntegration.trapezoidalRule(MathFunction.sin(), 0, Math.PI, 5000);
+        double simpson = NumericalIntegration.simpsonRule(MathFunction.sin(), 0, Math.PI, 5000);
+        double norm = NumericalIntegration.l2Norm(MathFunction.sin(), 0, Math.PI, 5000);
+        
+        assertEquals(2.0, trapezoid, 1e-6);
+        assertEquals(2.0, simpson, 1e-12);
+        assertEquals(Math.sqrt(Math.PI / 2), norm, 1e-6);
+    }
+}
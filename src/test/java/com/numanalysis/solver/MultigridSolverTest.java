@@ -0,0 +1,108 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.MultigridSolver;
+import com.analysis.utils.ErrorCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultigridSolverTest {
+    
+    private static final MathFunction F = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+    private static final MathFunction EXACT = x -> Math.sin(2 * Math.PI * x);
+    
+    @ParameterizedTest
+    @ValueSource(ints = {7, 63, 1000, 4095})
+    @DisplayName("Test comparaison avec solution directe")
+    void testComparisonWithDirectSolver(int n) {
+        BoundaryConditions bc = new BoundaryConditions(0.5, -1.0);
+        
+        Solution direct = new DirectSolver(n, F, bc).solve();
+        Solution multigrid = new MultigridSolver(n, F, bc).solve();
+        
+        for (int i = 0; i < direct.size(); i++) {
+            assertEquals(direct.getValue(i), multigrid.getValue(i), 1e-9,
+                        "Solutions should be similar at point " + i);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test nombre de cycles indépendant de n")
+    void testCycleCountIndependentOfMeshSize() {
+        BoundaryConditions bc = new BoundaryConditions(0.0, 0.0);
+        int[] nValues = {127, 1023, 16383};
+        int[] cycles = new int[nValues.length];
+        
+        for (int k = 0; k < nValues.length; k++) {
+            MultigridSolver solver = new MultigridSolver(nValues[k], F, bc,
+                    MultigridSolver.CycleType.V, 2, 2, 1e-6, 50, 1.0, false);
+            Solution solution = solver.solve();
+            cycles[k] = solution.getIterations();
+            assertTrue(solution.getResidual() < 1e-6, "Le résidu devrait atteindre la tolérance");
+        }
+        
+        assertTrue(cycles[2] - cycles[0] <= 2,
+                  "Le nombre de cycles ne devrait presque pas dépendre de n");
+    }
+    
+    @Test
+    @DisplayName("Test n quelconque: grossissement jusqu'au niveau grossier, même nombre de cycles")
+    void testGeneralMeshSizeCoarsens() {
+        BoundaryConditions bc = new BoundaryConditions(0.5, -1.0);
+        int[] nValues = {1023, 1000, 1366};
+        int[] cycles = new int[nValues.length];
+        
+        for (int k = 0; k < nValues.length; k++) {
+            MultigridSolver solver = new MultigridSolver(nValues[k], F, bc,
+                    MultigridSolver.CycleType.V, 2, 2, 1e-6, 50, 1.0, false);
+            Solution solution = solver.solve();
+            // 1023 -> 511 -> ... -> 3, 1000 -> 500 -> ... -> 3, 1366 -> 683 -> ... -> 5
+            assertEquals(9, solver.getLevels());
+            cycles[k] = solution.getIterations();
+            assertTrue(solution.getResidual() < 1e-6, "Le résidu devrait atteindre la tolérance");
+        }
+        
+        assertTrue(cycles[1] - cycles[0] <= 2 && cycles[2] - cycles[0] <= 2,
+                  "Un dernier intervalle plus court ne devrait pas ralentir les cycles");
+    }
+    
+    @Test
+    @DisplayName("Test multigrille complet: précision de discrétisation en un cycle")
+    void testFullMultigridReachesDiscretisationAccuracy() {
+        BoundaryConditions bc = new BoundaryConditions(0.0, 0.0);
+        int n = 1023;
+        
+        Solution direct = new DirectSolver(n, F, bc).solve();
+        Solution fmg = new MultigridSolver(n, F, bc, MultigridSolver.CycleType.V,
+                2, 2, 1e-8, 1, 1.0, true).solve();
+        
+        double directError = ErrorCalculator.calculateMaxError(direct, EXACT);
+        double fmgError = ErrorCalculator.calculateMaxError(fmg, EXACT);
+        
+        assertEquals(1, fmg.getIterations());
+        assertTrue(fmgError < 2 * directError,
+                  "Un passage de multigrille complet devrait suffire à l'erreur de discrétisation");
+    }
+    
+    @Test
+    @DisplayName("Test W-cycle avec sur-relaxation")
+    void testWCycleWithSOR() {
+        MathFunction f = MathFunction.constant(2.0);
+        BoundaryConditions bc = new BoundaryConditions(1.0, 3.0);
+        
+        Solution solution = new MultigridSolver(255, f, bc, MultigridSolver.CycleType.W,
+                1, 1, 1e-8, 50, 1.2, false).solve();
+        
+        assertEquals(1.0, solution.getValue(0), 1e-10);
+        assertEquals(3.0, solution.getValue(solution.size() - 1), 1e-10);
+        assertTrue(solution.getResidual() < 1e-8);
+        assertTrue(solution.getIterations() < 20);
+    }
+}
@@ -0,0 +1,99 @@
+package com.numanalysis.solver;
+
+import com.analysis.model.Solution;
+import com.analysis.storage.DoubleStorage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedDoubleStorageTest {
+    
+    // Segments de 16 valeurs: chaque accès ci-dessous franchit des frontières
+    private static final int SEGMENT_SIZE = 16;
+    private static final int SIZE = 100; // 7 segments, le dernier incomplet
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    @DisplayName("Accès ponctuels et par blocs à cheval sur les segments: tas, hors tas, fichier projeté")
+    void testAccessAcrossSegments() throws IOException {
+        try (FileChannel channel = FileChannel.open(tempDir.resolve("values.bin"), StandardOpenOption.CREATE,
+                                                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            DoubleStorage mapped = DoubleStorage.mapped(channel, 0, SIZE, FileChannel.MapMode.READ_WRITE, SEGMENT_SIZE);
+            DoubleStorage direct = DoubleStorage.direct(SIZE, SEGMENT_SIZE);
+            assertEquals(7, mapped.asReadOnlySegments().size());
+            assertEquals(7, direct.asReadOnlySegments().size());
+            
+            for (DoubleStorage storage : new DoubleStorage[] {DoubleStorage.heap(SIZE), direct, mapped}) {
+                // Valeurs ponctuelles de part et d'autre de chaque frontière
+                for (long i = 0; i < SIZE; i++) {
+                    storage.set(i, i * 0.5);
+                }
+                for (long i = 0; i < SIZE; i++) {
+                    assertEquals(i * 0.5, storage.get(i));
+                }
+                
+                // Bloc de 40 valeurs à partir de 10: trois frontières franchies
+                double[] block = new double[40];
+                for (int k = 0; k < block.length; k++) {
+                    block[k] = -k - 1;
+                }
+                storage.set(10, block, 0, block.length);
+                double[] read = new double[44];
+                storage.get(8, read, 2, 42);
+                assertEquals(4.0, read[2]);
+                assertEquals(4.5, read[3]);
+                for (int k = 0; k < block.length; k++) {
+                    assertEquals(block[k], read[4 + k]);
+                }
+                assertEquals(25.0, storage.get(50));
+                
+                // Les vues par segments couvrent toutes les valeurs dans l'ordre
+                long index = 0;
+                for (DoubleBuffer view : storage.asReadOnlySegments()) {
+                    assertTrue(view.isReadOnly());
+                    for (int k = 0; k < view.limit(); k++) {
+                        assertEquals(storage.get(index++), view.get(k));
+                    }
+                }
+                assertEquals(SIZE, index);
+            }
+            assertThrows(UnsupportedOperationException.class, direct::asReadOnlyBuffer);
+        }
+    }
+    
+    @Test
+    @DisplayName("Solution sur un stockage de plusieurs segments: vues par segments")
+    void testSolutionSegments() {
+        DoubleStorage storage = DoubleStorage.direct(SIZE, SEGMENT_SIZE);
+        for (long i = 0; i < SIZE; i++) {
+            storage.set(i, i);
+        }
+        Solution solution = Solution.ofStorage(storage, 1.0 / (SIZE - 1), 1, 0.0);
+        
+        List<DoubleBuffer> segments = solution.valuesSegments();
+        assertEquals(7, segments.size());
+        assertEquals(16, segments.get(0).limit());
+        assertEquals(4, segments.get(6).limit());
+        assertEquals(99.0, segments.get(6).get(3));
+        assertThrows(UnsupportedOperationException.class, solution::valuesView);
+    }
+    
+    @Test
+    @DisplayName("Taille de segment qui n'est pas une puissance de 2 ou dépasse 2^27 refusée")
+    void testInvalidSegmentSize() {
+        assertThrows(IllegalArgumentException.class, () -> DoubleStorage.direct(SIZE, 24));
+        assertThrows(IllegalArgumentException.class, () -> DoubleStorage.direct(SIZE, 0));
+        assertThrows(IllegalArgumentException.class, () -> DoubleStorage.direct(SIZE, 1 << 28));
+    }
+}
@@ -0,0 +1,144 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.io.SolutionHeader;
+import com.analysis.io.SolutionReader;
+import com.analysis.io.SolutionWriter;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.NonUniformGridSolver;
+import com.analysis.storage.DoubleStorage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolutionIOTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    @DisplayName("Aller-retour binaire: valeurs, en-tête et grille identiques")
+    void testRoundTrip() throws IOException {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+        BoundaryConditions bc = new BoundaryConditions(0.5, -1.0);
+        int n = 30000;
+        Solution solution = new DirectSolver(n, f, bc).solve();
+        Path file = tempDir.resolve("direct.fds");
+        
+        SolutionWriter.write(file, solution, "direct");
+        
+        assertEquals(72 + (n + 2) * 8L, Files.size(file));
+        SolutionHeader header = SolutionReader.readHeader(file);
+        assertEquals(n, header.getN());
+        assertEquals(1.0 / (n + 1), header.getH());
+        assertEquals(0.5, header.getBoundaryConditions().getU0());
+        assertEquals(-1.0, header.getBoundaryConditions().getU1());
+        assertEquals(1, header.getIterations());
+        assertEquals(solution.getResidual(), header.getResidual());
+        assertEquals("direct", header.getSolverId());
+        
+        Solution read = SolutionReader.read(file);
+        assertTrue(read.isStorageBacked());
+        assertArrayEquals(solution.getValues(), read.getValues());
+        assertEquals(solution.getX(12345), read.getX(12345));
+        assertEquals(solution.getResidual(), read.getResidual());
+        assertTrue(read.valuesView().isReadOnly());
+    }
+    
+    @Test
+    @DisplayName("Écriture par blocs, dans le désordre, puis complétion de l'en-tête")
+    void testStreamingChunks() throws IOException {
+        Path file = tempDir.resolve("chunks.fds");
+        int n = 10;
+        double[] values = new double[n + 2];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * i;
+        }
+        
+        try (SolutionWriter writer = new SolutionWriter(file, n, 1.0 / (n + 1),
+                                                        new BoundaryConditions(0.0, 121.0), "gauss-seidel")) {
+            writer.append(values, 0, 5);
+            writer.write(8, values, 8, 4);
+            assertThrows(IllegalStateException.class, () -> writer.finish(3, 1e-9));
+            // u_4 déjà écrit: recouvrement refusé, même si le total atteint n + 2
+            assertThrows(IllegalStateException.class, () -> writer.write(4, values, 4, 3));
+            assertThrows(IllegalStateException.class, () -> writer.finish(3, 1e-9));
+            writer.append(values, 5, 3);
+            writer.finish(42, 1e-9);
+        }
+        
+        Solution read = SolutionReader.read(file);
+        assertArrayEquals(values, read.getValues());
+        assertEquals(42, read.getIterations());
+        assertEquals("gauss-seidel", SolutionReader.readHeader(file).getSolverId());
+    }
+    
+    @Test
+    @DisplayName("Résolution directe en flux écrite bloc par bloc pendant la remontée")
+    void testDirectSolverStreamsToWriter() throws IOException {
+        MathFunction f = x -> Math.exp(x);
+        BoundaryConditions bc = new BoundaryConditions(1.0, 2.0);
+        int n = 20000;
+        DirectSolver solver = new DirectSolver(n, f, bc);
+        Path file = tempDir.resolve("streamed.fds");
+        
+        Solution solution;
+        try (SolutionWriter writer = new SolutionWriter(file, n, 1.0 / (n + 1), bc, "direct")) {
+            solution = solver.solve(DoubleStorage.heap(n + 2), writer);
+            assertTrue(writer.isFinished());
+        }
+        
+        Solution read = SolutionReader.read(file);
+        assertArrayEquals(solution.getValues(), read.getValues());
+        assertEquals(solution.getResidual(), read.getResidual());
+    }
+    
+    @Test
+    @DisplayName("Un fichier de sortie décrivant un autre problème est refusé avant la résolution")
+    void testDirectSolverRejectsMismatchedWriter() throws IOException {
+        BoundaryConditions bc = new BoundaryConditions(1.0, 2.0);
+        int n = 100;
+        DirectSolver solver = new DirectSolver(n, x -> 1.0, bc);
+        DoubleStorage u = DoubleStorage.heap(n + 2);
+        Path file = tempDir.resolve("mismatch.fds");
+        
+        try (SolutionWriter writer = new SolutionWriter(file, n + 1, 1.0 / (n + 2), bc, "direct")) {
+            assertThrows(IllegalArgumentException.class, () -> solver.solve(u, writer));
+        }
+        try (SolutionWriter writer = new SolutionWriter(file, n, 1.0 / n, bc, "direct")) {
+            assertThrows(IllegalArgumentException.class, () -> solver.solve(u, writer));
+        }
+        try (SolutionWriter writer = new SolutionWriter(file, n, 1.0 / (n + 1), new BoundaryConditions(1.0, 0.0), "direct")) {
+            assertThrows(IllegalArgumentException.class, () -> solver.solve(u, writer));
+            assertFalse(writer.isFinished());
+        }
+        // Rien n'a été résolu dans le stockage
+        assertEquals(0.0, u.get(n / 2));
+    }
+    
+    @Test
+    @DisplayName("Une solution sur grille non uniforme est refusée")
+    void testNonUniformSolutionRejected() {
+        MathFunction f = x -> 1.0;
+        Solution solution = new NonUniformGridSolver(new double[] {0.0, 0.1, 0.3, 0.6, 1.0}, f,
+                                                     new BoundaryConditions(0.0, 0.0)).solve();
+        assertThrows(IllegalArgumentException.class,
+                     () -> SolutionWriter.write(tempDir.resolve("grid.fds"), solution, "non-uniform"));
+    }
+    
+    @Test
+    @DisplayName("Un fichier qui n'est pas une solution est refusé")
+    void testInvalidFile() throws IOException {
+        Path file = tempDir.resolve("invalid.fds");
+        Files.write(file, "u,x\n0.0,0.0\n".getBytes());
+        assertThrows(IOException.class, () -> SolutionReader.read(file));
+    }
+}
@@ -0,0 +1,183 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.model.SolverMetrics;
+import com.analysis.model.SolverMetrics.Phase;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.FiniteDifferenceSolver;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.solver.MultigridSolver;
+import com.analysis.solver.SolverListener;
+import com.analysis.solver.SolverWorkspace;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SolverMetricsTest {
+    
+    private final MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+    private final BoundaryConditions bc = new BoundaryConditions(0.0, 0.0);
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    @DisplayName("Sans activation, aucune mesure n'est attachée à la solution")
+    void testDisabledByDefault() {
+        DirectSolver solver = new DirectSolver(100, f, bc);
+        
+        assertFalse(solver.isMetricsEnabled());
+        assertNull(solver.solve().getMetrics());
+    }
+    
+    @Test
+    @DisplayName("Gauss-Seidel: un balayage par itération, f évaluée n + 2 fois, phases chronométrées")
+    void testGaussSeidelMetrics() {
+        int n = 50;
+        GaussSeidelSolver solver = GaussSeidelSolver.withSOR(n, f, bc, 1.8);
+        solver.setMetricsEnabled(true);
+        
+        Solution solution = solver.solve();
+        SolverMetrics metrics = solution.getMetrics();
+        
+        assertNotNull(metrics);
+        assertEquals(solution.getIterations(), metrics.getSweeps());
+        assertEquals(n + 2, metrics.getFunctionEvaluations());
+        assertTrue(metrics.getPhaseNanos(Phase.ASSEMBLY) > 0);
+        assertTrue(metrics.getPhaseNanos(Phase.SOLVE) > 0);
+        assertTrue(metrics.getPhaseNanos(Phase.RESIDUAL) > 0);
+        
+        long phases = 0;
+        for (Phase phase : Phase.values()) {
+            phases += metrics.getPhaseNanos(phase);
+        }
+        assertEquals(metrics.getTotalNanos(), phases);
+        
+        // La solution mesurée partage les valeurs calculées
+        assertEquals(solution.getValue(n / 2), solution.getValues()[n / 2]);
+    }
+    
+    @Test
+    @DisplayName("Les écouteurs reçoivent des lots d'itérations couvrant toute la résolution")
+    void testListenerBatches() {
+        GaussSeidelSolver solver = new GaussSeidelSolver(40, f, bc, 1e-10, 1000, 1.0);
+        List<int[]> batches = new ArrayList<>();
+        List<SolverMetrics> completed = new ArrayList<>();
+        solver.addListener(new SolverListener() {
+            @Override
+            public void onIterations(FiniteDifferenceSolver source, int firstIteration, int count, double error) {
+                batches.add(new int[]{firstIteration, count});
+            }
+            
+            @Override
+            public void onSolveCompleted(FiniteDifferenceSolver source, SolverMetrics metrics) {
+                completed.add(metrics);
+            }
+        });
+        
+        Solution solution = solver.solve();
+        
+        int next = 0;
+        for (int[] batch : batches) {
+            assertEquals(next, batch[0]);
+            next += batch[1];
+        }
+        assertEquals(solution.getIterations(), next);
+        assertEquals(1, completed.size());
+        assertEquals(solution.getIterations(), completed.get(0).getSweeps());
+        // Les écouteurs n'activent pas l'attachement des mesures à la solution
+        assertNull(solution.getMetrics());
+    }
+    
+    @Test
+    @DisplayName("JFR: un événement Solve et des lots IterationBatch couvrant toute la résolution")
+    void testFlightRecorderEvents() throws Exception {
+        GaussSeidelSolver solver = new GaussSeidelSolver(40, f, bc, 1e-10, 1000, 1.0);
+        Path file = tempDir.resolve("solve.jfr");
+        
+        Solution solution;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.analysis.solver.Solve").withThreshold(Duration.ZERO);
+            recording.enable("com.analysis.solver.IterationBatch").withThreshold(Duration.ZERO);
+            recording.start();
+            solution = solver.solve();
+            recording.stop();
+            recording.dump(file);
+        }
+        
+        List<RecordedEvent> solves = new ArrayList<>();
+        List<RecordedEvent> batches = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            String name = event.getEventType().getName();
+            if (name.equals("com.analysis.solver.Solve")) {
+                solves.add(event);
+            } else if (name.equals("com.analysis.solver.IterationBatch")) {
+                batches.add(event);
+            }
+        }
+        
+        assertEquals(1, solves.size());
+        RecordedEvent solve = solves.get(0);
+        assertEquals("GaussSeidelSolver", solve.getString("solver"));
+        assertEquals(40, solve.getInt("n"));
+        assertEquals(solution.getIterations(), solve.getInt("iterations"));
+        assertEquals(solution.getResidual(), solve.getDouble("residual"));
+        assertTrue(solve.getDuration("elapsed").toNanos() > 0);
+        
+        // Lots de 64 itérations, le dernier incomplet, dans l'ordre et sans trou
+        assertEquals((solution.getIterations() + 63) / 64, batches.size());
+        batches.sort((a, b) -> Integer.compare(a.getInt("firstIteration"), b.getInt("firstIteration")));
+        int next = 0;
+        for (RecordedEvent batch : batches) {
+            assertEquals("GaussSeidelSolver", batch.getString("solver"));
+            assertEquals(next, batch.getInt("firstIteration"));
+            next += batch.getInt("count");
+        }
+        assertEquals(solution.getIterations(), next);
+    }
+    
+    @Test
+    @DisplayName("Multigrille: un balayage compté par cycle")
+    void testMultigridCycles() {
+        MultigridSolver solver = new MultigridSolver(127, f, bc);
+        solver.setMetricsEnabled(true);
+        
+        Solution solution = solver.solve();
+        
+        assertEquals(solution.getIterations(), solution.getMetrics().getSweeps());
+        assertTrue(solution.getMetrics().getFunctionEvaluations() > 127);
+    }
+    
+    @Test
+    @DisplayName("plus() cumule les mesures de plusieurs résolutions")
+    void testAggregation() {
+        DirectSolver solver = new DirectSolver(200, f, bc);
+        solver.setMetricsEnabled(true);
+        SolverWorkspace workspace = new SolverWorkspace();
+        
+        SolverMetrics first = solver.solve(workspace).getMetrics();
+        SolverMetrics second = solver.solve(workspace).getMetrics();
+        SolverMetrics total = first.plus(second);
+        
+        // f n'est échantillonnée qu'à la première résolution
+        assertEquals(202, first.getFunctionEvaluations());
+        assertEquals(0, second.getFunctionEvaluations());
+        assertEquals(202, total.getFunctionEvaluations());
+        assertEquals(first.getTotalNanos() + second.getTotalNanos(), total.getTotalNanos());
+        assertEquals(first.getPhaseNanos(Phase.SOLVE) + second.getPhaseNanos(Phase.SOLVE),
+                     total.getPhaseNanos(Phase.SOLVE));
+    }
+}
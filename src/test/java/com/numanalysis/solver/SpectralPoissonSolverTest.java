@@ -0,0 +1,51 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.SolverWorkspace;
+import com.analysis.solver.SpectralPoissonSolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpectralPoissonSolverTest {
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7, 31, 50, 100, 1023, 1000, 4999})
+    @DisplayName("Test comparaison avec solution directe (tailles puissance de 2 ou non)")
+    void testComparisonWithDirectSolver(int n) {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x) + Math.exp(x);
+        BoundaryConditions bc = new BoundaryConditions(1.0, -0.5);
+        
+        Solution direct = new DirectSolver(n, f, bc).solve();
+        Solution spectral = new SpectralPoissonSolver(n, f, bc).solve();
+        
+        assertEquals(1, spectral.getIterations());
+        assertEquals(1.0, spectral.getValue(0), 0.0);
+        assertEquals(-0.5, spectral.getValue(spectral.size() - 1), 0.0);
+        for (int i = 0; i < direct.size(); i++) {
+            assertEquals(direct.getValue(i), spectral.getValue(i), 1e-9,
+                        "Solutions should be similar at point " + i);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test tableaux de travail réutilisés: mêmes valeurs d'un n à l'autre")
+    void testWorkspaceReuse() {
+        MathFunction f = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x) + Math.exp(x);
+        BoundaryConditions bc = new BoundaryConditions(1.0, -0.5);
+        SolverWorkspace workspace = new SolverWorkspace();
+        
+        // Bluestein (n = 50) puis radix-2 (n = 31), puis de nouveau n = 50
+        for (int n : new int[] {50, 31, 50}) {
+            Solution expected = new SpectralPoissonSolver(n, f, bc).solve();
+            Solution reused = new SpectralPoissonSolver(n, f, bc).solve(workspace);
+            assertArrayEquals(expected.getValues(), reused.getValues(), 0.0);
+        }
+    }
+}
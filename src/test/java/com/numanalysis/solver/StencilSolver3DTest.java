@@ -0,0 +1,139 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction3D;
+import com.analysis.model.Solution3D;
+import com.analysis.solver.StencilSolver3D;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StencilSolver3DTest {
+    
+    // -Δu = 3π² sin(πx) sin(πy) sin(πz), u = 0 au bord
+    private static final MathFunction3D F = (x, y, z) ->
+            3 * Math.PI * Math.PI * Math.sin(Math.PI * x) * Math.sin(Math.PI * y) * Math.sin(Math.PI * z);
+    private static final MathFunction3D EXACT = (x, y, z) ->
+            Math.sin(Math.PI * x) * Math.sin(Math.PI * y) * Math.sin(Math.PI * z);
+    private static final MathFunction3D ZERO = MathFunction3D.constant(0.0);
+    
+    private static double maxError(Solution3D solution) {
+        double maxError = 0.0;
+        int n = solution.getN();
+        for (int k = 0; k <= n + 1; k++) {
+            for (int j = 0; j <= n + 1; j++) {
+                for (int i = 0; i <= n + 1; i++) {
+                    double exact = EXACT.apply(solution.getX(i), solution.getY(j), solution.getZ(k));
+                    maxError = Math.max(maxError, Math.abs(solution.getValue(i, j, k) - exact));
+                }
+            }
+        }
+        return maxError;
+    }
+    
+    @ParameterizedTest
+    @EnumSource(StencilSolver3D.Smoother.class)
+    @DisplayName("Convergence d'ordre 2 vers sin(πx) sin(πy) sin(πz)")
+    void testSecondOrderConvergence(StencilSolver3D.Smoother smoother) {
+        double[] errors = new double[2];
+        int[] sizes = {7, 15};
+        for (int l = 0; l < sizes.length; l++) {
+            int n = sizes[l];
+            double omega = smoother == StencilSolver3D.Smoother.RED_BLACK ? 2 / (1 + Math.sin(Math.PI / (n + 1))) : 1.0;
+            Solution3D solution = new StencilSolver3D(n, F, ZERO, 1e-12, 20000, omega, smoother,
+                                                      ForkJoinPool.commonPool()).solve();
+            errors[l] = maxError(solution);
+        }
+        
+        double order = Math.log(errors[0] / errors[1]) / Math.log(16.0 / 8.0);
+        assertEquals(2.0, order, 0.15);
+    }
+    
+    @Test
+    @DisplayName("Passage fusionné rouge-noir = balayage rouge puis balayage noir")
+    void testFusedRedBlackMatchesReference() {
+        int n = 12;
+        int sweeps = 3;
+        double omega = 1.3;
+        ForkJoinPool pool = new ForkJoinPool(3);
+        Solution3D fused = new StencilSolver3D(n, F, ZERO, 0.0, sweeps, omega, StencilSolver3D.Smoother.RED_BLACK,
+                                               pool).solve();
+        pool.shutdown();
+        
+        double[] u = new double[(n + 2) * (n + 2) * (n + 2)];
+        for (int s = 0; s < sweeps; s++) {
+            for (int parity = 1; parity >= 0; parity--) {
+                for (int k = 1; k <= n; k++) {
+                    for (int j = 1; j <= n; j++) {
+                        for (int i = 1; i <= n; i++) {
+                            if ((i + j + k) % 2 == parity) {
+                                int c = index(n, i, j, k);
+                                double gs = gaussSeidelValue(u, n, i, j, k);
+                                u[c] = (1 - omega) * u[c] + omega * gs;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        
+        assertEquals(sweeps, fused.getIterations());
+        assertArrayEquals(u, fused.getValues(), 1e-14);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {4, 5})
+    @DisplayName("Passage fusionné de Jacobi = deux itérations de Jacobi classiques, une seule à la fin si impair")
+    void testFusedJacobiMatchesReference(int iterations) {
+        int n = 10;
+        Solution3D fused = new StencilSolver3D(n, F, ZERO, 0.0, iterations, 1.0, StencilSolver3D.Smoother.JACOBI,
+                                               ForkJoinPool.commonPool()).solve();
+        
+        double[] u = new double[(n + 2) * (n + 2) * (n + 2)];
+        for (int s = 0; s < iterations; s++) {
+            double[] next = u.clone();
+            for (int k = 1; k <= n; k++) {
+                for (int j = 1; j <= n; j++) {
+                    for (int i = 1; i <= n; i++) {
+                        next[index(n, i, j, k)] = gaussSeidelValue(u, n, i, j, k);
+                    }
+                }
+            }
+            u = next;
+        }
+        
+        assertEquals(iterations, fused.getIterations());
+        assertArrayEquals(u, fused.getValues(), 1e-14);
+    }
+    
+    @Test
+    @DisplayName("Statistiques de balayage et bords non homogènes")
+    void testStatisticsAndBoundary() {
+        // u = x + 2y - z est harmonique: reproduite exactement
+        MathFunction3D linear = (x, y, z) -> x + 2 * y - z;
+        Solution3D solution = new StencilSolver3D(9, ZERO, linear, 1e-13, 5000, 1.5,
+                                                  StencilSolver3D.Smoother.RED_BLACK, ForkJoinPool.commonPool()).solve();
+        
+        assertEquals(linear.apply(0.3, 0.4, 0.5), solution.getValue(3, 4, 5), 1e-10);
+        assertEquals(solution.getIterations(), solution.getSweepStatistics().getSweeps());
+        assertEquals(3L * 9 * 9 * 9 * Double.BYTES, solution.getSweepStatistics().getBytesPerSweep());
+        assertTrue(solution.getSweepStatistics().getNanosPerSweep() > 0);
+        assertTrue(solution.getSweepStatistics().getBandwidth() > 0);
+    }
+    
+    private static int index(int n, int i, int j, int k) {
+        return (k * (n + 2) + j) * (n + 2) + i;
+    }
+    
+    private static double gaussSeidelValue(double[] u, int n, int i, int j, int k) {
+        double h = 1.0 / (n + 1);
+        return (u[index(n, i - 1, j, k)] + u[index(n, i + 1, j, k)] + u[index(n, i, j - 1, k)]
+                + u[index(n, i, j + 1, k)] + u[index(n, i, j, k - 1)] + u[index(n, i, j, k + 1)]
+                + h * h * F.apply(i * h, j * h, k * h)) / 6;
+    }
+}
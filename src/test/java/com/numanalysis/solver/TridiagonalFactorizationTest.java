@@ -0,0 +1,135 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.Solution;
+import com.analysis.solver.DirectSolver;
+import com.analysis.solver.TridiagonalFactorization;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TridiagonalFactorizationTest {
+    
+    @Test
+    @DisplayName("Test factorisation mise en cache par n")
+    void testCacheReturnsSameFactorization() {
+        TridiagonalFactorization first = TridiagonalFactorization.of(100);
+        
+        assertSame(first, TridiagonalFactorization.of(100));
+        assertNotSame(first, TridiagonalFactorization.of(101));
+        assertNotSame(first, TridiagonalFactorization.of(100, -1.0, 4.0, -1.0));
+        assertEquals(100, first.size());
+    }
+    
+    @Test
+    @DisplayName("Test matrice trop grande pour le cache, cache vidé")
+    void testLargeFactorizationNotCached() {
+        // 2n doubles, au-delà des 32 Mo du cache
+        int n = 1 << 22;
+        assertNotSame(TridiagonalFactorization.of(n), TridiagonalFactorization.of(n));
+        
+        TridiagonalFactorization small = TridiagonalFactorization.of(64);
+        TridiagonalFactorization.clearCache();
+        assertNotSame(small, TridiagonalFactorization.of(64));
+    }
+    
+    @Test
+    @DisplayName("Test coefficients constants identiques aux diagonales explicites")
+    void testConstantMatchesExplicitDiagonals() {
+        int n = 200;
+        double[] lower = new double[n];
+        double[] diagonal = new double[n];
+        double[] upper = new double[n];
+        Arrays.fill(lower, -1.0);
+        Arrays.fill(diagonal, 4.0);
+        Arrays.fill(upper, -1.0);
+        double[] d = new double[n];
+        for (int i = 0; i < n; i++) {
+            d[i] = Math.cos(i * 0.05);
+        }
+        
+        double[] constant = new double[n];
+        double[] explicit = new double[n];
+        TridiagonalFactorization.of(n, -1.0, 4.0, -1.0).solve(d, constant);
+        TridiagonalFactorization.factor(lower, diagonal, upper).solve(d, explicit);
+        assertArrayEquals(explicit, constant, 0.0);
+    }
+    
+    @Test
+    @DisplayName("Test coefficients variables sans modifier les diagonales")
+    void testVariableCoefficients() {
+        double[] lower = {0.0, 1.0, -2.0, 0.5};
+        double[] diagonal = {4.0, 5.0, 6.0, 3.0};
+        double[] upper = {1.0, -1.0, 2.0, 0.0};
+        double[] diagonalCopy = diagonal.clone();
+        double[] expected = {1.0, -2.0, 0.5, 3.0};
+        
+        // d = A * expected
+        double[] d = new double[4];
+        for (int i = 0; i < 4; i++) {
+            d[i] = diagonal[i] * expected[i];
+            if (i > 0) d[i] += lower[i] * expected[i - 1];
+            if (i < 3) d[i] += upper[i] * expected[i + 1];
+        }
+        
+        double[] x = new double[4];
+        TridiagonalFactorization.factor(lower, diagonal, upper).solve(d, x);
+        
+        assertArrayEquals(expected, x, 1e-12);
+        assertArrayEquals(diagonalCopy, diagonal, 0.0);
+    }
+    
+    @Test
+    @DisplayName("Test résolution groupée identique aux résolutions individuelles")
+    void testBatchMatchesIndividualSolves() {
+        int n = 300;
+        TridiagonalFactorization lu = TridiagonalFactorization.of(n);
+        double[][] rhs = new double[7][n];
+        for (int k = 0; k < rhs.length; k++) {
+            for (int i = 0; i < n; i++) {
+                rhs[k][i] = Math.sin((k + 1) * i * 0.01) + k;
+            }
+        }
+        
+        double[][] batch = new double[rhs.length][n];
+        double[][] parallel = new double[rhs.length][n];
+        lu.solveBatch(rhs, batch);
+        lu.solveBatch(rhs, parallel, ForkJoinPool.commonPool());
+        
+        for (int k = 0; k < rhs.length; k++) {
+            double[] single = new double[n];
+            lu.solve(rhs[k], single);
+            assertArrayEquals(single, batch[k], 0.0);
+            assertArrayEquals(single, parallel[k], 0.0);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test DirectSolver.solveBatch sur plusieurs fonctions sources")
+    void testDirectSolverBatch() {
+        BoundaryConditions bc = new BoundaryConditions(1.0, 2.0);
+        List<MathFunction> sources = Arrays.asList(
+            MathFunction.constant(2.0),
+            MathFunction.linear(6, 0),
+            x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x)
+        );
+        
+        DirectSolver solver = new DirectSolver(40, sources.get(0), bc);
+        List<Solution> batch = solver.solveBatch(sources);
+        List<Solution> parallel = solver.solveBatch(sources, ForkJoinPool.commonPool());
+        
+        assertEquals(sources.size(), batch.size());
+        for (int k = 0; k < sources.size(); k++) {
+            Solution single = new DirectSolver(40, sources.get(k), bc).solve();
+            assertArrayEquals(single.getValues(), batch.get(k).getValues(), 1e-12);
+            assertArrayEquals(single.getValues(), parallel.get(k).getValues(), 1e-12);
+            assertEquals(single.getResidual(), batch.get(k).getResidual(), 1e-9);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.numanalysis.solver;
+
+import com.analysis.function.MathFunction;
+import com.analysis.model.BoundaryConditions;
+import com.analysis.model.ConvergenceStatus;
+import com.analysis.model.Solution;
+import com.analysis.model.SolverMetrics;
+import com.analysis.solver.ConjugateGradientSolver;
+import com.analysis.solver.ConvergenceCriterion;
+import com.analysis.solver.FiniteDifferenceSolver;
+import com.analysis.solver.GaussSeidelSolver;
+import com.analysis.solver.MultigridSolver;
+import com.analysis.solver.NestedIterationSolver;
+import com.analysis.solver.SolverListener;
+import com.analysis.storage.DoubleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WarmStartTest {
+    
+    private static final MathFunction F = x -> 4 * Math.PI * Math.PI * Math.sin(2 * Math.PI * x);
+    private static final BoundaryConditions BC = new BoundaryConditions(0.0, 1.0);
+    
+    @Test
+    @DisplayName("Repartir d'une solution convergée ne demande presque aucune itération")
+    void testRestartFromConvergedSolution() {
+        GaussSeidelSolver first = GaussSeidelSolver.withOptimalSOR(127, F, BC);
+        first.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-8, 100000));
+        Solution converged = first.solve();
+        
+        GaussSeidelSolver second = GaussSeidelSolver.withOptimalSOR(127, F, BC);
+        second.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-8, 100000));
+        second.setInitialGuess(converged);
+        Solution restarted = second.solve();
+        
+        assertEquals(ConvergenceStatus.CONVERGED, restarted.getStatus());
+        assertEquals(0, restarted.getIterations());
+        assertArrayEquals(converged.getValues(), restarted.getValues());
+    }
+    
+    @Test
+    @DisplayName("Une solution sur grille grossière, interpolée, réduit le nombre de balayages")
+    void testCoarseGridGuess() {
+        GaussSeidelSolver coarse = GaussSeidelSolver.withOptimalSOR(127, F, BC);
+        coarse.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-8, 100000));
+        Solution coarseSolution = coarse.solve();
+        
+        GaussSeidelSolver cold = GaussSeidelSolver.withOptimalSOR(255, F, BC);
+        cold.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-8, 100000));
+        GaussSeidelSolver warm = GaussSeidelSolver.withOptimalSOR(255, F, BC);
+        warm.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-8, 100000));
+        warm.setInitialGuess(coarseSolution);
+        
+        Solution coldSolution = cold.solve();
+        Solution warmSolution = warm.solve();
+        
+        assertEquals(ConvergenceStatus.CONVERGED, warmSolution.getStatus());
+        assertTrue(warmSolution.getIterations() < coldSolution.getIterations(),
+                   warmSolution.getIterations() + " >= " + coldSolution.getIterations());
+        for (int i = 0; i < 257; i++) {
+            assertEquals(coldSolution.getValue(i), warmSolution.getValue(i), 1e-8);
+        }
+    }
+    
+    @Test
+    @DisplayName("Démarrage à chaud: stockage, gradient conjugué et multigrille")
+    void testOtherSolvers() {
+        Solution coarse = new MultigridSolver(63, F, BC).solve();
+        
+        GaussSeidelSolver heap = GaussSeidelSolver.withSOR(127, F, BC, 1.9);
+        GaussSeidelSolver offHeap = GaussSeidelSolver.withSOR(127, F, BC, 1.9);
+        heap.setInitialGuess(coarse);
+        offHeap.setInitialGuess(coarse);
+        Solution heapSolution = heap.solve();
+        Solution storageSolution = offHeap.solve(DoubleStorage.heap(129));
+        assertEquals(heapSolution.getIterations(), storageSolution.getIterations());
+        assertArrayEquals(heapSolution.getValues(), storageSolution.getValues());
+        
+        ConjugateGradientSolver cg = new ConjugateGradientSolver(127, F, BC);
+        Solution coldCg = cg.solve();
+        cg.setInitialGuess(coarse);
+        Solution warmCg = cg.solve();
+        assertEquals(ConvergenceStatus.CONVERGED, warmCg.getStatus());
+        assertEquals(coldCg.getValue(64), warmCg.getValue(64), 1e-8);
+        
+        // Le multigrille complet est remplacé par l'approximation fournie
+        MultigridSolver multigrid = new MultigridSolver(127, F, BC);
+        multigrid.setInitialGuess(heapSolution);
+        assertEquals(0, multigrid.solve().getIterations());
+    }
+    
+    @Test
+    @DisplayName("Itérations emboîtées: même solution, beaucoup moins de balayages sur la grille fine")
+    void testNestedIteration() {
+        int n = 511;
+        GaussSeidelSolver cold = GaussSeidelSolver.withOptimalSOR(n, F, BC);
+        cold.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-4, 100000));
+        NestedIterationSolver nested = new NestedIterationSolver(n, F, BC, (m, f, bc) -> {
+            GaussSeidelSolver level = GaussSeidelSolver.withOptimalSOR(m, f, bc);
+            level.setConvergenceCriterion(ConvergenceCriterion.absolute(1e-4, 100000));
+            return level;
+        });
+        nested.setMetricsEnabled(true);
+        
+        Solution coldSolution = cold.solve();
+        Solution nestedSolution = nested.solve();
+        
+        int[] sizes = nested.getLevelSizes();
+        int[] iterations = nested.getLevelIterations();
+        assertEquals(n, sizes[sizes.length - 1]);
+        assertEquals(15, sizes[0]);
+        assertEquals(iterations[iterations.length - 1], nestedSolution.getIterations());
+        
+        // Travail total mesuré en balayages de la grille fine
+        double work = 0;
+        int sweeps = 0;
+        for (int l = 0; l < sizes.length; l++) {
+            work += iterations[l] * (double) sizes[l] / n;
+            sweeps += iterations[l];
+        }
+        assertTrue(work < 0.6 * coldSolution.getIterations(), work + " / " + coldSolution.getIterations());
+        assertEquals(sweeps, nestedSolution.getMetrics().getSweeps());
+        assertEquals(ConvergenceStatus.CONVERGED, nestedSolution.getStatus());
+        for (int i = 0; i < n + 2; i++) {
+            assertEquals(coldSolution.getValue(i), nestedSolution.getValue(i), 1e-5);
+        }
+    }
+    
+    @Test
+    @DisplayName("Itérations emboîtées: écouteurs prévenus une fois, balayages de tous les niveaux")
+    void testNestedIterationListener() {
+        NestedIterationSolver nested = new NestedIterationSolver(127, F, BC, GaussSeidelSolver::withOptimalSOR);
+        List<SolverMetrics> completed = new ArrayList<>();
+        nested.addListener(new SolverListener() {
+            @Override
+            public void onSolveCompleted(FiniteDifferenceSolver solver, SolverMetrics metrics) {
+                assertSame(nested, solver);
+                completed.add(metrics);
+            }
+        });
+        
+        Solution solution = nested.solve();
+        
+        // Mesures transmises aux écouteurs sans être activées pour la solution
+        assertNull(solution.getMetrics());
+        assertEquals(1, completed.size());
+        assertEquals(Arrays.stream(nested.getLevelIterations()).sum(), completed.get(0).getSweeps());
+        assertTrue(completed.get(0).getTotalNanos() > 0);
+    }
+    
+    @Test
+    @DisplayName("Interpolation cubique d'une solution sur une autre grille")
+    void testInterpolate() {
+        // Exacte pour un polynôme de degré 3, sur grille uniforme ou non
+        Solution uniform = Solution.ofUniformGrid(new double[]{0.0, 1.0, 4.0, 9.0, 16.0}, 0.25, 0, 0.0);
+        Solution explicit = new Solution(new double[]{0.0, 0.001, 0.125, 1.0}, new double[]{0.0, 0.1, 0.5, 1.0}, 0, 0.0);
+        Solution twoPoints = new Solution(new double[]{1.0, 3.0}, new double[]{0.0, 1.0}, 0, 0.0);
+        
+        assertEquals(2.25, uniform.interpolate(0.375), 1e-12);
+        assertEquals(16 * 0.9 * 0.9, uniform.interpolate(0.9), 1e-12);
+        assertEquals(16.0, uniform.interpolate(1.0), 1e-12);
+        assertEquals(0.0, uniform.interpolate(-0.5), 1e-12);
+        assertEquals(0.027, explicit.interpolate(0.3), 1e-12);
+        assertEquals(0.421875, explicit.interpolate(0.75), 1e-12);
+        assertEquals(0.125, explicit.interpolate(0.5), 1e-12);
+        assertEquals(2.0, twoPoints.interpolate(0.5), 1e-12);
+    }
+}